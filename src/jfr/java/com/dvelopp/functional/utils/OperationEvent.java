@@ -0,0 +1,114 @@
+package com.dvelopp.functional.utils;
+
+import jdk.jfr.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Flight recorder event of an operation of the library. This class is compiled separately from the rest of the library,
+ * against the {@code jdk.jfr} API, and {@link OperationEvents} loads its {@link Recorder} reflectively, only when the
+ * flight recorder events are enabled.
+ *
+ * @since 1.3
+ */
+@Name("com.dvelopp.functional.utils.Operation")
+@Label("Operation")
+@Category("Functional Utils")
+@Description("Operation of CollectionUtils or CheckUtils")
+final class OperationEvent extends Event {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Input Size")
+    int inputSize;
+
+    @Label("Output Size")
+    int outputSize;
+
+    @Label("Parallel")
+    boolean parallel;
+
+    @Label("Branch")
+    String branch;
+
+    @Label("Failure")
+    Class<?> failure;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    private transient long allocatedBefore;
+
+    static Object begin(String operation, int inputSize, boolean parallel) {
+        OperationEvent event = new OperationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.operation = operation;
+        event.inputSize = inputSize;
+        event.parallel = parallel;
+        event.allocatedBefore = allocatedBytes();
+        event.begin();
+        return event;
+    }
+
+    static void end(Object token, int outputSize, String branch, Throwable failure) {
+        OperationEvent event = (OperationEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            long allocatedAfter = allocatedBytes();
+            event.outputSize = outputSize;
+            event.branch = branch;
+            event.failure = failure == null ? null : failure.getClass();
+            event.allocatedBytes = event.allocatedBefore < 0 || allocatedAfter < 0
+                    ? -1
+                    : allocatedAfter - event.allocatedBefore;
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if the JVM doesn't measure it.
+     */
+    private static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        try {
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean hotSpotThreads = (com.sun.management.ThreadMXBean) threads;
+                if (hotSpotThreads.isThreadAllocatedMemorySupported()
+                        && hotSpotThreads.isThreadAllocatedMemoryEnabled()) {
+                    return hotSpotThreads;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * Recorder loaded by {@link OperationEvents}.
+     */
+    static final class Recorder implements OperationRecorder {
+
+        @Override
+        public Object begin(String operation, int inputSize, boolean parallel) {
+            return OperationEvent.begin(operation, inputSize, parallel);
+        }
+
+        @Override
+        public void end(Object event, int outputSize, String branch, Throwable failure) {
+            OperationEvent.end(event, outputSize, branch, failure);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.dvelopp.functional.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Compares the bound function objects returned by {@link FunctionUtils#consumer(BiConsumer, Object)} and
+ * {@link FunctionUtils#function(BiFunction, Object)} with the capturing lambdas they replaced. Each benchmark passes
+ * three different actions through the same loop, so the loop call site is not monomorphic.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoundFunctionBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final Integer[] elements = new Integer[SIZE];
+    private final BiConsumer<Integer, Blackhole> consumeSum = (element, blackhole) -> blackhole.consume(element + 1);
+    private final BiConsumer<Integer, Blackhole> consumeProduct = (element, blackhole) -> blackhole.consume(element * 3);
+    private final BiConsumer<Integer, Blackhole> consumeShift = (element, blackhole) -> blackhole.consume(element << 2);
+    private final BiFunction<Integer, Integer, Integer> add = Integer::sum;
+    private final BiFunction<Integer, Integer, Integer> multiply = (element, arg) -> element * arg;
+    private final BiFunction<Integer, Integer, Integer> max = Math::max;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SIZE; i++) {
+            elements[i] = i;
+        }
+    }
+
+    @Benchmark
+    public void capturingLambdaConsumer(Blackhole blackhole) {
+        consumeAll(lambdaConsumer(consumeSum, blackhole));
+        consumeAll(lambdaConsumer(consumeProduct, blackhole));
+        consumeAll(lambdaConsumer(consumeShift, blackhole));
+    }
+
+    @Benchmark
+    public void boundConsumer(Blackhole blackhole) {
+        consumeAll(FunctionUtils.consumer(consumeSum, blackhole));
+        consumeAll(FunctionUtils.consumer(consumeProduct, blackhole));
+        consumeAll(FunctionUtils.consumer(consumeShift, blackhole));
+    }
+
+    @Benchmark
+    public long capturingLambdaFunction() {
+        return applyAll(lambdaFunction(add, 7)) + applyAll(lambdaFunction(multiply, 7))
+                + applyAll(lambdaFunction(max, 7));
+    }
+
+    @Benchmark
+    public long boundFunction() {
+        return applyAll(FunctionUtils.function(add, 7)) + applyAll(FunctionUtils.function(multiply, 7))
+                + applyAll(FunctionUtils.function(max, 7));
+    }
+
+    private void consumeAll(Consumer<Integer> consumer) {
+        for (Integer element : elements) {
+            consumer.accept(element);
+        }
+    }
+
+    private long applyAll(Function<Integer, Integer> function) {
+        long sum = 0;
+        for (Integer element : elements) {
+            sum += function.apply(element);
+        }
+        return sum;
+    }
+
+    /**
+     * The implementation of {@link FunctionUtils#consumer(BiConsumer, Object)} before the bound function objects.
+     */
+    private static <T, R> Consumer<T> lambdaConsumer(BiConsumer<T, R> action, R arg) {
+        return o -> requireNonNull(action).accept(o, arg);
+    }
+
+    /**
+     * The implementation of {@link FunctionUtils#function(BiFunction, Object)} before the bound function objects.
+     */
+    private static <T, R, S> Function<T, R> lambdaFunction(BiFunction<T, S, R> action, S arg) {
+        return o -> requireNonNull(action).apply(o, arg);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.dvelopp.functional.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the overhead of the {@link InvocationMetrics} decorators on a cheap function called from several threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class InvocationMetricsBenchmark {
+
+    private final Function<String, Integer> plain = String::length;
+    private final Function<String, Integer> counted = InvocationMetrics.counted("counted").function(plain);
+    private final Function<String, Integer> timed = InvocationMetrics.timed("timed").function(plain);
+    private final Function<String, Integer> sampled = InvocationMetrics.timed("sampled", 64).function(plain);
+
+    @Benchmark
+    public Integer plain() {
+        return plain.apply("value");
+    }
+
+    @Benchmark
+    public Integer counted() {
+        return counted.apply("value");
+    }
+
+    @Benchmark
+    public Integer timed() {
+        return timed.apply("value");
+    }
+
+    @Benchmark
+    public Integer sampled() {
+        return sampled.apply("value");
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.dvelopp.functional.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the {@link NumericKernels} loops with the equivalent primitive streams.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumericKernelsBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private int[] ints;
+    private double[] doubles;
+    private double[] otherDoubles;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ints = random.ints(size, 0, 1000).toArray();
+        doubles = random.doubles(size).toArray();
+        otherDoubles = random.doubles(size).toArray();
+    }
+
+    @Benchmark
+    public long intSumStream() {
+        return IntStream.of(ints).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long intSumKernel() {
+        return NumericKernels.sum(ints);
+    }
+
+    @Benchmark
+    public DoubleSummaryStatistics doubleStatisticsStream() {
+        return DoubleStream.of(doubles).summaryStatistics();
+    }
+
+    @Benchmark
+    public double doubleStatisticsKernels() {
+        return NumericKernels.sum(doubles) + NumericKernels.min(doubles).getAsDouble()
+                + NumericKernels.max(doubles).getAsDouble();
+    }
+
+    @Benchmark
+    public long intCountStream() {
+        return IntStream.of(ints).filter(i -> i >= 100 && i < 500).count();
+    }
+
+    @Benchmark
+    public int intCountKernel() {
+        return NumericKernels.count(ints, 100, 500);
+    }
+
+    @Benchmark
+    public double[] doubleMultiplyStream() {
+        return IntStream.range(0, size).mapToDouble(i -> doubles[i] * otherDoubles[i]).toArray();
+    }
+
+    @Benchmark
+    public double[] doubleMultiplyKernel() {
+        return NumericKernels.multiply(doubles, otherDoubles);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.dvelopp.functional.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Compares mapping of small lists with {@link Pipeline} and with a stream. The map-only benchmarks are the operation
+ * {@link CollectionUtils} switches to a pipeline for small collections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+    @Param({"1", "10", "32", "64", "128"})
+    private int size;
+
+    private List<Integer> elements;
+
+    @Setup
+    public void setUp() {
+        elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<String> stream() {
+        return elements.stream().filter(i -> i % 3 != 0).map(String::valueOf).collect(toList());
+    }
+
+    @Benchmark
+    public List<String> pipeline() {
+        return Pipeline.from(elements).filter(i -> i % 3 != 0).map(String::valueOf).toList();
+    }
+
+    @Benchmark
+    public List<String> streamMap() {
+        return elements.stream().map(String::valueOf).collect(toList());
+    }
+
+    @Benchmark
+    public List<String> pipelineMap() {
+        return Pipeline.from(elements).map(String::valueOf).toList();
+    }
+
+}
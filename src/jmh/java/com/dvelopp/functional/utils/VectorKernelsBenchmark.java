@@ -0,0 +1,72 @@
+package com.dvelopp.functional.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Vector API kernels with the scalar loops of {@link NumericKernels}. The vector trials need JDK 17 or
+ * newer with the {@code jdk.incubator.vector} module and the kernels compiled, which the {@code jmh} task sets up when
+ * the {@code java17Home} property is given.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VectorKernelsBenchmark {
+
+    @Param({"scalar", "vector"})
+    private String kernels;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ArrayKernels implementation;
+    private int[] ints;
+    private double[] doubles;
+    private double[] otherDoubles;
+    private double[] result;
+
+    @Setup
+    public void setUp() {
+        implementation = "vector".equals(kernels) ? NumericKernels.loadVectorKernels() : new ScalarKernels();
+        if (implementation == null) {
+            throw new IllegalStateException("The Vector API kernels are not available");
+        }
+        Random random = new Random(42);
+        ints = random.ints(size, 0, 1000).toArray();
+        doubles = random.doubles(size).toArray();
+        otherDoubles = random.doubles(size).toArray();
+        result = new double[size];
+    }
+
+    @Benchmark
+    public long intSum() {
+        return implementation.sum(ints);
+    }
+
+    @Benchmark
+    public int intCount() {
+        return implementation.count(ints, 100, 500);
+    }
+
+    @Benchmark
+    public double doubleSum() {
+        return implementation.sum(doubles);
+    }
+
+    @Benchmark
+    public double doubleMax() {
+        return implementation.max(doubles);
+    }
+
+    @Benchmark
+    public double[] doubleMultiply() {
+        implementation.multiply(doubles, otherDoubles, result);
+        return result;
+    }
+
+}
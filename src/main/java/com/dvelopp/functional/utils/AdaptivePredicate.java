@@ -0,0 +1,147 @@
+package com.dvelopp.functional.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Conjunction or disjunction of predicates that reorders them by their observed cost and selectivity. The predicates
+ * are evaluated in a flat loop that stops at the first decisive result: a rejection for
+ * {@link FunctionUtils#adaptiveAllOf(List) all of} and an acceptance for {@link FunctionUtils#adaptiveAnyOf(List) any
+ * of} the predicates. One in {@value #SAMPLE_EVERY} tests is sampled: the time and the result of each predicate it
+ * evaluates are recorded. Every {@value #REORDER_INTERVAL} samples the predicates are ordered by their mean time per
+ * decisive result, so that the cheap and selective predicates run first, and the statistics are halved, so that the
+ * order follows changes of the data. A predicate that hasn't been evaluated since is moved to the front to be measured
+ * again.
+ * <p>
+ * The result doesn't depend on the order only if the predicates have no side effects. The predicate is thread-safe if
+ * the predicates it combines are.
+ *
+ * @param <T> The argument type.
+ * @see FunctionUtils#adaptiveAllOf(List)
+ * @see FunctionUtils#adaptiveAnyOf(List)
+ * @since 1.3
+ */
+public final class AdaptivePredicate<T> implements Predicate<T> {
+
+    static final int SAMPLE_EVERY = 16;
+    static final int REORDER_INTERVAL = 64;
+
+    private final Predicate<? super T>[] predicates;
+    private final boolean decisiveResult;
+    private final AtomicLongArray evaluations;
+    private final AtomicLongArray decisions;
+    private final AtomicLongArray nanos;
+    private final AtomicInteger samples = new AtomicInteger();
+    private volatile int[] order;
+
+    @SuppressWarnings("unchecked")
+    AdaptivePredicate(List<? extends Predicate<? super T>> predicates, boolean decisiveResult) {
+        requireNonNull(predicates);
+        this.predicates = (Predicate<? super T>[]) predicates.toArray(new Predicate<?>[0]);
+        this.decisiveResult = decisiveResult;
+        this.evaluations = new AtomicLongArray(this.predicates.length);
+        this.decisions = new AtomicLongArray(this.predicates.length);
+        this.nanos = new AtomicLongArray(this.predicates.length);
+        int[] order = new int[this.predicates.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        this.order = order;
+    }
+
+    /**
+     * Evaluates the predicates in the current order until the result is decided.
+     *
+     * @param t The input argument.
+     * @return true if all the predicates, or any of them for a disjunction, match the argument.
+     */
+    @Override
+    public boolean test(T t) {
+        int[] order = this.order;
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_EVERY) == 0) {
+            return sampledTest(t, order);
+        }
+        for (int index : order) {
+            if (predicates[index].test(t) == decisiveResult) {
+                return decisiveResult;
+            }
+        }
+        return !decisiveResult;
+    }
+
+    /**
+     * Returns the current evaluation order.
+     *
+     * @return the indices of the predicates in the order they are evaluated.
+     */
+    public int[] getOrder() {
+        return order.clone();
+    }
+
+    /**
+     * Returns the number of the sampled tests.
+     *
+     * @return the number of the tests whose predicates have been timed.
+     */
+    public long getSampleCount() {
+        return samples.get();
+    }
+
+    private boolean sampledTest(T t, int[] order) {
+        boolean result = !decisiveResult;
+        for (int index : order) {
+            long start = System.nanoTime();
+            boolean matches = predicates[index].test(t);
+            nanos.addAndGet(index, System.nanoTime() - start);
+            evaluations.incrementAndGet(index);
+            if (matches == decisiveResult) {
+                decisions.incrementAndGet(index);
+                result = decisiveResult;
+                break;
+            }
+        }
+        if (samples.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    /**
+     * Orders the predicates by the mean time per decisive result, which for short-circuit evaluation of independent
+     * predicates minimizes the mean cost of a test, and then by the share of decisive results.
+     */
+    private synchronized void reorder() {
+        int count = predicates.length;
+        double[] costPerDecision = new double[count];
+        double[] decisionRate = new double[count];
+        for (int i = 0; i < count; i++) {
+            long evaluated = evaluations.get(i);
+            long decided = decisions.get(i);
+            costPerDecision[i] = evaluated == 0 ? 0 : decided == 0 ? Double.POSITIVE_INFINITY
+                    : (double) nanos.get(i) / decided;
+            decisionRate[i] = evaluated == 0 ? 1 : (double) decided / evaluated;
+        }
+        Integer[] indices = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, Comparator.<Integer>comparingDouble(i -> costPerDecision[i])
+                .thenComparing(Comparator.<Integer>comparingDouble(i -> decisionRate[i]).reversed()));
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = indices[i];
+            evaluations.getAndUpdate(i, value -> value >> 1);
+            decisions.getAndUpdate(i, value -> value >> 1);
+            nanos.getAndUpdate(i, value -> value >> 1);
+        }
+        this.order = order;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.dvelopp.functional.utils;
+
+/**
+ * Loops of {@link NumericKernels}. The arguments have been checked by {@link NumericKernels}: the arrays are not null,
+ * the arrays of the element-wise operations have the same length and the arrays of {@code min} and {@code max} are not
+ * empty.
+ *
+ * @since 1.3
+ */
+interface ArrayKernels {
+
+    long sum(int[] values);
+
+    int min(int[] values);
+
+    int max(int[] values);
+
+    int count(int[] values, int from, int to);
+
+    void add(int[] left, int[] right, int[] result);
+
+    void subtract(int[] left, int[] right, int[] result);
+
+    void multiply(int[] left, int[] right, int[] result);
+
+    void scale(int[] values, int factor, int[] result);
+
+    long sum(long[] values);
+
+    long min(long[] values);
+
+    long max(long[] values);
+
+    int count(long[] values, long from, long to);
+
+    void add(long[] left, long[] right, long[] result);
+
+    void subtract(long[] left, long[] right, long[] result);
+
+    void multiply(long[] left, long[] right, long[] result);
+
+    void scale(long[] values, long factor, long[] result);
+
+    double sum(double[] values);
+
+    double min(double[] values);
+
+    double max(double[] values);
+
+    int count(double[] values, double from, double to);
+
+    void add(double[] left, double[] right, double[] result);
+
+    void subtract(double[] left, double[] right, double[] result);
+
+    void multiply(double[] left, double[] right, double[] result);
+
+    void scale(double[] values, double factor, double[] result);
+
+}
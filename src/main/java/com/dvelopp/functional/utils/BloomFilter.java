@@ -0,0 +1,66 @@
+package com.dvelopp.functional.utils;
+
+import static java.lang.String.format;
+
+/**
+ * Bloom filter over the 64-bit hashes of objects. The bit array is sized from the expected number of insertions and
+ * the desired false positive probability, the bit positions are derived from the hash with double hashing.
+ * <p>
+ * Objects with equal hashes are indistinguishable for the filter: strings and boxed primitives are hashed from their
+ * values, other objects from their 32-bit hash codes (see {@link Hashing#hash64(Object)}). The filter is not
+ * thread-safe.
+ *
+ * @since 1.3
+ */
+final class BloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+
+    /**
+     * Seed that is mixed into the hashes, so that zero hashes don't map to the first bit only.
+     */
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException(format("Illegal number of expected insertions: %d",
+                    expectedInsertions));
+        }
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException(format("Illegal false positive probability: %s",
+                    falsePositiveProbability));
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN_2 * LN_2));
+        this.bits = new long[(int) Math.min((optimalBits + 63) >>> 6, Integer.MAX_VALUE - 8)];
+        this.bitCount = (long) bits.length << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) optimalBits / expectedInsertions * LN_2));
+    }
+
+    /**
+     * Adds the element to the filter.
+     *
+     * @param element The element to add, can be null.
+     * @return true if the element definitely hasn't been added before, false if it might have been added.
+     */
+    boolean add(Object element) {
+        long firstHash = Hashing.mix(Hashing.hash64(element) ^ SEED);
+        long secondHash = Hashing.mix(firstHash) | 1;
+        boolean added = false;
+        for (int i = 1; i <= hashFunctions; i++) {
+            long combinedHash = (firstHash + i * secondHash) & Long.MAX_VALUE;
+            long bitIndex = combinedHash % bitCount;
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+            if ((bits[wordIndex] & mask) == 0) {
+                bits[wordIndex] |= mask;
+                added = true;
+            }
+        }
+        return added;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.dvelopp.functional.utils;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Consumer that applies a {@link BiConsumer} with the bound trailing argument. The action is checked for null once on
+ * construction instead of on each invocation. Since the class is final and the argument is a plain field, the JIT can
+ * inline the consumer at a call site that sees only this class, instead of dispatching through a shared capturing
+ * lambda shape.
+ *
+ * @param <T> The first argument type.
+ * @param <A> The bound argument type.
+ * @see FunctionUtils#consumer(BiConsumer, Object)
+ * @see FunctionUtils#boundConsumer(BiConsumer, Object)
+ * @since 1.3
+ */
+public final class BoundBiConsumer<T, A> implements Consumer<T> {
+
+    private final BiConsumer<T, A> action;
+    private final A arg;
+
+    BoundBiConsumer(BiConsumer<T, A> action, A arg) {
+        this.action = requireNonNull(action);
+        this.arg = arg;
+    }
+
+    @Override
+    public void accept(T t) {
+        action.accept(t, arg);
+    }
+
+    /**
+     * Returns the action the arguments are bound to.
+     *
+     * @return the action.
+     */
+    public BiConsumer<T, A> getAction() {
+        return action;
+    }
+
+    /**
+     * Returns the bound second argument.
+     *
+     * @return the bound second argument.
+     */
+    public A getArg() {
+        return arg;
+    }
+
+}
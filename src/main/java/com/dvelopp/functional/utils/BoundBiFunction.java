@@ -0,0 +1,54 @@
+package com.dvelopp.functional.utils;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Function that applies a {@link BiFunction} with the bound trailing argument. The action is checked for null once on
+ * construction instead of on each invocation. Since the class is final and the argument is a plain field, the JIT can
+ * inline the function at a call site that sees only this class, instead of dispatching through a shared capturing
+ * lambda shape.
+ *
+ * @param <T> The first argument type.
+ * @param <A> The bound argument type.
+ * @param <R> The return type.
+ * @see FunctionUtils#function(BiFunction, Object)
+ * @see FunctionUtils#boundFunction(BiFunction, Object)
+ * @since 1.3
+ */
+public final class BoundBiFunction<T, A, R> implements Function<T, R> {
+
+    private final BiFunction<T, A, R> action;
+    private final A arg;
+
+    BoundBiFunction(BiFunction<T, A, R> action, A arg) {
+        this.action = requireNonNull(action);
+        this.arg = arg;
+    }
+
+    @Override
+    public R apply(T t) {
+        return action.apply(t, arg);
+    }
+
+    /**
+     * Returns the action the arguments are bound to.
+     *
+     * @return the action.
+     */
+    public BiFunction<T, A, R> getAction() {
+        return action;
+    }
+
+    /**
+     * Returns the bound second argument.
+     *
+     * @return the bound second argument.
+     */
+    public A getArg() {
+        return arg;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.interfaces.TriConsumer;
+
+import java.util.function.Consumer;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Consumer that applies a {@link TriConsumer} with the bound trailing arguments. The action is checked for null once
+ * on construction instead of on each invocation. Since the class is final and the arguments are plain fields, the JIT
+ * can inline the consumer at a call site that sees only this class, instead of dispatching through a shared capturing
+ * lambda shape.
+ *
+ * @param <T>  The first argument type.
+ * @param <A1> The first bound argument type.
+ * @param <A2> The second bound argument type.
+ * @see FunctionUtils#consumer(TriConsumer, Object, Object)
+ * @see FunctionUtils#boundConsumer(TriConsumer, Object, Object)
+ * @since 1.3
+ */
+public final class BoundTriConsumer<T, A1, A2> implements Consumer<T> {
+
+    private final TriConsumer<T, A1, A2> action;
+    private final A1 firstArg;
+    private final A2 secondArg;
+
+    BoundTriConsumer(TriConsumer<T, A1, A2> action, A1 firstArg, A2 secondArg) {
+        this.action = requireNonNull(action);
+        this.firstArg = firstArg;
+        this.secondArg = secondArg;
+    }
+
+    @Override
+    public void accept(T t) {
+        action.accept(t, firstArg, secondArg);
+    }
+
+    /**
+     * Returns the action the arguments are bound to.
+     *
+     * @return the action.
+     */
+    public TriConsumer<T, A1, A2> getAction() {
+        return action;
+    }
+
+    /**
+     * Returns the bound second argument.
+     *
+     * @return the bound second argument.
+     */
+    public A1 getFirstArg() {
+        return firstArg;
+    }
+
+    /**
+     * Returns the bound third argument.
+     *
+     * @return the bound third argument.
+     */
+    public A2 getSecondArg() {
+        return secondArg;
+    }
+
+}
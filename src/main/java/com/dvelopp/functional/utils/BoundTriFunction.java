@@ -0,0 +1,67 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.interfaces.TriFunction;
+
+import java.util.function.Function;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Function that applies a {@link TriFunction} with the bound trailing arguments. The action is checked for null once
+ * on construction instead of on each invocation. Since the class is final and the arguments are plain fields, the JIT
+ * can inline the function at a call site that sees only this class, instead of dispatching through a shared capturing
+ * lambda shape.
+ *
+ * @param <T>  The first argument type.
+ * @param <A1> The first bound argument type.
+ * @param <A2> The second bound argument type.
+ * @param <R>  The return type.
+ * @see FunctionUtils#function(TriFunction, Object, Object)
+ * @see FunctionUtils#boundFunction(TriFunction, Object, Object)
+ * @since 1.3
+ */
+public final class BoundTriFunction<T, A1, A2, R> implements Function<T, R> {
+
+    private final TriFunction<T, A1, A2, R> action;
+    private final A1 firstArg;
+    private final A2 secondArg;
+
+    BoundTriFunction(TriFunction<T, A1, A2, R> action, A1 firstArg, A2 secondArg) {
+        this.action = requireNonNull(action);
+        this.firstArg = firstArg;
+        this.secondArg = secondArg;
+    }
+
+    @Override
+    public R apply(T t) {
+        return action.apply(t, firstArg, secondArg);
+    }
+
+    /**
+     * Returns the action the arguments are bound to.
+     *
+     * @return the action.
+     */
+    public TriFunction<T, A1, A2, R> getAction() {
+        return action;
+    }
+
+    /**
+     * Returns the bound second argument.
+     *
+     * @return the bound second argument.
+     */
+    public A1 getFirstArg() {
+        return firstArg;
+    }
+
+    /**
+     * Returns the bound third argument.
+     *
+     * @return the bound third argument.
+     */
+    public A2 getSecondArg() {
+        return secondArg;
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.dvelopp.functional.utils;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Named function that extracts the value of a column from an element, used by
+ * {@link CollectionUtils#toColumns(java.util.Collection, ColumnExtractor[])}. The primitive columns are stored in
+ * primitive arrays without boxing.
+ *
+ * @param <T> The elements type.
+ * @since 1.3
+ */
+public abstract class ColumnExtractor<T> {
+
+    private final String name;
+
+    private ColumnExtractor(String name) {
+        this.name = requireNonNull(name);
+    }
+
+    /**
+     * Creates the extractor of an int column.
+     *
+     * @param name      The column name.
+     * @param extractor The function to extract the value from an element.
+     * @param <T>       The elements type.
+     * @return the new extractor.
+     */
+    public static <T> ColumnExtractor<T> ofInt(String name, ToIntFunction<? super T> extractor) {
+        requireNonNull(extractor);
+        return new ColumnExtractor<T>(name) {
+            @Override
+            Object newColumn(int size) {
+                return new int[size];
+            }
+
+            @Override
+            void extract(T element, Object column, int index) {
+                ((int[]) column)[index] = extractor.applyAsInt(element);
+            }
+        };
+    }
+
+    /**
+     * Creates the extractor of a long column.
+     *
+     * @param name      The column name.
+     * @param extractor The function to extract the value from an element.
+     * @param <T>       The elements type.
+     * @return the new extractor.
+     */
+    public static <T> ColumnExtractor<T> ofLong(String name, ToLongFunction<? super T> extractor) {
+        requireNonNull(extractor);
+        return new ColumnExtractor<T>(name) {
+            @Override
+            Object newColumn(int size) {
+                return new long[size];
+            }
+
+            @Override
+            void extract(T element, Object column, int index) {
+                ((long[]) column)[index] = extractor.applyAsLong(element);
+            }
+        };
+    }
+
+    /**
+     * Creates the extractor of a double column.
+     *
+     * @param name      The column name.
+     * @param extractor The function to extract the value from an element.
+     * @param <T>       The elements type.
+     * @return the new extractor.
+     */
+    public static <T> ColumnExtractor<T> ofDouble(String name, ToDoubleFunction<? super T> extractor) {
+        requireNonNull(extractor);
+        return new ColumnExtractor<T>(name) {
+            @Override
+            Object newColumn(int size) {
+                return new double[size];
+            }
+
+            @Override
+            void extract(T element, Object column, int index) {
+                ((double[]) column)[index] = extractor.applyAsDouble(element);
+            }
+        };
+    }
+
+    /**
+     * Creates the extractor of an object column, e.g. of the keys to group by.
+     *
+     * @param name      The column name.
+     * @param extractor The function to extract the value from an element.
+     * @param <T>       The elements type.
+     * @return the new extractor.
+     */
+    public static <T> ColumnExtractor<T> of(String name, Function<? super T, ?> extractor) {
+        requireNonNull(extractor);
+        return new ColumnExtractor<T>(name) {
+            @Override
+            Object newColumn(int size) {
+                return new Object[size];
+            }
+
+            @Override
+            void extract(T element, Object column, int index) {
+                ((Object[]) column)[index] = extractor.apply(element);
+            }
+        };
+    }
+
+    /**
+     * @return the column name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    abstract Object newColumn(int size);
+
+    abstract void extract(T element, Object column, int index);
+
+}
@@ -0,0 +1,374 @@
+package com.dvelopp.functional.utils;
+
+import java.util.*;
+import java.util.function.*;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+import static java.lang.String.format;
+
+/**
+ * Struct of arrays projection of a collection: each column holds the values extracted from all the elements in one
+ * array, primitive for the int, long and double columns. The statistics, filtering and grouping operations of this
+ * class read the column arrays sequentially, so repeated analytic passes over the same data touch contiguous memory
+ * instead of the scattered elements.
+ * <p>
+ * The getters of the columns return the arrays themselves, without copying, and they must not be modified.
+ *
+ * @see CollectionUtils#toColumns(Collection, ColumnExtractor[])
+ * @since 1.3
+ */
+public final class Columns {
+
+    private final Map<String, Object> columns;
+    private final int size;
+
+    private Columns(Map<String, Object> columns, int size) {
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /**
+     * Extracts all the columns in one pass over the collection.
+     */
+    static <T> Columns of(Collection<T> collection, List<ColumnExtractor<? super T>> extractors) {
+        int size = collection.size();
+        int count = extractors.size();
+        Map<String, Object> columns = new LinkedHashMap<>();
+        @SuppressWarnings("unchecked")
+        ColumnExtractor<? super T>[] extractorArray = (ColumnExtractor<? super T>[]) extractors.toArray(
+                new ColumnExtractor<?>[0]);
+        Object[] columnArray = new Object[count];
+        for (int i = 0; i < count; i++) {
+            columnArray[i] = extractorArray[i].newColumn(size);
+            if (columns.put(extractorArray[i].getName(), columnArray[i]) != null) {
+                throw new IllegalArgumentException(format("Illegal column: %s", extractorArray[i].getName()));
+            }
+        }
+        int index = 0;
+        for (T element : collection) {
+            for (int i = 0; i < count; i++) {
+                extractorArray[i].extract(element, columnArray[i], index);
+            }
+            index++;
+        }
+        return new Columns(columns, size);
+    }
+
+    /**
+     * @return the number of the rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the names of the columns in the order of their extractors.
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(columns.keySet());
+    }
+
+    /**
+     * Returns the values of an int column.
+     *
+     * @param name The column name.
+     * @return the column array.
+     * @throws IllegalArgumentException if there is no int column with the name.
+     */
+    public int[] getInts(String name) {
+        return column(name, int[].class);
+    }
+
+    /**
+     * Returns the values of a long column.
+     *
+     * @param name The column name.
+     * @return the column array.
+     * @throws IllegalArgumentException if there is no long column with the name.
+     */
+    public long[] getLongs(String name) {
+        return column(name, long[].class);
+    }
+
+    /**
+     * Returns the values of a double column.
+     *
+     * @param name The column name.
+     * @return the column array.
+     * @throws IllegalArgumentException if there is no double column with the name.
+     */
+    public double[] getDoubles(String name) {
+        return column(name, double[].class);
+    }
+
+    /**
+     * Returns the values of an object column.
+     *
+     * @param name The column name.
+     * @return the column array.
+     * @throws IllegalArgumentException if there is no object column with the name.
+     */
+    public Object[] getObjects(String name) {
+        return column(name, Object[].class);
+    }
+
+    /**
+     * Returns the statistics of an int column.
+     *
+     * @param name The column name.
+     * @return the statistics of all the values of the column.
+     * @throws IllegalArgumentException if there is no int column with the name.
+     */
+    public IntSummaryStatistics intStatistics(String name) {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        for (int value : getInts(name)) {
+            statistics.accept(value);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of the selected values of an int column.
+     *
+     * @param name      The column name.
+     * @param selection The selected rows.
+     * @return the statistics of the selected values of the column.
+     * @throws IllegalArgumentException if there is no int column with the name or the selection size differs.
+     */
+    public IntSummaryStatistics intStatistics(String name, Selection selection) {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        int[] column = getInts(name);
+        checkSize(selection).forEachIndex(index -> statistics.accept(column[index]));
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of a long column.
+     *
+     * @param name The column name.
+     * @return the statistics of all the values of the column.
+     * @throws IllegalArgumentException if there is no long column with the name.
+     */
+    public LongSummaryStatistics longStatistics(String name) {
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        for (long value : getLongs(name)) {
+            statistics.accept(value);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of the selected values of a long column.
+     *
+     * @param name      The column name.
+     * @param selection The selected rows.
+     * @return the statistics of the selected values of the column.
+     * @throws IllegalArgumentException if there is no long column with the name or the selection size differs.
+     */
+    public LongSummaryStatistics longStatistics(String name, Selection selection) {
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        long[] column = getLongs(name);
+        checkSize(selection).forEachIndex(index -> statistics.accept(column[index]));
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of a double column.
+     *
+     * @param name The column name.
+     * @return the statistics of all the values of the column.
+     * @throws IllegalArgumentException if there is no double column with the name.
+     */
+    public DoubleSummaryStatistics doubleStatistics(String name) {
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        for (double value : getDoubles(name)) {
+            statistics.accept(value);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of the selected values of a double column.
+     *
+     * @param name      The column name.
+     * @param selection The selected rows.
+     * @return the statistics of the selected values of the column.
+     * @throws IllegalArgumentException if there is no double column with the name or the selection size differs.
+     */
+    public DoubleSummaryStatistics doubleStatistics(String name, Selection selection) {
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        double[] column = getDoubles(name);
+        checkSize(selection).forEachIndex(index -> statistics.accept(column[index]));
+        return statistics;
+    }
+
+    /**
+     * Selects the rows whose values of an int column match the predicate.
+     *
+     * @param name      The column name.
+     * @param predicate The predicate to apply to each value.
+     * @return the selection of the matching rows.
+     * @throws IllegalArgumentException if there is no int column with the name.
+     */
+    public Selection filterInts(String name, IntPredicate predicate) {
+        return Selection.ofInts(getInts(name), predicate);
+    }
+
+    /**
+     * Selects the rows whose values of a long column match the predicate.
+     *
+     * @param name      The column name.
+     * @param predicate The predicate to apply to each value.
+     * @return the selection of the matching rows.
+     * @throws IllegalArgumentException if there is no long column with the name.
+     */
+    public Selection filterLongs(String name, LongPredicate predicate) {
+        return Selection.ofLongs(getLongs(name), predicate);
+    }
+
+    /**
+     * Selects the rows whose values of a double column match the predicate.
+     *
+     * @param name      The column name.
+     * @param predicate The predicate to apply to each value.
+     * @return the selection of the matching rows.
+     * @throws IllegalArgumentException if there is no double column with the name.
+     */
+    public Selection filterDoubles(String name, DoublePredicate predicate) {
+        return Selection.ofDoubles(getDoubles(name), predicate);
+    }
+
+    /**
+     * Selects the rows whose values of an object column match the predicate.
+     *
+     * @param name      The column name.
+     * @param predicate The predicate to apply to each value.
+     * @param <V>       The values type.
+     * @return the selection of the matching rows.
+     * @throws IllegalArgumentException if there is no object column with the name.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Selection filter(String name, Predicate<? super V> predicate) {
+        return Selection.of((List<V>) Arrays.asList(getObjects(name)), predicate);
+    }
+
+    /**
+     * Returns the projection of the selected rows.
+     *
+     * @param selection The selected rows.
+     * @return the new columns with the selected values of each column.
+     * @throws IllegalArgumentException if the selection size differs.
+     */
+    public Columns select(Selection selection) {
+        checkSize(selection);
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> column : columns.entrySet()) {
+            Object values = column.getValue();
+            if (values instanceof int[]) {
+                selected.put(column.getKey(), selection.select((int[]) values));
+            } else if (values instanceof long[]) {
+                selected.put(column.getKey(), selection.select((long[]) values));
+            } else if (values instanceof double[]) {
+                selected.put(column.getKey(), selection.select((double[]) values));
+            } else {
+                selected.put(column.getKey(), selection.select(Arrays.asList((Object[]) values)).toArray());
+            }
+        }
+        return new Columns(selected, selection.cardinality());
+    }
+
+    /**
+     * Groups the rows by the values of an object column.
+     *
+     * @param name The column name of the keys.
+     * @param <K>  The keys type.
+     * @return the new map of the selections of the rows per key.
+     * @throws IllegalArgumentException if there is no object column with the name.
+     */
+    @SuppressWarnings("unchecked")
+    public <K> Map<K, Selection> groupBy(String name) {
+        Object[] keys = getObjects(name);
+        Map<K, long[]> groups = new HashMap<>();
+        int wordCount = Selection.wordCount(size);
+        for (int i = 0; i < keys.length; i++) {
+            groups.computeIfAbsent((K) keys[i], key -> new long[wordCount])[i >>> 6] |= 1L << i;
+        }
+        Map<K, Selection> result = new HashMap<>(Math.max(16, (int) (groups.size() / .75f) + 1));
+        groups.forEach((key, words) -> result.put(key, Selection.of(words, size)));
+        return result;
+    }
+
+    /**
+     * Returns the statistics of an int column per value of an object column, in one pass over both columns.
+     *
+     * @param keyName   The column name of the keys.
+     * @param valueName The column name of the values.
+     * @param <K>       The keys type.
+     * @return the new map of the statistics per key.
+     * @throws IllegalArgumentException if there is no object column or no int column with the names.
+     */
+    public <K> Map<K, IntSummaryStatistics> intStatisticsBy(String keyName, String valueName) {
+        int[] values = getInts(valueName);
+        return statisticsBy(keyName, IntSummaryStatistics::new, (statistics, i) -> statistics.accept(values[i]));
+    }
+
+    /**
+     * Returns the statistics of a long column per value of an object column, in one pass over both columns.
+     *
+     * @param keyName   The column name of the keys.
+     * @param valueName The column name of the values.
+     * @param <K>       The keys type.
+     * @return the new map of the statistics per key.
+     * @throws IllegalArgumentException if there is no object column or no long column with the names.
+     */
+    public <K> Map<K, LongSummaryStatistics> longStatisticsBy(String keyName, String valueName) {
+        long[] values = getLongs(valueName);
+        return statisticsBy(keyName, LongSummaryStatistics::new, (statistics, i) -> statistics.accept(values[i]));
+    }
+
+    /**
+     * Returns the statistics of a double column per value of an object column, in one pass over both columns.
+     *
+     * @param keyName   The column name of the keys.
+     * @param valueName The column name of the values.
+     * @param <K>       The keys type.
+     * @return the new map of the statistics per key.
+     * @throws IllegalArgumentException if there is no object column or no double column with the names.
+     */
+    public <K> Map<K, DoubleSummaryStatistics> doubleStatisticsBy(String keyName, String valueName) {
+        double[] values = getDoubles(valueName);
+        return statisticsBy(keyName, DoubleSummaryStatistics::new, (statistics, i) -> statistics.accept(values[i]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, S> Map<K, S> statisticsBy(String keyName, Supplier<S> statisticsFactory,
+                                          ObjIntConsumer<S> accumulator) {
+        Object[] keys = getObjects(keyName);
+        Map<K, S> result = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            accumulator.accept(result.computeIfAbsent((K) keys[i], key -> statisticsFactory.get()), i);
+        }
+        return result;
+    }
+
+    private <A> A column(String name, Class<A> type) {
+        Object column = columns.get(requireNonNull(name));
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException(format("Illegal column: %s", name));
+        }
+        return type.cast(column);
+    }
+
+    private Selection checkSize(Selection selection) {
+        if (requireNonNull(selection).size() != size) {
+            throw new IllegalArgumentException(format("Illegal size: %d, expected: %d", selection.size(), size));
+        }
+        return selection;
+    }
+
+    @Override
+    public String toString() {
+        return "Columns{size=" + size + ", names=" + columns.keySet() + '}';
+    }
+
+}
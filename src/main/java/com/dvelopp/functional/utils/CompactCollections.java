@@ -0,0 +1,337 @@
+package com.dvelopp.functional.utils;
+
+import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Immutable collections sized exactly for their content. Lists are backed by an array of their size, sets and maps by
+ * open addressing tables without a node per element. Collections of zero and one element are represented by the
+ * dedicated instances from {@link Collections}.
+ *
+ * @since 1.3
+ */
+final class CompactCollections {
+
+    /**
+     * Replaces {@code null} elements and keys in the tables, since {@code null} marks a free slot.
+     */
+    private static final Object NULL = new Object();
+
+    private CompactCollections() {
+        throw new UnsupportedOperationException();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> List<R> mapToList(Collection<T> collection, Function<? super T, ? extends R> mapper) {
+        Object[] elements = new Object[collection.size()];
+        int size = 0;
+        for (T element : collection) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size + 1);
+            }
+            elements[size++] = mapper.apply(element);
+        }
+        switch (size) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                return Collections.singletonList((R) elements[0]);
+            default:
+                return new ListN<>(size == elements.length ? elements : Arrays.copyOf(elements, size));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> Set<R> mapToSet(Collection<T> collection, Function<? super T, ? extends R> mapper) {
+        Object[] table = new Object[Hashing.tableCapacity(collection.size())];
+        int size = 0;
+        for (T element : collection) {
+            Object mapped = mask(mapper.apply(element));
+            int slot = slot(table, 1, mapped);
+            if (table[slot] == null) {
+                if (size == table.length >>> 1) {
+                    table = rehash(table, 1, table.length << 1);
+                    slot = slot(table, 1, mapped);
+                }
+                table[slot] = mapped;
+                size++;
+            }
+        }
+        switch (size) {
+            case 0:
+                return Collections.emptySet();
+            case 1:
+                return Collections.singleton((R) unmask(firstOccupied(table, 1)));
+            default:
+                return new SetN<>(trim(table, 1, size), size);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, K, U> Map<K, U> mapToMap(Collection<T> collection, Function<? super T, ? extends K> keyMapper,
+                                        Function<? super T, ? extends U> valueMapper,
+                                        BinaryOperator<U> mergeFunction) {
+        Object[] table = new Object[2 * Hashing.tableCapacity(collection.size())];
+        int size = 0;
+        for (T element : collection) {
+            Object key = mask(keyMapper.apply(element));
+            U value = Objects.requireNonNull(valueMapper.apply(element), "element cannot be mapped to a null value");
+            int slot = slot(table, 2, key);
+            if (table[slot] == null) {
+                if (size == table.length >>> 2) {
+                    table = rehash(table, 2, table.length << 1);
+                    slot = slot(table, 2, key);
+                }
+                table[slot] = key;
+                table[slot + 1] = value;
+                size++;
+            } else if (mergeFunction == null) {
+                throw new IllegalStateException(format("Duplicate key %s", unmask(key)));
+            } else {
+                U merged = mergeFunction.apply((U) table[slot + 1], value);
+                if (merged == null) {
+                    remove(table, 2, slot);
+                    size--;
+                } else {
+                    table[slot + 1] = merged;
+                }
+            }
+        }
+        switch (size) {
+            case 0:
+                return Collections.emptyMap();
+            case 1:
+                int slot = indexOfFirstOccupied(table, 2);
+                return Collections.singletonMap((K) unmask(table[slot]), (U) table[slot + 1]);
+            default:
+                return new MapN<>(trim(table, 2, size), size);
+        }
+    }
+
+    private static Object mask(Object element) {
+        return element == null ? NULL : element;
+    }
+
+    private static Object unmask(Object element) {
+        return element == NULL ? null : element;
+    }
+
+    /**
+     * Returns the index of the slot that holds the key or of the free slot where the key has to be placed. Each slot
+     * takes {@code width} array cells and the key is stored in the first one.
+     */
+    private static int slot(Object[] table, int width, Object key) {
+        int slots = table.length / width;
+        int index = Hashing.spread(key.hashCode()) & (slots - 1);
+        Object current;
+        while ((current = table[index * width]) != null && !current.equals(key)) {
+            index = (index + 1) & (slots - 1);
+        }
+        return index * width;
+    }
+
+    /**
+     * Removes the slot and shifts back the following slots of its cluster that can't be found anymore otherwise, so
+     * that no tombstone is needed.
+     */
+    private static void remove(Object[] table, int width, int slot) {
+        int mask = table.length / width - 1;
+        int hole = slot / width;
+        for (int index = (hole + 1) & mask; table[index * width] != null; index = (index + 1) & mask) {
+            int home = Hashing.spread(table[index * width].hashCode()) & mask;
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                System.arraycopy(table, index * width, table, hole * width, width);
+                hole = index;
+            }
+        }
+        Arrays.fill(table, hole * width, (hole + 1) * width, null);
+    }
+
+    private static Object[] rehash(Object[] table, int width, int length) {
+        Object[] newTable = new Object[length];
+        for (int i = 0; i < table.length; i += width) {
+            if (table[i] != null) {
+                int slot = slot(newTable, width, table[i]);
+                System.arraycopy(table, i, newTable, slot, width);
+            }
+        }
+        return newTable;
+    }
+
+    /**
+     * Shrinks the table if it is larger than needed for the final number of entries, e.g. when there were many
+     * duplicates.
+     */
+    private static Object[] trim(Object[] table, int width, int size) {
+        int length = width * Hashing.tableCapacity(size);
+        return length < table.length ? rehash(table, width, length) : table;
+    }
+
+    private static Object firstOccupied(Object[] table, int width) {
+        return table[indexOfFirstOccupied(table, width)];
+    }
+
+    private static int indexOfFirstOccupied(Object[] table, int width) {
+        int index = 0;
+        while (table[index] == null) {
+            index += width;
+        }
+        return index;
+    }
+
+    /**
+     * Immutable list backed by an array of exactly its size.
+     */
+    private static final class ListN<E> extends AbstractList<E> implements RandomAccess {
+
+        private final Object[] elements;
+
+        private ListN(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return elements.clone();
+        }
+    }
+
+    /**
+     * Iterator over the keys of an open addressing table.
+     */
+    private abstract static class TableIterator<E> implements Iterator<E> {
+
+        final Object[] table;
+        private final int width;
+        int index;
+        private int remaining;
+
+        TableIterator(Object[] table, int width, int size) {
+            this.table = table;
+            this.width = width;
+            this.remaining = size;
+            this.index = -width;
+        }
+
+        abstract E current();
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            do {
+                index += width;
+            } while (table[index] == null);
+            remaining--;
+            return current();
+        }
+    }
+
+    /**
+     * Immutable set backed by an open addressing table.
+     */
+    private static final class SetN<E> extends AbstractSet<E> {
+
+        private final Object[] table;
+        private final int size;
+
+        private SetN(Object[] table, int size) {
+            this.table = table;
+            this.size = size;
+        }
+
+        @Override
+        public boolean contains(Object element) {
+            return table[slot(table, 1, mask(element))] != null;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new TableIterator<E>(table, 1, size) {
+                @Override
+                @SuppressWarnings("unchecked")
+                E current() {
+                    return (E) unmask(table[index]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Immutable map backed by an open addressing table with keys and values stored next to each other.
+     */
+    private static final class MapN<K, V> extends AbstractMap<K, V> {
+
+        private final Object[] table;
+        private final int size;
+
+        private MapN(Object[] table, int size) {
+            this.table = table;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            int slot = slot(table, 2, mask(key));
+            return table[slot] == null ? null : (V) table[slot + 1];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return table[slot(table, 2, mask(key))] != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<Entry<K, V>>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new TableIterator<Entry<K, V>>(table, 2, size) {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        Entry<K, V> current() {
+                            return new SimpleImmutableEntry<>((K) unmask(table[index]), (V) table[index + 1]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.dvelopp.functional.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import static java.lang.String.format;
+
+/**
+ * Runs a blocking task per element of a collection with a limited number of tasks in flight. The tasks run on virtual
+ * threads when the JDK provides them, so a task blocked on I/O doesn't occupy a platform thread, and on a shared
+ * cached pool of daemon platform threads on older JDKs. The calling thread submits the tasks and waits for them; the
+ * first failure cancels the tasks that are still running or waiting and is rethrown to the caller.
+ *
+ * @since 1.3
+ */
+final class ConcurrentMapping {
+
+    static final boolean VIRTUAL_THREADS;
+    private static final ExecutorService EXECUTOR;
+
+    static {
+        ExecutorService executor;
+        try {
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | SecurityException e) {
+            executor = null;
+        }
+        VIRTUAL_THREADS = executor != null;
+        EXECUTOR = VIRTUAL_THREADS ? executor : Executors.newCachedThreadPool(new DaemonThreadFactory());
+    }
+
+    private ConcurrentMapping() {
+        throw new UnsupportedOperationException();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> List<R> mapToList(Collection<T> collection, Function<? super T, ? extends R> mapper,
+                                    int maxConcurrency) {
+        Object[] elements = collection.toArray();
+        Object[] results = new Object[elements.length];
+        run(elements.length, maxConcurrency, index -> results[index] = mapper.apply((T) elements[index]));
+        return new ArrayList<>((List<R>) Arrays.asList(results));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> void forEach(Collection<T> collection, Consumer<? super T> action, int maxConcurrency) {
+        Object[] elements = collection.toArray();
+        run(elements.length, maxConcurrency, index -> action.accept((T) elements[index]));
+    }
+
+    /**
+     * Runs the task for each index from zero to the count. The results written by the tasks are visible to the
+     * caller after the return, since it waits for the future of each task.
+     */
+    private static void run(int count, int maxConcurrency, IntConsumer task) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(format("Illegal max concurrency: %d", maxConcurrency));
+        }
+        CompletionService<Void> completions = new ExecutorCompletionService<>(EXECUTOR);
+        List<Future<Void>> futures = new ArrayList<>(Math.min(count, maxConcurrency));
+        try {
+            int inFlight = 0;
+            for (int i = 0; i < count; i++) {
+                if (inFlight == maxConcurrency) {
+                    awaitNext(completions);
+                    inFlight--;
+                }
+                int index = i;
+                futures.add(completions.submit(() -> task.accept(index), null));
+                inFlight++;
+            }
+            for (; inFlight > 0; inFlight--) {
+                awaitNext(completions);
+            }
+        } catch (InterruptedException e) {
+            cancel(futures);
+            throw Futures.interrupted(e);
+        } catch (RuntimeException | Error e) {
+            cancel(futures);
+            throw e;
+        }
+    }
+
+    private static void awaitNext(CompletionService<Void> completions) throws InterruptedException {
+        try {
+            completions.take().get();
+        } catch (ExecutionException e) {
+            throw Futures.unwrap(e);
+        }
+    }
+
+    private static void cancel(List<Future<Void>> futures) {
+        for (Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "functional-utils-concurrent-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.dvelopp.functional.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+import static java.lang.String.format;
+
+/**
+ * Function that bounds the time of the calls of another function: a call that doesn't return within the timeout is
+ * interrupted and the result of the fallback function for the same argument is returned instead.
+ *
+ * @param <T> The argument type.
+ * @param <R> The result type.
+ * @see FunctionUtils#withDeadline(Function, long, TimeUnit, Function, Executor)
+ * @since 1.3
+ */
+public final class DeadlineFunction<T, R> implements Function<T, R> {
+
+    private static final String COMPLETED = "completed";
+    private static final String DEADLINE = "deadline";
+
+    private final Function<? super T, ? extends R> function;
+    private final long timeoutNanos;
+    private final Function<? super T, ? extends R> fallback;
+    private final Executor executor;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder deadlines = new LongAdder();
+
+    DeadlineFunction(Function<? super T, ? extends R> function, long timeout, TimeUnit unit,
+                     Function<? super T, ? extends R> fallback, Executor executor) {
+        requireNonNull(function, unit, fallback, executor);
+        if (timeout < 0) {
+            throw new IllegalArgumentException(format("Illegal timeout: %d", timeout));
+        }
+        this.function = function;
+        this.timeoutNanos = unit.toNanos(timeout);
+        this.fallback = fallback;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the result of the function, or the result of the fallback if the function doesn't return in time.
+     *
+     * @param t The function argument.
+     * @return the result of the function or of the fallback.
+     * @throws java.util.concurrent.CancellationException if the calling thread is interrupted while waiting.
+     */
+    @Override
+    public R apply(T t) {
+        invocations.increment();
+        Object event = OperationEvents.begin("withDeadline", -1, false);
+        try {
+            R result = Futures.callWithin(executor, () -> function.apply(t), timeoutNanos);
+            return OperationEvents.end(event, result, COMPLETED);
+        } catch (TimeoutException e) {
+            deadlines.increment();
+            return OperationEvents.end(event, fallback.apply(t), DEADLINE);
+        } catch (RuntimeException | Error e) {
+            OperationEvents.fail(event, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of the calls of this function.
+     *
+     * @return the number of the calls.
+     */
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    /**
+     * Returns the number of the calls that haven't returned in time and have been answered by the fallback.
+     *
+     * @return the number of the deadlines hit.
+     */
+    public long getDeadlineCount() {
+        return deadlines.sum();
+    }
+
+}
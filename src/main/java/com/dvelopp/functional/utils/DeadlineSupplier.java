@@ -0,0 +1,83 @@
+package com.dvelopp.functional.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+import static java.lang.String.format;
+
+/**
+ * Supplier that bounds the time of the calls of another supplier: a call that doesn't return within the timeout is
+ * interrupted and the result of the fallback supplier is returned instead.
+ *
+ * @param <T> The result type.
+ * @see FunctionUtils#withDeadline(Supplier, long, TimeUnit, Supplier, Executor)
+ * @since 1.3
+ */
+public final class DeadlineSupplier<T> implements Supplier<T> {
+
+    private static final String COMPLETED = "completed";
+    private static final String DEADLINE = "deadline";
+
+    private final Supplier<? extends T> supplier;
+    private final long timeoutNanos;
+    private final Supplier<? extends T> fallback;
+    private final Executor executor;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder deadlines = new LongAdder();
+
+    DeadlineSupplier(Supplier<? extends T> supplier, long timeout, TimeUnit unit, Supplier<? extends T> fallback,
+                     Executor executor) {
+        requireNonNull(supplier, unit, fallback, executor);
+        if (timeout < 0) {
+            throw new IllegalArgumentException(format("Illegal timeout: %d", timeout));
+        }
+        this.supplier = supplier;
+        this.timeoutNanos = unit.toNanos(timeout);
+        this.fallback = fallback;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the result of the supplier, or the result of the fallback if the supplier doesn't return in time.
+     *
+     * @return the result of the supplier or of the fallback.
+     * @throws java.util.concurrent.CancellationException if the calling thread is interrupted while waiting.
+     */
+    @Override
+    public T get() {
+        invocations.increment();
+        Object event = OperationEvents.begin("withDeadline", -1, false);
+        try {
+            return OperationEvents.end(event, Futures.callWithin(executor, supplier, timeoutNanos), COMPLETED);
+        } catch (TimeoutException e) {
+            deadlines.increment();
+            return OperationEvents.end(event, fallback.get(), DEADLINE);
+        } catch (RuntimeException | Error e) {
+            OperationEvents.fail(event, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of the calls of this supplier.
+     *
+     * @return the number of the calls.
+     */
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    /**
+     * Returns the number of the calls that haven't returned in time and have been answered by the fallback.
+     *
+     * @return the number of the deadlines hit.
+     */
+    public long getDeadlineCount() {
+        return deadlines.sum();
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.dvelopp.functional.utils;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collector;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+import static java.lang.String.format;
+
+/**
+ * A state object for estimating the number of distinct values with the HyperLogLog algorithm. The memory used is
+ * fixed by the precision and doesn't depend on the number of values: {@code 2^precision} one byte registers. The
+ * standard error of the estimation is about {@code 1.04 / sqrt(2^precision)}, i.e. 0.8% for the default precision.
+ * <p>
+ * Like {@link java.util.IntSummaryStatistics} this class is not thread safe, but the statistics with the same
+ * precision can be combined, so that each thread or partition collects its own statistics and they are merged
+ * afterwards. This is how {@link #summarizingDistinct(Function)} works with parallel streams.
+ * <p>
+ * Objects are distinguished by their hash codes, primitive values are hashed directly, so objects and primitive values
+ * shouldn't be mixed in the same statistics.
+ *
+ * @since 1.3
+ */
+public class DistinctCountStatistics implements Consumer<Object>, LongConsumer {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+    public static final int DEFAULT_PRECISION = 14;
+
+    /**
+     * Seed that is mixed into the hash codes, so that zero hash codes are not mapped to the empty hash.
+     */
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+
+    private final int precision;
+    private final byte[] registers;
+    private long count;
+
+    /**
+     * Constructs an empty instance with the default precision.
+     */
+    public DistinctCountStatistics() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructs an empty instance with the given precision.
+     *
+     * @param precision The number of hash bits used to select a register.
+     * @throws IllegalArgumentException if the precision is not between {@link #MIN_PRECISION} and
+     *                                  {@link #MAX_PRECISION}.
+     */
+    public DistinctCountStatistics(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(format("Illegal precision: %d", precision));
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Returns a {@code Collector} which estimates the number of distinct values produced by the mapper with the
+     * default precision. The collector can be used as a downstream of grouping collectors.
+     *
+     * @param mapper The function to apply to each element.
+     * @param <T>    The type of the input elements.
+     * @return the collector implementing the estimation.
+     */
+    public static <T> Collector<T, ?, DistinctCountStatistics> summarizingDistinct(Function<? super T, ?> mapper) {
+        return summarizingDistinct(mapper, DEFAULT_PRECISION);
+    }
+
+    /**
+     * Returns a {@code Collector} which estimates the number of distinct values produced by the mapper with the
+     * given precision.
+     *
+     * @param mapper    The function to apply to each element.
+     * @param precision The number of hash bits used to select a register.
+     * @param <T>       The type of the input elements.
+     * @return the collector implementing the estimation.
+     */
+    public static <T> Collector<T, ?, DistinctCountStatistics> summarizingDistinct(Function<? super T, ?> mapper,
+                                                                                  int precision) {
+        requireNonNull(mapper);
+        return Collector.of(() -> new DistinctCountStatistics(precision), (r, t) -> r.accept(mapper.apply(t)),
+                DistinctCountStatistics::combine, Collector.Characteristics.IDENTITY_FINISH,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Records an object.
+     *
+     * @param value The object to record, can be null.
+     */
+    @Override
+    public void accept(Object value) {
+        acceptHash(Hashing.mix(Hashing.hash64(value) ^ SEED));
+    }
+
+    /**
+     * Records a primitive value.
+     *
+     * @param value The value to record.
+     */
+    @Override
+    public void accept(long value) {
+        acceptHash(Hashing.mix(value ^ SEED));
+    }
+
+    /**
+     * Combines the state of another {@code DistinctCountStatistics} into this one.
+     *
+     * @param other Another {@code DistinctCountStatistics} with the same precision.
+     * @return this statistics.
+     * @throws IllegalArgumentException if the precisions are different.
+     */
+    public DistinctCountStatistics combine(DistinctCountStatistics other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException(format("Can't combine statistics with precisions %d and %d",
+                    precision, other.precision));
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        count += other.count;
+        return this;
+    }
+
+    /**
+     * Returns the number of values recorded, including the duplicates.
+     *
+     * @return the number of values.
+     */
+    public final long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the estimated number of distinct values recorded.
+     *
+     * @return the estimated number of distinct values.
+     */
+    public final long getDistinctCount() {
+        int registerCount = registers.length;
+        double inverseSum = 0;
+        int zeroRegisters = 0;
+        for (byte register : registers) {
+            inverseSum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+        double estimate = alpha(registerCount) * registerCount * registerCount / inverseSum;
+        if (estimate <= 2.5 * registerCount && zeroRegisters > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeroRegisters);
+        }
+        return Math.min(Math.round(estimate), count);
+    }
+
+    /**
+     * Returns the precision of the statistics.
+     *
+     * @return the number of hash bits used to select a register.
+     */
+    public final int getPrecision() {
+        return precision;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s{count=%d, distinctCount=%d, precision=%d}", getClass().getSimpleName(), getCount(),
+                getDistinctCount(), getPrecision());
+    }
+
+    private void acceptHash(long hash) {
+        count++;
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        long remainingBits = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remainingBits) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    private static double alpha(int registerCount) {
+        switch (registerCount) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registerCount);
+        }
+    }
+
+}
@@ -0,0 +1,336 @@
+package com.dvelopp.functional.utils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+/**
+ * Sorts mapped elements of a collection keeping at most a given number of them in memory.
+ * Elements are mapped and sorted in runs, each run is sorted with {@link Arrays#parallelSort} and, if the whole data
+ * set doesn't fit into one run, spilled to a temporary file. The runs are then lazily k-way merged back.
+ * <p>
+ * Spilled elements are written with java serialization, so they have to be {@link Serializable}.
+ *
+ * @since 1.3
+ */
+final class ExternalMergeSort {
+
+    /**
+     * How often the object streams are reset. Without reset both sides of the object stream keep a reference to every
+     * element that went through them, so a run reader would eventually hold the whole run in memory.
+     */
+    private static final int RESET_INTERVAL = 256;
+
+    private static final String TEMP_FILE_PREFIX = "sorted-run-";
+
+    private ExternalMergeSort() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sorts the results of applying the mapper to the elements of the collection entirely in memory.
+     *
+     * @param collection The source collection.
+     * @param mapper     The function to apply to each element.
+     * @param comparator The comparator to sort mapped elements with.
+     * @param <T>        The source collection elements type.
+     * @param <R>        The sorted elements type.
+     * @return the sorted array of mapped elements.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> Object[] sortInMemory(Collection<T> collection, Function<? super T, ? extends R> mapper,
+                                        Comparator<? super R> comparator) {
+        R[] buffer = (R[]) new Object[collection.size()];
+        int size = fill(buffer, collection.iterator(), mapper);
+        if (size != buffer.length) {
+            buffer = Arrays.copyOf(buffer, size);
+        }
+        Arrays.parallelSort(buffer, comparator);
+        return buffer;
+    }
+
+    /**
+     * Sorts the results of applying the mapper to the elements of the collection by primitive key entirely in memory.
+     * The key is extracted only once per element.
+     *
+     * @param collection   The source collection.
+     * @param mapper       The function to apply to each element.
+     * @param keyExtractor The function to extract the sort key from the mapped element.
+     * @param <T>          The source collection elements type.
+     * @param <R>          The sorted elements type.
+     * @return the sorted array of mapped elements.
+     */
+    static <T, R> Object[] sortInMemory(Collection<T> collection, Function<? super T, ? extends R> mapper,
+                                        ToLongFunction<? super R> keyExtractor) {
+        Object[] sorted = sortInMemory(collection, keyedMapper(mapper, keyExtractor), LongKeyed::compareTo);
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = ((LongKeyed<?>) sorted[i]).value;
+        }
+        return sorted;
+    }
+
+    /**
+     * Sorts the results of applying the mapper to the elements of the collection keeping at most
+     * {@code maxElementsInMemory} mapped elements in memory during the run generation. The returned stream is
+     * lazy and has to be closed if it is not consumed till the end, so that the temporary files are removed.
+     *
+     * @param collection          The source collection.
+     * @param mapper              The function to apply to each element.
+     * @param comparator          The comparator to sort mapped elements with.
+     * @param maxElementsInMemory The maximum number of mapped elements in one sorted run.
+     * @param <T>                 The source collection elements type.
+     * @param <R>                 The sorted elements type.
+     * @return the lazy stream of sorted mapped elements.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> Stream<R> sortedStream(Collection<T> collection, Function<? super T, ? extends R> mapper,
+                                         Comparator<? super R> comparator, int maxElementsInMemory) {
+        requireValidBudget(maxElementsInMemory);
+        if (collection.size() <= maxElementsInMemory) {
+            return (Stream<R>) Arrays.stream(sortInMemory(collection, mapper, comparator));
+        }
+        List<Path> runs = spillSortedRuns(collection, mapper, comparator, maxElementsInMemory);
+        RunMerger<R> merger = new RunMerger<>(runs, comparator);
+        return StreamSupport.stream(spliteratorUnknownSize(merger, ORDERED), false).onClose(merger::close);
+    }
+
+    /**
+     * Primitive key version of {@link #sortedStream(Collection, Function, Comparator, int)}. The key is extracted only
+     * once per element and spilled together with it.
+     *
+     * @param collection          The source collection.
+     * @param mapper              The function to apply to each element.
+     * @param keyExtractor        The function to extract the sort key from the mapped element.
+     * @param maxElementsInMemory The maximum number of mapped elements in one sorted run.
+     * @param <T>                 The source collection elements type.
+     * @param <R>                 The sorted elements type.
+     * @return the lazy stream of sorted mapped elements.
+     */
+    static <T, R> Stream<R> sortedStream(Collection<T> collection, Function<? super T, ? extends R> mapper,
+                                         ToLongFunction<? super R> keyExtractor, int maxElementsInMemory) {
+        return sortedStream(collection, keyedMapper(mapper, keyExtractor), LongKeyed::compareTo, maxElementsInMemory)
+                .map(keyed -> keyed.value);
+    }
+
+    /**
+     * Converts a double to a long in a way that keeps the order defined by {@link Double#compare(double, double)}.
+     *
+     * @param value The double value.
+     * @return the long key with the same ordering as the given double.
+     */
+    static long sortableDoubleBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static void requireValidBudget(int maxElementsInMemory) {
+        if (maxElementsInMemory < 1) {
+            throw new IllegalArgumentException(format("Illegal memory budget: %d", maxElementsInMemory));
+        }
+    }
+
+    private static <T, R> Function<T, LongKeyed<R>> keyedMapper(Function<? super T, ? extends R> mapper,
+                                                                ToLongFunction<? super R> keyExtractor) {
+        return element -> {
+            R value = mapper.apply(element);
+            return new LongKeyed<>(keyExtractor.applyAsLong(value), value);
+        };
+    }
+
+    private static <T, R> int fill(R[] buffer, Iterator<T> source, Function<? super T, ? extends R> mapper) {
+        int size = 0;
+        while (size < buffer.length && source.hasNext()) {
+            buffer[size++] = mapper.apply(source.next());
+        }
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> List<Path> spillSortedRuns(Collection<T> collection, Function<? super T, ? extends R> mapper,
+                                                     Comparator<? super R> comparator, int runSize) {
+        List<Path> runs = new ArrayList<>();
+        R[] buffer = (R[]) new Object[runSize];
+        Iterator<T> source = collection.iterator();
+        try {
+            while (source.hasNext()) {
+                int size = fill(buffer, source, mapper);
+                Arrays.parallelSort(buffer, 0, size, comparator);
+                runs.add(spill(buffer, size));
+                Arrays.fill(buffer, 0, size, null);
+            }
+            return runs;
+        } catch (IOException e) {
+            deleteQuietly(runs);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException | Error e) {
+            deleteQuietly(runs);
+            throw e;
+        }
+    }
+
+    private static Path spill(Object[] buffer, int size) throws IOException {
+        Path run = Files.createTempFile(TEMP_FILE_PREFIX, null);
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeObject(buffer[i]);
+                if ((i + 1) % RESET_INTERVAL == 0) {
+                    out.reset();
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+
+    private static void deleteQuietly(List<Path> runs) {
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException ignored) {
+                //Nothing else can be done with the temporary file
+            }
+        }
+    }
+
+    /**
+     * Mapped element paired with its primitive sort key.
+     */
+    private static final class LongKeyed<R> implements Comparable<LongKeyed<R>>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long key;
+        private final R value;
+
+        private LongKeyed(long key, R value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(LongKeyed<R> other) {
+            return Long.compare(key, other.key);
+        }
+    }
+
+    /**
+     * Sequential reader of one spilled run that keeps only the current element.
+     */
+    private static final class RunReader<R> implements Closeable {
+
+        private final int index;
+        private final ObjectInputStream in;
+        private int remaining;
+        private R head;
+
+        private RunReader(int index, ObjectInputStream in) throws IOException {
+            this.index = index;
+            this.in = in;
+            this.remaining = in.readInt();
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean advance() throws IOException {
+            if (remaining == 0) {
+                head = null;
+                return false;
+            }
+            try {
+                head = (R) in.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * K-way merge of the sorted runs. Equal elements are taken in the order of runs so that the merge is stable.
+     */
+    private static final class RunMerger<R> implements Iterator<R>, Closeable {
+
+        private final List<Path> runs;
+        private final List<RunReader<R>> readers = new ArrayList<>();
+        private final PriorityQueue<RunReader<R>> queue;
+
+        private RunMerger(List<Path> runs, Comparator<? super R> comparator) {
+            this.runs = runs;
+            Comparator<RunReader<R>> headComparator = (r1, r2) -> comparator.compare(r1.head, r2.head);
+            this.queue = new PriorityQueue<>(runs.size(), headComparator.thenComparingInt(reader -> reader.index));
+            try {
+                for (int i = 0; i < runs.size(); i++) {
+                    ObjectInputStream in = new ObjectInputStream(
+                            new BufferedInputStream(Files.newInputStream(runs.get(i))));
+                    readers.add(new RunReader<>(i, in));
+                    RunReader<R> reader = readers.get(i);
+                    if (reader.advance()) {
+                        queue.add(reader);
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (queue.isEmpty()) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public R next() {
+            RunReader<R> reader = queue.poll();
+            if (reader == null) {
+                throw new NoSuchElementException();
+            }
+            R next = reader.head;
+            try {
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+            return next;
+        }
+
+        @Override
+        public void close() {
+            queue.clear();
+            for (RunReader<R> reader : readers) {
+                try {
+                    reader.close();
+                } catch (IOException ignored) {
+                    //The run file is deleted anyway
+                }
+            }
+            readers.clear();
+            deleteQuietly(runs);
+        }
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.dvelopp.functional.utils;
 
 import com.dvelopp.functional.utils.interfaces.TriConsumer;
+import com.dvelopp.functional.utils.interfaces.TriFunction;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 
 import static com.dvelopp.functional.utils.CollectionUtils.forEach;
@@ -101,6 +104,134 @@ public final class FunctionUtils {
         return o -> false;
     }
 
+    /**
+     * Combines the predicates into a predicate that matches an argument if all of them match it. Unlike chained
+     * {@link Predicate#and(Predicate)} calls, the predicates are evaluated in a flat loop, which stops at the first
+     * predicate that doesn't match. The predicate of no predicates matches all arguments.
+     *
+     * @param predicates The predicates to combine.
+     * @param <T>        The argument type for predicate.
+     * @return the new predicate.
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Predicate<T> allOf(Predicate<? super T>... predicates) {
+        return FunctionUtils.<T>allOf(asList(predicates));
+    }
+
+    /**
+     * List version of {@link #allOf(Predicate[])}.
+     *
+     * @param predicates The predicates to combine.
+     * @param <T>        The argument type for predicate.
+     * @return the new predicate.
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    public static <T> Predicate<T> allOf(List<? extends Predicate<? super T>> predicates) {
+        Predicate<? super T>[] array = toPredicateArray(predicates);
+        return o -> {
+            for (Predicate<? super T> predicate : array) {
+                if (!predicate.test(o)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Combines the predicates into a predicate that matches an argument if any of them matches it. Unlike chained
+     * {@link Predicate#or(Predicate)} calls, the predicates are evaluated in a flat loop, which stops at the first
+     * predicate that matches. The predicate of no predicates matches no arguments.
+     *
+     * @param predicates The predicates to combine.
+     * @param <T>        The argument type for predicate.
+     * @return the new predicate.
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Predicate<T> anyOf(Predicate<? super T>... predicates) {
+        return FunctionUtils.<T>anyOf(asList(predicates));
+    }
+
+    /**
+     * List version of {@link #anyOf(Predicate[])}.
+     *
+     * @param predicates The predicates to combine.
+     * @param <T>        The argument type for predicate.
+     * @return the new predicate.
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    public static <T> Predicate<T> anyOf(List<? extends Predicate<? super T>> predicates) {
+        Predicate<? super T>[] array = toPredicateArray(predicates);
+        return o -> {
+            for (Predicate<? super T> predicate : array) {
+                if (predicate.test(o)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Adaptive version of {@link #allOf(Predicate[])}, which samples the cost and the rejection rate of each predicate
+     * and periodically reorders them so that the cheapest and most selective ones are evaluated first. The predicates
+     * must have no side effects.
+     *
+     * @param predicates The predicates to combine.
+     * @param <T>        The argument type for predicate.
+     * @return the new predicate with its current evaluation order.
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> AdaptivePredicate<T> adaptiveAllOf(Predicate<? super T>... predicates) {
+        return FunctionUtils.<T>adaptiveAllOf(asList(predicates));
+    }
+
+    /**
+     * List version of {@link #adaptiveAllOf(Predicate[])}.
+     *
+     * @param predicates The predicates to combine.
+     * @param <T>        The argument type for predicate.
+     * @return the new predicate with its current evaluation order.
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    public static <T> AdaptivePredicate<T> adaptiveAllOf(List<? extends Predicate<? super T>> predicates) {
+        return new AdaptivePredicate<>(predicates, false);
+    }
+
+    /**
+     * Adaptive version of {@link #anyOf(Predicate[])}, which samples the cost and the acceptance rate of each predicate
+     * and periodically reorders them so that the cheapest and most accepting ones are evaluated first. The predicates
+     * must have no side effects.
+     *
+     * @param predicates The predicates to combine.
+     * @param <T>        The argument type for predicate.
+     * @return the new predicate with its current evaluation order.
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> AdaptivePredicate<T> adaptiveAnyOf(Predicate<? super T>... predicates) {
+        return FunctionUtils.<T>adaptiveAnyOf(asList(predicates));
+    }
+
+    /**
+     * List version of {@link #adaptiveAnyOf(Predicate[])}.
+     *
+     * @param predicates The predicates to combine.
+     * @param <T>        The argument type for predicate.
+     * @return the new predicate with its current evaluation order.
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    public static <T> AdaptivePredicate<T> adaptiveAnyOf(List<? extends Predicate<? super T>> predicates) {
+        return new AdaptivePredicate<>(predicates, true);
+    }
+
     public static Runnable emptyRunnable() {
         return () -> {
         };
@@ -149,6 +280,79 @@ public final class FunctionUtils {
         };
     }
 
+    /**
+     * Decorates the supplier with hedging for tail latency. The calls of the supplier run on the executor. When a
+     * call hasn't returned within the given percentile of the latencies of the recent calls, a second, speculative
+     * call is started, the first call to succeed provides the result and the other one is interrupted. A call fails
+     * only when no other call can succeed anymore. No calls are hedged until enough latencies are known.
+     *
+     * @param supplier   The supplier to decorate. It must be safe to call it twice for one result.
+     * @param percentile The percentile of the latencies after which a second call is started, e.g. 0.95.
+     * @param executor   The executor to run the calls on. It must be able to run two calls at once per caller.
+     * @param <T>        The result type.
+     * @return the new supplier with the counters of the calls and of the hedges fired.
+     * @throws IllegalArgumentException if the percentile isn't between 0 and 1 exclusively.
+     */
+    public static <T> HedgedSupplier<T> hedged(Supplier<? extends T> supplier, double percentile, Executor executor) {
+        return new HedgedSupplier<>(supplier, percentile, executor);
+    }
+
+    /**
+     * Decorates the function with hedging for tail latency. The function counterpart of
+     * {@link #hedged(Supplier, double, Executor)}: the speculative call gets the same argument.
+     *
+     * @param function   The function to decorate. It must be safe to call it twice for one result.
+     * @param percentile The percentile of the latencies after which a second call is started, e.g. 0.95.
+     * @param executor   The executor to run the calls on. It must be able to run two calls at once per caller.
+     * @param <T>        The argument type.
+     * @param <R>        The result type.
+     * @return the new function with the counters of the calls and of the hedges fired.
+     * @throws IllegalArgumentException if the percentile isn't between 0 and 1 exclusively.
+     */
+    public static <T, R> HedgedFunction<T, R> hedged(Function<? super T, ? extends R> function, double percentile,
+                                                     Executor executor) {
+        return new HedgedFunction<>(function, percentile, executor);
+    }
+
+    /**
+     * Decorates the supplier with a deadline. The calls of the supplier run on the executor; a call that doesn't
+     * return within the timeout is interrupted and the result of the fallback is returned instead. The failures of
+     * the supplier within the timeout are rethrown.
+     *
+     * @param supplier The supplier to decorate.
+     * @param timeout  The maximal time to wait for the supplier.
+     * @param unit     The unit of the timeout.
+     * @param fallback The supplier of the result when the deadline is hit.
+     * @param executor The executor to run the calls on.
+     * @param <T>      The result type.
+     * @return the new supplier with the counters of the calls and of the deadlines hit.
+     * @throws IllegalArgumentException if the timeout is negative.
+     */
+    public static <T> DeadlineSupplier<T> withDeadline(Supplier<? extends T> supplier, long timeout, TimeUnit unit,
+                                                       Supplier<? extends T> fallback, Executor executor) {
+        return new DeadlineSupplier<>(supplier, timeout, unit, fallback, executor);
+    }
+
+    /**
+     * Decorates the function with a deadline. The function counterpart of
+     * {@link #withDeadline(Supplier, long, TimeUnit, Supplier, Executor)}: the fallback gets the same argument.
+     *
+     * @param function The function to decorate.
+     * @param timeout  The maximal time to wait for the function.
+     * @param unit     The unit of the timeout.
+     * @param fallback The function to compute the result when the deadline is hit.
+     * @param executor The executor to run the calls on.
+     * @param <T>      The argument type.
+     * @param <R>      The result type.
+     * @return the new function with the counters of the calls and of the deadlines hit.
+     * @throws IllegalArgumentException if the timeout is negative.
+     */
+    public static <T, R> DeadlineFunction<T, R> withDeadline(Function<? super T, ? extends R> function, long timeout,
+                                                             TimeUnit unit, Function<? super T, ? extends R> fallback,
+                                                             Executor executor) {
+        return new DeadlineFunction<>(function, timeout, unit, fallback, executor);
+    }
+
     public static <T> Consumer<T> emptyConsumer() {
         return emptyClosure -> {
         };
@@ -163,13 +367,60 @@ public final class FunctionUtils {
      * @param <R>    The second argument type.
      * @return The new consumer object based on the BiConsumer and the argument that are passed. Argument is used
      * in the BiConsumer method invocation.
+     * @throws NullPointerException if the action is null.
      */
     public static <T, R> Consumer<T> consumer(BiConsumer<T, R> action, R arg) {
-        return o -> requireNonNull(action).accept(o, arg);
+        return boundConsumer(action, arg);
+    }
+
+    /**
+     * Converts BiConsumer to a consumer that exposes the action and the bound argument.
+     *
+     * @param action The BiConsumer action to be converted to consumer.
+     * @param arg    The second argument for BiConsumer.
+     * @param <T>    The first argument type.
+     * @param <R>    The second argument type.
+     * @return The new consumer object based on the BiConsumer and the argument that are passed.
+     * @throws NullPointerException if the action is null.
+     * @since 1.3
+     */
+    public static <T, R> BoundBiConsumer<T, R> boundConsumer(BiConsumer<T, R> action, R arg) {
+        return new BoundBiConsumer<>(action, arg);
     }
 
+    /**
+     * Converts TriConsumer to Consumer.
+     *
+     * @param action    The TriConsumer action to be converted to consumer.
+     * @param firstArg  The second argument for TriConsumer.
+     * @param secondArg The third argument for TriConsumer.
+     * @param <T>       The first argument type.
+     * @param <R1>      The second argument type.
+     * @param <R2>      The third argument type.
+     * @return The new consumer object based on the TriConsumer and the arguments that are passed. Arguments are used
+     * in the TriConsumer method invocation.
+     * @throws NullPointerException if the action is null.
+     */
     public static <T, R1, R2> Consumer<T> consumer(TriConsumer<T, R1, R2> action, R1 firstArg, R2 secondArg) {
-        return o -> requireNonNull(action).accept(o, firstArg, secondArg);
+        return boundConsumer(action, firstArg, secondArg);
+    }
+
+    /**
+     * Converts TriConsumer to a consumer that exposes the action and the bound arguments.
+     *
+     * @param action    The TriConsumer action to be converted to consumer.
+     * @param firstArg  The second argument for TriConsumer.
+     * @param secondArg The third argument for TriConsumer.
+     * @param <T>       The first argument type.
+     * @param <R1>      The second argument type.
+     * @param <R2>      The third argument type.
+     * @return The new consumer object based on the TriConsumer and the arguments that are passed.
+     * @throws NullPointerException if the action is null.
+     * @since 1.3
+     */
+    public static <T, R1, R2> BoundTriConsumer<T, R1, R2> boundConsumer(TriConsumer<T, R1, R2> action, R1 firstArg,
+                                                                        R2 secondArg) {
+        return new BoundTriConsumer<>(action, firstArg, secondArg);
     }
 
     /**
@@ -182,9 +433,94 @@ public final class FunctionUtils {
      * @param <R>    The return type.
      * @return The new function object based on the BiFunction and the argument that are passed. Argument is used
      * in BiFunction method invocation.
+     * @throws NullPointerException if the action is null.
      */
     public static <T, R, S> Function<T, R> function(BiFunction<T, S, R> action, S arg) {
-        return o -> requireNonNull(action).apply(o, arg);
+        return boundFunction(action, arg);
+    }
+
+    /**
+     * Converts BiFunction to a function that exposes the action and the bound argument.
+     *
+     * @param action The BiFunction to be converted to a function.
+     * @param arg    The second argument for BiFunction.
+     * @param <T>    The first argument type.
+     * @param <S>    The second argument type.
+     * @param <R>    The return type.
+     * @return The new function object based on the BiFunction and the argument that are passed.
+     * @throws NullPointerException if the action is null.
+     * @since 1.3
+     */
+    public static <T, R, S> BoundBiFunction<T, S, R> boundFunction(BiFunction<T, S, R> action, S arg) {
+        return new BoundBiFunction<>(action, arg);
+    }
+
+    /**
+     * Converts TriFunction to Function.
+     *
+     * @param action    The TriFunction to be converted to a function.
+     * @param firstArg  The second argument for TriFunction.
+     * @param secondArg The third argument for TriFunction.
+     * @param <T>       The first argument type.
+     * @param <S1>      The second argument type.
+     * @param <S2>      The third argument type.
+     * @param <R>       The return type.
+     * @return The new function object based on the TriFunction and the arguments that are passed. Arguments are used
+     * in TriFunction method invocation.
+     * @throws NullPointerException if the action is null.
+     */
+    public static <T, R, S1, S2> Function<T, R> function(TriFunction<T, S1, S2, R> action, S1 firstArg,
+                                                         S2 secondArg) {
+        return boundFunction(action, firstArg, secondArg);
+    }
+
+    /**
+     * Converts TriFunction to a function that exposes the action and the bound arguments.
+     *
+     * @param action    The TriFunction to be converted to a function.
+     * @param firstArg  The second argument for TriFunction.
+     * @param secondArg The third argument for TriFunction.
+     * @param <T>       The first argument type.
+     * @param <S1>      The second argument type.
+     * @param <S2>      The third argument type.
+     * @param <R>       The return type.
+     * @return The new function object based on the TriFunction and the arguments that are passed.
+     * @throws NullPointerException if the action is null.
+     * @since 1.3
+     */
+    public static <T, R, S1, S2> BoundTriFunction<T, S1, S2, R> boundFunction(TriFunction<T, S1, S2, R> action,
+                                                                              S1 firstArg, S2 secondArg) {
+        return new BoundTriFunction<>(action, firstArg, secondArg);
+    }
+
+    /**
+     * Creates a stateful predicate that accepts an element only if its key hasn't been seen before. The keys are
+     * remembered in a Bloom filter, so the memory used doesn't depend on the number of elements, which makes the
+     * predicate suitable for deduplication of unbounded streams. Each key is accepted at least once, but an element
+     * with a new key is rejected with approximately the given probability once the expected number of keys is
+     * reached. String and boxed primitive keys are told apart by a 64-bit hash of their values, keys of other types by
+     * their hash codes only, so distinct keys of other types with equal hash codes are always taken for duplicates.
+     * The predicate is not thread-safe and is meant for sequential streams.
+     *
+     * @param keyExtractor             The function to extract the key from an element.
+     * @param expectedInsertions       The expected number of distinct keys.
+     * @param falsePositiveProbability The probability to reject an element with a new key.
+     * @param <T>                      The argument type for predicate.
+     * @return the new predicate that accepts elements with new keys.
+     * @throws IllegalArgumentException if the expected insertions are not positive or the probability is not
+     *                                  between 0 and 1 exclusively.
+     */
+    public static <T> Predicate<T> approximateDistinctPredicate(Function<? super T, ?> keyExtractor,
+                                                                long expectedInsertions,
+                                                                double falsePositiveProbability) {
+        requireNonNull(keyExtractor);
+        BloomFilter seenKeys = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        return o -> seenKeys.add(keyExtractor.apply(o));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicate<? super T>[] toPredicateArray(List<? extends Predicate<? super T>> predicates) {
+        return (Predicate<? super T>[]) requireNonNull(predicates).toArray(new Predicate<?>[0]);
     }
 
 }
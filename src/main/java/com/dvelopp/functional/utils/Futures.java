@@ -0,0 +1,92 @@
+package com.dvelopp.functional.utils;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Helpers to wait for futures with the failures of the tasks rethrown unwrapped.
+ *
+ * @since 1.3
+ */
+final class Futures {
+
+    private Futures() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Waits for the result of the future.
+     *
+     * @throws CancellationException if the calling thread is interrupted; its interrupt status is restored.
+     */
+    static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            throw interrupted(e);
+        }
+    }
+
+    /**
+     * Waits for the result of the future for at most the timeout.
+     *
+     * @throws TimeoutException      if the future isn't completed in time.
+     * @throws CancellationException if the calling thread is interrupted; its interrupt status is restored.
+     */
+    static <T> T await(Future<T> future, long timeout, TimeUnit unit) throws TimeoutException {
+        try {
+            return future.get(timeout, unit);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            throw interrupted(e);
+        }
+    }
+
+    /**
+     * Runs the call on the executor and waits for its result for at most the timeout. The call is interrupted if it
+     * doesn't complete in time.
+     *
+     * @throws TimeoutException if the call isn't completed in time.
+     */
+    static <T> T callWithin(Executor executor, Supplier<? extends T> call, long timeoutNanos) throws TimeoutException {
+        FutureTask<T> task = new FutureTask<>(call::get);
+        executor.execute(task);
+        try {
+            return await(task, timeoutNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Returns the failure of the task to rethrow: the cause itself if it is unchecked, or a
+     * {@link CompletionException} wrapping it otherwise.
+     *
+     * @throws Error if the task failed with an error.
+     */
+    static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new CompletionException(cause);
+    }
+
+    /**
+     * Restores the interrupt status of the current thread and returns the exception to throw instead of the
+     * {@link InterruptedException}.
+     */
+    static CancellationException interrupted(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        CancellationException cancellation = new CancellationException("Interrupted while waiting for tasks");
+        cancellation.initCause(e);
+        return cancellation;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.dvelopp.functional.utils;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Values grouped by dense group ids in the compressed sparse row layout: the values of all groups are stored in one
+ * array ordered by group and the group {@code id} occupies the range from {@code offsets[id]} to
+ * {@code offsets[id + 1]}. Within a group the values keep the order in which they were given.
+ *
+ * @since 1.3
+ */
+final class GroupedValues<T> {
+
+    private final Object[] values;
+    private final int[] offsets;
+
+    /**
+     * Groups the elements with the counting sort by their group ids.
+     *
+     * @param elements   The elements to group.
+     * @param groupIds   The group id of each element.
+     * @param groupCount The number of groups, all the ids are less than it.
+     */
+    GroupedValues(Object[] elements, int[] groupIds, int groupCount) {
+        offsets = new int[groupCount + 1];
+        for (int i = 0; i < elements.length; i++) {
+            offsets[groupIds[i] + 1]++;
+        }
+        for (int id = 0; id < groupCount; id++) {
+            offsets[id + 1] += offsets[id];
+        }
+        int[] positions = new int[groupCount];
+        System.arraycopy(offsets, 0, positions, 0, groupCount);
+        values = new Object[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            values[positions[groupIds[i]]++] = elements[i];
+        }
+    }
+
+    /**
+     * Returns the unmodifiable view of the values of the group. No data is copied.
+     *
+     * @param id The group id.
+     * @return the list of the values of the group.
+     */
+    List<T> group(int id) {
+        return new GroupView<>(values, offsets[id], offsets[id + 1]);
+    }
+
+    int groupSize(int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    private static final class GroupView<T> extends AbstractList<T> implements RandomAccess {
+
+        private final Object[] values;
+        private final int from;
+        private final int to;
+
+        private GroupView(Object[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return (T) values[from + index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+}
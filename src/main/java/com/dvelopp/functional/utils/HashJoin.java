@@ -0,0 +1,317 @@
+package com.dvelopp.functional.utils;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Hash joins of two collections. The hash table is built over the smaller collection and the larger one is probed
+ * against it. The table keeps the build elements in an array and chains the elements with equal keys through an
+ * index array, so no node or list is allocated per key.
+ * <p>
+ * Null keys never match, like in SQL. The inner join result is in the order of the probed collection, the left
+ * join result is always in the order of the left collection.
+ *
+ * @since 1.3
+ */
+final class HashJoin {
+
+    private static final int NO_MATCH = -1;
+
+    /**
+     * The minimal number of probe elements handled by one task of the parallel probe.
+     */
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 1 << 10;
+
+    private HashJoin() {
+        throw new UnsupportedOperationException();
+    }
+
+    static <L, R, O> List<O> innerJoin(Collection<L> left, Collection<R> right, Function<? super L, ?> leftKey,
+                                       Function<? super R, ?> rightKey,
+                                       BiFunction<? super L, ? super R, ? extends O> combiner, boolean parallel) {
+        if (left.size() <= right.size()) {
+            ObjectKeyTable table = new ObjectKeyTable(left, leftKey);
+            return probe(right, table, r -> table.first(rightKey.apply(r)), (L l, R r) -> combiner.apply(l, r),
+                    parallel);
+        }
+        ObjectKeyTable table = new ObjectKeyTable(right, rightKey);
+        return probe(left, table, l -> table.first(leftKey.apply(l)), (R r, L l) -> combiner.apply(l, r), parallel);
+    }
+
+    static <L, R, O> List<O> innerJoinByLong(Collection<L> left, Collection<R> right,
+                                             ToLongFunction<? super L> leftKey,
+                                             ToLongFunction<? super R> rightKey,
+                                             BiFunction<? super L, ? super R, ? extends O> combiner, boolean parallel) {
+        if (left.size() <= right.size()) {
+            LongKeyTable table = new LongKeyTable(left, leftKey);
+            return probe(right, table, r -> table.first(rightKey.applyAsLong(r)), (L l, R r) -> combiner.apply(l, r),
+                    parallel);
+        }
+        LongKeyTable table = new LongKeyTable(right, rightKey);
+        return probe(left, table, l -> table.first(leftKey.applyAsLong(l)), (R r, L l) -> combiner.apply(l, r),
+                parallel);
+    }
+
+    static <L, R, O> List<O> leftJoin(Collection<L> left, Collection<R> right, Function<? super L, ?> leftKey,
+                                      Function<? super R, ?> rightKey,
+                                      BiFunction<? super L, ? super R, ? extends O> combiner) {
+        if (left.size() <= right.size()) {
+            ObjectKeyTable table = new ObjectKeyTable(left, leftKey);
+            return leftJoinWithLeftTable(right, table, r -> table.first(rightKey.apply(r)), combiner);
+        }
+        ObjectKeyTable table = new ObjectKeyTable(right, rightKey);
+        return leftJoinWithRightTable(left, table, l -> table.first(leftKey.apply(l)), combiner);
+    }
+
+    static <L, R, O> List<O> leftJoinByLong(Collection<L> left, Collection<R> right,
+                                            ToLongFunction<? super L> leftKey,
+                                            ToLongFunction<? super R> rightKey,
+                                            BiFunction<? super L, ? super R, ? extends O> combiner) {
+        if (left.size() <= right.size()) {
+            LongKeyTable table = new LongKeyTable(left, leftKey);
+            return leftJoinWithLeftTable(right, table, r -> table.first(rightKey.applyAsLong(r)), combiner);
+        }
+        LongKeyTable table = new LongKeyTable(right, rightKey);
+        return leftJoinWithRightTable(left, table, l -> table.first(leftKey.applyAsLong(l)), combiner);
+    }
+
+    static <L, R> List<L> semiJoin(Collection<L> left, Collection<R> right, Function<? super L, ?> leftKey,
+                                   Function<? super R, ?> rightKey) {
+        if (left.size() <= right.size()) {
+            ObjectKeyTable table = new ObjectKeyTable(left, leftKey);
+            return semiJoinWithLeftTable(right, table, r -> table.first(rightKey.apply(r)));
+        }
+        ObjectKeyTable table = new ObjectKeyTable(right, rightKey);
+        return semiJoinWithRightTable(left, l -> table.first(leftKey.apply(l)));
+    }
+
+    static <L, R> List<L> semiJoinByLong(Collection<L> left, Collection<R> right,
+                                         ToLongFunction<? super L> leftKey,
+                                         ToLongFunction<? super R> rightKey) {
+        if (left.size() <= right.size()) {
+            LongKeyTable table = new LongKeyTable(left, leftKey);
+            return semiJoinWithLeftTable(right, table, r -> table.first(rightKey.applyAsLong(r)));
+        }
+        LongKeyTable table = new LongKeyTable(right, rightKey);
+        return semiJoinWithRightTable(left, l -> table.first(leftKey.applyAsLong(l)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <B, P, O> List<O> probe(Collection<P> probeSide, JoinTable table,
+                                           ToIntFunction<? super P> firstMatch,
+                                           BiFunction<? super B, ? super P, ? extends O> emit, boolean parallel) {
+        if (!parallel || probeSide.size() < 2 * MIN_PARALLEL_CHUNK_SIZE) {
+            List<O> result = new ArrayList<>();
+            for (P probe : probeSide) {
+                for (int i = firstMatch.applyAsInt(probe); i != NO_MATCH; i = table.next[i]) {
+                    result.add(emit.apply((B) table.elements[i], probe));
+                }
+            }
+            return result;
+        }
+        P[] probes = (P[]) probeSide.toArray();
+        int chunkSize = Math.max(MIN_PARALLEL_CHUNK_SIZE,
+                probes.length / (4 * Runtime.getRuntime().availableProcessors()));
+        int chunkCount = (probes.length + chunkSize - 1) / chunkSize;
+        List<List<O>> chunkResults = IntStream.range(0, chunkCount).parallel().mapToObj(chunk -> {
+            List<O> result = new ArrayList<>();
+            int end = Math.min(probes.length, (chunk + 1) * chunkSize);
+            for (int p = chunk * chunkSize; p < end; p++) {
+                for (int i = firstMatch.applyAsInt(probes[p]); i != NO_MATCH; i = table.next[i]) {
+                    result.add(emit.apply((B) table.elements[i], probes[p]));
+                }
+            }
+            return result;
+        }).collect(toList());
+        List<O> result = new ArrayList<>(chunkResults.stream().mapToInt(List::size).sum());
+        chunkResults.forEach(result::addAll);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L, R, O> List<O> leftJoinWithRightTable(Collection<L> left, JoinTable rightTable,
+                                                            ToIntFunction<? super L> firstMatch,
+                                                            BiFunction<? super L, ? super R, ? extends O> combiner) {
+        List<O> result = new ArrayList<>(left.size());
+        for (L l : left) {
+            int i = firstMatch.applyAsInt(l);
+            if (i == NO_MATCH) {
+                result.add(combiner.apply(l, null));
+            }
+            for (; i != NO_MATCH; i = rightTable.next[i]) {
+                result.add(combiner.apply(l, (R) rightTable.elements[i]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Probes the left table with the right elements and groups the matches per left element with a counting sort, so
+     * that the result has the same order as the one of {@link #leftJoinWithRightTable}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <L, R, O> List<O> leftJoinWithLeftTable(Collection<R> right, JoinTable leftTable,
+                                                           ToIntFunction<? super R> firstMatch,
+                                                           BiFunction<? super L, ? super R, ? extends O> combiner) {
+        Object[] rights = right.toArray();
+        int[] firstMatches = new int[rights.length];
+        int[] offsets = new int[leftTable.elements.length + 1];
+        for (int r = 0; r < rights.length; r++) {
+            firstMatches[r] = firstMatch.applyAsInt((R) rights[r]);
+            for (int i = firstMatches[r]; i != NO_MATCH; i = leftTable.next[i]) {
+                offsets[i + 1]++;
+            }
+        }
+        for (int i = 0; i < leftTable.elements.length; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] matches = new int[offsets[leftTable.elements.length]];
+        int[] filled = Arrays.copyOf(offsets, leftTable.elements.length);
+        for (int r = 0; r < rights.length; r++) {
+            for (int i = firstMatches[r]; i != NO_MATCH; i = leftTable.next[i]) {
+                matches[filled[i]++] = r;
+            }
+        }
+        List<O> result = new ArrayList<>(matches.length + leftTable.elements.length);
+        for (int i = 0; i < leftTable.elements.length; i++) {
+            L l = (L) leftTable.elements[i];
+            if (offsets[i] == offsets[i + 1]) {
+                result.add(combiner.apply(l, null));
+            }
+            for (int m = offsets[i]; m < offsets[i + 1]; m++) {
+                result.add(combiner.apply(l, (R) rights[matches[m]]));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L, R> List<L> semiJoinWithLeftTable(Collection<R> right, JoinTable leftTable,
+                                                        ToIntFunction<? super R> firstMatch) {
+        boolean[] matched = new boolean[leftTable.elements.length];
+        for (R r : right) {
+            for (int i = firstMatch.applyAsInt(r); i != NO_MATCH && !matched[i]; i = leftTable.next[i]) {
+                matched[i] = true;
+            }
+        }
+        List<L> result = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i]) {
+                result.add((L) leftTable.elements[i]);
+            }
+        }
+        return result;
+    }
+
+    private static <L> List<L> semiJoinWithRightTable(Collection<L> left, ToIntFunction<? super L> firstMatch) {
+        List<L> result = new ArrayList<>();
+        for (L l : left) {
+            if (firstMatch.applyAsInt(l) != NO_MATCH) {
+                result.add(l);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Build side of the join. Elements with equal keys are chained through {@link #next} in the order of the build
+     * collection.
+     */
+    private abstract static class JoinTable {
+
+        final Object[] elements;
+        final int[] next;
+        final int[] heads;
+
+        JoinTable(Collection<?> buildSide) {
+            elements = buildSide.toArray();
+            next = new int[elements.length];
+            heads = new int[Hashing.tableCapacity(elements.length)];
+            Arrays.fill(heads, NO_MATCH);
+        }
+
+        /**
+         * Prepends the element to the chain of the slot. Elements are inserted in reverse order so that the chains
+         * keep the order of the build collection.
+         */
+        void link(int slot, int element) {
+            next[element] = heads[slot];
+            heads[slot] = element;
+        }
+    }
+
+    private static final class ObjectKeyTable extends JoinTable {
+
+        private final Object[] keys;
+
+        @SuppressWarnings("unchecked")
+        private <B> ObjectKeyTable(Collection<B> buildSide, Function<? super B, ?> keyExtractor) {
+            super(buildSide);
+            keys = new Object[heads.length];
+            for (int i = elements.length - 1; i >= 0; i--) {
+                Object key = keyExtractor.apply((B) elements[i]);
+                if (key != null) {
+                    int slot = slot(key);
+                    keys[slot] = key;
+                    link(slot, i);
+                }
+            }
+        }
+
+        private int first(Object key) {
+            return key == null ? NO_MATCH : heads[slot(key)];
+        }
+
+        /**
+         * Returns the slot that holds the key or the free slot where the key has to be placed.
+         */
+        private int slot(Object key) {
+            int mask = heads.length - 1;
+            int slot = Hashing.spread(key.hashCode()) & mask;
+            while (heads[slot] != NO_MATCH && !keys[slot].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    private static final class LongKeyTable extends JoinTable {
+
+        private final long[] keys;
+
+        @SuppressWarnings("unchecked")
+        private <B> LongKeyTable(Collection<B> buildSide, ToLongFunction<? super B> keyExtractor) {
+            super(buildSide);
+            keys = new long[heads.length];
+            for (int i = elements.length - 1; i >= 0; i--) {
+                long key = keyExtractor.applyAsLong((B) elements[i]);
+                int slot = slot(key);
+                keys[slot] = key;
+                link(slot, i);
+            }
+        }
+
+        private int first(long key) {
+            return heads[slot(key)];
+        }
+
+        /**
+         * Returns the slot that holds the key or the free slot where the key has to be placed.
+         */
+        private int slot(long key) {
+            int mask = heads.length - 1;
+            int slot = (int) Hashing.mix(key) & mask;
+            while (heads[slot] != NO_MATCH && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+}
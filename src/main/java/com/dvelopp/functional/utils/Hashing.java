@@ -0,0 +1,89 @@
+package com.dvelopp.functional.utils;
+
+/**
+ * Hash functions shared by the open addressing structures of the library. Open addressing with power of two tables
+ * uses the low bits of a hash, so the hash codes have to be spread before they are used.
+ *
+ * @since 1.3
+ */
+final class Hashing {
+
+    private Hashing() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Finalization step of MurmurHash3 for 64-bit values.
+     *
+     * @param value The value to mix.
+     * @return the mixed value with all bits depending on all bits of the given value.
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * Returns a 64-bit hash of an object that is consistent with its {@code equals}. Strings are hashed from their
+     * characters and the boxed primitives from their values, so unlike the 32-bit hash codes, the hashes of distinct
+     * strings and numbers rarely collide. Other objects are hashed from their hash codes.
+     *
+     * @param object The object to hash, can be null.
+     * @return the 64-bit hash.
+     */
+    static long hash64(Object object) {
+        if (object instanceof String) {
+            String string = (String) object;
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0, length = string.length(); i < length; i++) {
+                hash = (hash ^ string.charAt(i)) * 0x100000001b3L;
+            }
+            return hash;
+        }
+        if (object instanceof Long || object instanceof Integer || object instanceof Short
+                || object instanceof Byte) {
+            return ((Number) object).longValue();
+        }
+        if (object instanceof Double) {
+            return Double.doubleToLongBits((Double) object);
+        }
+        if (object instanceof Float) {
+            return Float.floatToIntBits((Float) object);
+        }
+        if (object instanceof Character) {
+            return (Character) object;
+        }
+        return object == null ? 0 : object.hashCode();
+    }
+
+    /**
+     * Spreads the hash code of an object or the hash of a primitive value.
+     *
+     * @param hash The hash to spread.
+     * @return the spread hash.
+     */
+    static int spread(int hash) {
+        int mixed = hash * 0x9e3779b9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    /**
+     * Returns the power of two table capacity that keeps the given number of entries under the maximum load factor
+     * of one half.
+     *
+     * @param expectedSize The expected number of entries.
+     * @return the table capacity.
+     */
+    static int tableCapacity(int expectedSize) {
+        long capacity = Math.max(2L * expectedSize, 2L);
+        if (capacity > 1 << 30) {
+            return 1 << 30;
+        }
+        return Integer.highestOneBit((int) capacity - 1) << 1;
+    }
+
+}
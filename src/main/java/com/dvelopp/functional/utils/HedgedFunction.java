@@ -0,0 +1,70 @@
+package com.dvelopp.functional.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Function that hedges the calls of another function: if a call takes longer than the given percentile of the
+ * latencies of the recent calls, a second call with the same argument is started and the first result wins.
+ *
+ * @param <T> The argument type.
+ * @param <R> The result type.
+ * @see FunctionUtils#hedged(Function, double, Executor)
+ * @since 1.3
+ */
+public final class HedgedFunction<T, R> implements Function<T, R> {
+
+    private final Function<? super T, ? extends R> function;
+    private final Hedging hedging;
+
+    HedgedFunction(Function<? super T, ? extends R> function, double percentile, Executor executor) {
+        requireNonNull(function, executor);
+        this.function = function;
+        this.hedging = new Hedging(percentile, executor);
+    }
+
+    /**
+     * Returns the result of the first call of the function to succeed.
+     *
+     * @param t The function argument.
+     * @return the result of the function.
+     * @throws java.util.concurrent.CancellationException if the calling thread is interrupted while waiting.
+     */
+    @Override
+    public R apply(T t) {
+        return hedging.call(() -> function.apply(t));
+    }
+
+    /**
+     * Returns the number of the calls of this function.
+     *
+     * @return the number of the calls.
+     */
+    public long getInvocationCount() {
+        return hedging.getInvocationCount();
+    }
+
+    /**
+     * Returns the number of the speculative calls of the function started so far.
+     *
+     * @return the number of the hedges fired.
+     */
+    public long getHedgeCount() {
+        return hedging.getHedgeCount();
+    }
+
+    /**
+     * Returns the current delay after which a call is hedged.
+     *
+     * @param unit The unit of the result.
+     * @return the delay, or -1 if not enough calls have been made yet to hedge.
+     */
+    public long getHedgeDelay(TimeUnit unit) {
+        long delay = hedging.getDelayNanos();
+        return delay < 0 ? -1 : unit.convert(delay, TimeUnit.NANOSECONDS);
+    }
+
+}
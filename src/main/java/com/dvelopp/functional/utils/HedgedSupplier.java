@@ -0,0 +1,68 @@
+package com.dvelopp.functional.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Supplier that hedges the calls of another supplier: if a call takes longer than the given percentile of the
+ * latencies of the recent calls, a second call is started and the first result wins.
+ *
+ * @param <T> The result type.
+ * @see FunctionUtils#hedged(Supplier, double, Executor)
+ * @since 1.3
+ */
+public final class HedgedSupplier<T> implements Supplier<T> {
+
+    private final Supplier<? extends T> supplier;
+    private final Hedging hedging;
+
+    HedgedSupplier(Supplier<? extends T> supplier, double percentile, Executor executor) {
+        requireNonNull(supplier, executor);
+        this.supplier = supplier;
+        this.hedging = new Hedging(percentile, executor);
+    }
+
+    /**
+     * Returns the result of the first call of the supplier to succeed.
+     *
+     * @return the result of the supplier.
+     * @throws java.util.concurrent.CancellationException if the calling thread is interrupted while waiting.
+     */
+    @Override
+    public T get() {
+        return hedging.call(supplier);
+    }
+
+    /**
+     * Returns the number of the calls of this supplier.
+     *
+     * @return the number of the calls.
+     */
+    public long getInvocationCount() {
+        return hedging.getInvocationCount();
+    }
+
+    /**
+     * Returns the number of the speculative calls of the supplier started so far.
+     *
+     * @return the number of the hedges fired.
+     */
+    public long getHedgeCount() {
+        return hedging.getHedgeCount();
+    }
+
+    /**
+     * Returns the current delay after which a call is hedged.
+     *
+     * @param unit The unit of the result.
+     * @return the delay, or -1 if not enough calls have been made yet to hedge.
+     */
+    public long getHedgeDelay(TimeUnit unit) {
+        long delay = hedging.getDelayNanos();
+        return delay < 0 ? -1 : unit.convert(delay, TimeUnit.NANOSECONDS);
+    }
+
+}
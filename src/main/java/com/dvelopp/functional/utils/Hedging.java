@@ -0,0 +1,120 @@
+package com.dvelopp.functional.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Runs calls on an executor and starts a second, speculative attempt of a call that takes longer than the given
+ * percentile of the latencies of the recent calls. The first attempt to succeed provides the result, and the other
+ * attempt is interrupted. A failure is reported only when no other attempt is running, since the other one can still
+ * succeed.
+ * <p>
+ * The latencies of the last {@value #WINDOW_SIZE} successful attempts are kept and the delay is recomputed after each
+ * {@value #RECOMPUTE_INTERVAL} of them. No attempts are hedged until {@value #WARM_UP_SIZE} latencies are known.
+ *
+ * @since 1.3
+ */
+final class Hedging {
+
+    static final int WINDOW_SIZE = 128;
+    static final int WARM_UP_SIZE = 16;
+    static final int RECOMPUTE_INTERVAL = 16;
+
+    private static final String PRIMARY = "primary";
+    private static final String HEDGED = "hedged";
+
+    private final double percentile;
+    private final Executor executor;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private long recorded;
+    private volatile long delayNanos = -1;
+
+    Hedging(double percentile, Executor executor) {
+        if (!(percentile > 0 && percentile < 1)) {
+            throw new IllegalArgumentException(format("Illegal percentile: %s", percentile));
+        }
+        this.percentile = percentile;
+        this.executor = executor;
+    }
+
+    <V> V call(Supplier<? extends V> call) {
+        invocations.increment();
+        Object event = OperationEvents.begin("hedged", -1, false);
+        CompletableFuture<V> result = new CompletableFuture<>();
+        AtomicInteger running = new AtomicInteger(1);
+        FutureTask<Void> first = attempt(call, result, running);
+        FutureTask<Void> second = null;
+        try {
+            long delay = delayNanos;
+            if (delay >= 0) {
+                try {
+                    return OperationEvents.end(event, Futures.await(result, delay, TimeUnit.NANOSECONDS), PRIMARY);
+                } catch (TimeoutException e) {
+                    running.incrementAndGet();
+                    if (!result.isDone()) {
+                        hedges.increment();
+                        second = attempt(call, result, running);
+                    }
+                }
+            }
+            return OperationEvents.end(event, Futures.await(result), second == null ? PRIMARY : HEDGED);
+        } catch (RuntimeException | Error e) {
+            OperationEvents.fail(event, e);
+            throw e;
+        } finally {
+            first.cancel(true);
+            if (second != null) {
+                second.cancel(true);
+            }
+        }
+    }
+
+    long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    long getDelayNanos() {
+        return delayNanos;
+    }
+
+    private <V> FutureTask<Void> attempt(Supplier<? extends V> call, CompletableFuture<V> result,
+                                         AtomicInteger running) {
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            long start = System.nanoTime();
+            V value;
+            try {
+                value = call.get();
+            } catch (RuntimeException | Error e) {
+                if (running.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
+                return;
+            }
+            record(System.nanoTime() - start);
+            result.complete(value);
+        }, null);
+        executor.execute(task);
+        return task;
+    }
+
+    private synchronized void record(long latency) {
+        latencies[(int) (recorded++ % WINDOW_SIZE)] = latency;
+        if (recorded >= WARM_UP_SIZE && recorded % RECOMPUTE_INTERVAL == 0) {
+            long[] sorted = Arrays.copyOf(latencies, (int) Math.min(recorded, WINDOW_SIZE));
+            Arrays.sort(sorted);
+            delayNanos = sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+        }
+    }
+
+}
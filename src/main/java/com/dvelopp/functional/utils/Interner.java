@@ -0,0 +1,231 @@
+package com.dvelopp.functional.utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+import static java.lang.String.format;
+
+/**
+ * Canonicalizer of equal values: {@link #intern(Object)} returns the first instance seen among the values equal to the
+ * given one. Mapping many elements to values of a low-cardinality field through an interner, e.g. with
+ * {@link CollectionUtils#mapToListInterned(java.util.Collection, java.util.function.Function, Interner)}, keeps one
+ * instance per distinct value instead of one per element.
+ * <p>
+ * The interner is thread-safe and can be shared across calls. It is bounded: once it holds about {@code maxSize}
+ * values, new distinct values are returned as they are, so a high-cardinality field can't make it grow without limit.
+ * A {@link #strong(int) strong} interner keeps its values forever, a {@link #weak(int) weak} one only while they are
+ * referenced elsewhere.
+ *
+ * @param <T> The values type.
+ * @since 1.3
+ */
+public abstract class Interner<T> implements UnaryOperator<T> {
+
+    final int maxSize;
+
+    private Interner(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(format("Illegal max size: %d", maxSize));
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates an interner that keeps its values until it is garbage collected itself.
+     *
+     * @param maxSize The maximal number of values to keep.
+     * @param <T>     The values type.
+     * @return the new interner.
+     * @throws IllegalArgumentException if the max size is not positive.
+     */
+    public static <T> Interner<T> strong(int maxSize) {
+        return new StrongInterner<>(maxSize);
+    }
+
+    /**
+     * Creates an interner that keeps its values only while they are strongly referenced elsewhere, e.g. by the
+     * collections the values have been mapped into.
+     *
+     * @param maxSize The maximal number of values to keep.
+     * @param <T>     The values type.
+     * @return the new interner.
+     * @throws IllegalArgumentException if the max size is not positive.
+     */
+    public static <T> Interner<T> weak(int maxSize) {
+        return new WeakInterner<>(maxSize);
+    }
+
+    /**
+     * Returns the canonical instance of the value.
+     *
+     * @param value The value to canonicalize.
+     * @return the interned value equal to the given one, the given value if it is new, or {@code null} for
+     * {@code null}.
+     */
+    public abstract T intern(T value);
+
+    /**
+     * Same as {@link #intern(Object)}.
+     *
+     * @param value The value to canonicalize.
+     * @return the canonical instance of the value.
+     */
+    @Override
+    public T apply(T value) {
+        return intern(value);
+    }
+
+    /**
+     * @return the number of the values currently kept.
+     */
+    public abstract int size();
+
+    /**
+     * @return the maximal number of the values kept.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private static final class StrongInterner<T> extends Interner<T> {
+
+        private final ConcurrentMap<T, T> values = new ConcurrentHashMap<>();
+
+        private StrongInterner(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override
+        public T intern(T value) {
+            if (value == null) {
+                return null;
+            }
+            T canonical = values.get(value);
+            if (canonical != null) {
+                return canonical;
+            }
+            if (values.size() >= maxSize) {
+                return value;
+            }
+            canonical = values.putIfAbsent(value, value);
+            return canonical != null ? canonical : value;
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * Weak interner backed by a concurrent map from the weak keys of the values to themselves. The map is looked up
+     * with a strong key, so a lookup doesn't create a reference, and the keys of the collected values are removed
+     * when the interner is used.
+     */
+    private static final class WeakInterner<T> extends Interner<T> {
+
+        private final ConcurrentMap<Object, WeakKey<T>> values = new ConcurrentHashMap<>();
+        private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+        private WeakInterner(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override
+        public T intern(T value) {
+            if (value == null) {
+                return null;
+            }
+            expungeCollected();
+            WeakKey<T> key = values.get(new LookupKey(value));
+            T canonical = key != null ? key.get() : null;
+            if (canonical != null) {
+                return canonical;
+            }
+            if (values.size() >= maxSize) {
+                return value;
+            }
+            WeakKey<T> newKey = new WeakKey<>(value, collected);
+            while (true) {
+                key = values.putIfAbsent(newKey, newKey);
+                if (key == null) {
+                    return value;
+                }
+                canonical = key.get();
+                if (canonical != null) {
+                    return canonical;
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            expungeCollected();
+            return values.size();
+        }
+
+        private void expungeCollected() {
+            for (Reference<? extends T> reference; (reference = collected.poll()) != null; ) {
+                values.remove(reference);
+            }
+        }
+    }
+
+    /**
+     * Weak reference to a value that is equal to the references to equal values and, once the value is collected,
+     * only to itself.
+     */
+    private static final class WeakKey<T> extends WeakReference<T> {
+
+        private final int hash;
+
+        private WeakKey(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof WeakKey)) {
+                return false;
+            }
+            Object value = get();
+            return value != null && value.equals(((WeakKey<?>) o).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Strong key of a looked up value, equal to the weak key of an equal value.
+     */
+    private static final class LookupKey {
+
+        private final Object value;
+
+        private LookupKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof WeakKey && value.equals(((WeakKey<?>) o).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+}
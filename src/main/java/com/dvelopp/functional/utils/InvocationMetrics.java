@@ -0,0 +1,671 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.interfaces.TriConsumer;
+import com.dvelopp.functional.utils.interfaces.TriFunction;
+import com.dvelopp.functional.utils.interfaces.TriPredicate;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.*;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+import static java.lang.String.format;
+
+/**
+ * Counts and times the invocations of functions. The functions are decorated by the method named after their
+ * interface, e.g. {@link #function(Function)} or {@link #triPredicate(TriPredicate)}, and any number of functions can
+ * record into the same metrics:
+ * <pre>{@code
+ * InvocationMetrics metrics = InvocationMetrics.timed("price-lookup", 16).register();
+ * List<Price> prices = CollectionUtils.mapToList(orders, metrics.function(this::lookUpPrice));
+ * }</pre>
+ * The recording is lock-free: the counters are {@link LongAdder}s and the durations are kept in a histogram of
+ * {@link LongAdder} buckets, so concurrent invocations don't contend on a shared counter. The metrics created by
+ * {@link #counted(String)} only count the invocations; the timed metrics also read {@link System#nanoTime()} twice per
+ * timed invocation, and with sampling only a random one in the given number of invocations is timed. The metrics can
+ * be published over JMX with {@link #register()}.
+ *
+ * @since 1.3
+ */
+public final class InvocationMetrics implements InvocationMetricsMBean {
+
+    /**
+     * The domain of the JMX names of the registered metrics.
+     */
+    public static final String JMX_DOMAIN = "com.dvelopp.functional.utils";
+
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private final String name;
+    private final boolean timed;
+    private final int sampleEvery;
+    private final LongAdder invocations = new LongAdder();
+    private final LatencyHistogram histogram;
+
+    private InvocationMetrics(String name, boolean timed, int sampleEvery) {
+        requireNonNull(name);
+        if (sampleEvery < 1) {
+            throw new IllegalArgumentException(format("Illegal sampling interval: %d", sampleEvery));
+        }
+        this.name = name;
+        this.timed = timed;
+        this.sampleEvery = sampleEvery;
+        this.histogram = timed ? new LatencyHistogram() : null;
+    }
+
+    /**
+     * Creates metrics that count the invocations without timing them.
+     *
+     * @param name The name of the metrics.
+     * @return the new metrics.
+     */
+    public static InvocationMetrics counted(String name) {
+        return new InvocationMetrics(name, false, 1);
+    }
+
+    /**
+     * Creates metrics that count and time all invocations.
+     *
+     * @param name The name of the metrics.
+     * @return the new metrics.
+     */
+    public static InvocationMetrics timed(String name) {
+        return new InvocationMetrics(name, true, 1);
+    }
+
+    /**
+     * Creates metrics that count all invocations and time a random one in the given number of them.
+     *
+     * @param name        The name of the metrics.
+     * @param sampleEvery The average number of invocations per timed invocation.
+     * @return the new metrics.
+     * @throws IllegalArgumentException if the sampling interval is not positive.
+     */
+    public static InvocationMetrics timed(String name, int sampleEvery) {
+        return new InvocationMetrics(name, true, sampleEvery);
+    }
+
+    /**
+     * Decorates the {@link Runnable} to record its invocations in these metrics.
+     *
+     * @param decorated The Runnable to decorate.
+     * @return the decorated Runnable.
+     */
+    public Runnable runnable(Runnable decorated) {
+        requireNonNull(decorated);
+        return () -> {
+            long start = begin();
+            try {
+                decorated.run();
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link Supplier} to record its invocations in these metrics.
+     *
+     * @param decorated The Supplier to decorate.
+     * @param <T>       The result type.
+     * @return the decorated Supplier.
+     */
+    public <T> Supplier<T> supplier(Supplier<T> decorated) {
+        requireNonNull(decorated);
+        return () -> {
+            long start = begin();
+            try {
+                return decorated.get();
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link BooleanSupplier} to record its invocations in these metrics.
+     *
+     * @param decorated The BooleanSupplier to decorate.
+     * @return the decorated BooleanSupplier.
+     */
+    public BooleanSupplier booleanSupplier(BooleanSupplier decorated) {
+        requireNonNull(decorated);
+        return () -> {
+            long start = begin();
+            try {
+                return decorated.getAsBoolean();
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link Function} to record its invocations in these metrics.
+     *
+     * @param decorated The Function to decorate.
+     * @param <T>       The argument type.
+     * @param <R>       The result type.
+     * @return the decorated Function.
+     */
+    public <T, R> Function<T, R> function(Function<T, R> decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.apply(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link BiFunction} to record its invocations in these metrics.
+     *
+     * @param decorated The BiFunction to decorate.
+     * @param <T>       The first argument type.
+     * @param <U>       The second argument type.
+     * @param <R>       The result type.
+     * @return the decorated BiFunction.
+     */
+    public <T, U, R> BiFunction<T, U, R> biFunction(BiFunction<T, U, R> decorated) {
+        requireNonNull(decorated);
+        return (t, u) -> {
+            long start = begin();
+            try {
+                return decorated.apply(t, u);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link TriFunction} to record its invocations in these metrics.
+     *
+     * @param decorated The TriFunction to decorate.
+     * @param <T1>      The first argument type.
+     * @param <T2>      The second argument type.
+     * @param <T3>      The third argument type.
+     * @param <R>       The result type.
+     * @return the decorated TriFunction.
+     */
+    public <T1, T2, T3, R> TriFunction<T1, T2, T3, R> triFunction(TriFunction<T1, T2, T3, R> decorated) {
+        requireNonNull(decorated);
+        return (t1, t2, t3) -> {
+            long start = begin();
+            try {
+                return decorated.apply(t1, t2, t3);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link UnaryOperator} to record its invocations in these metrics.
+     *
+     * @param decorated The UnaryOperator to decorate.
+     * @param <T>       The operand and result type.
+     * @return the decorated UnaryOperator.
+     */
+    public <T> UnaryOperator<T> unaryOperator(UnaryOperator<T> decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.apply(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link BinaryOperator} to record its invocations in these metrics.
+     *
+     * @param decorated The BinaryOperator to decorate.
+     * @param <T>       The operand and result type.
+     * @return the decorated BinaryOperator.
+     */
+    public <T> BinaryOperator<T> binaryOperator(BinaryOperator<T> decorated) {
+        requireNonNull(decorated);
+        return (t, u) -> {
+            long start = begin();
+            try {
+                return decorated.apply(t, u);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link ToIntFunction} to record its invocations in these metrics.
+     *
+     * @param decorated The ToIntFunction to decorate.
+     * @param <T>       The argument type.
+     * @return the decorated ToIntFunction.
+     */
+    public <T> ToIntFunction<T> toIntFunction(ToIntFunction<T> decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.applyAsInt(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link ToLongFunction} to record its invocations in these metrics.
+     *
+     * @param decorated The ToLongFunction to decorate.
+     * @param <T>       The argument type.
+     * @return the decorated ToLongFunction.
+     */
+    public <T> ToLongFunction<T> toLongFunction(ToLongFunction<T> decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.applyAsLong(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link ToDoubleFunction} to record its invocations in these metrics.
+     *
+     * @param decorated The ToDoubleFunction to decorate.
+     * @param <T>       The argument type.
+     * @return the decorated ToDoubleFunction.
+     */
+    public <T> ToDoubleFunction<T> toDoubleFunction(ToDoubleFunction<T> decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.applyAsDouble(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link IntUnaryOperator} to record its invocations in these metrics.
+     *
+     * @param decorated The IntUnaryOperator to decorate.
+     * @return the decorated IntUnaryOperator.
+     */
+    public IntUnaryOperator intUnaryOperator(IntUnaryOperator decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.applyAsInt(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link LongUnaryOperator} to record its invocations in these metrics.
+     *
+     * @param decorated The LongUnaryOperator to decorate.
+     * @return the decorated LongUnaryOperator.
+     */
+    public LongUnaryOperator longUnaryOperator(LongUnaryOperator decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.applyAsLong(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link DoubleUnaryOperator} to record its invocations in these metrics.
+     *
+     * @param decorated The DoubleUnaryOperator to decorate.
+     * @return the decorated DoubleUnaryOperator.
+     */
+    public DoubleUnaryOperator doubleUnaryOperator(DoubleUnaryOperator decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.applyAsDouble(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link Consumer} to record its invocations in these metrics.
+     *
+     * @param decorated The Consumer to decorate.
+     * @param <T>       The argument type.
+     * @return the decorated Consumer.
+     */
+    public <T> Consumer<T> consumer(Consumer<T> decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                decorated.accept(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link BiConsumer} to record its invocations in these metrics.
+     *
+     * @param decorated The BiConsumer to decorate.
+     * @param <T>       The first argument type.
+     * @param <U>       The second argument type.
+     * @return the decorated BiConsumer.
+     */
+    public <T, U> BiConsumer<T, U> biConsumer(BiConsumer<T, U> decorated) {
+        requireNonNull(decorated);
+        return (t, u) -> {
+            long start = begin();
+            try {
+                decorated.accept(t, u);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link TriConsumer} to record its invocations in these metrics.
+     *
+     * @param decorated The TriConsumer to decorate.
+     * @param <T1>      The first argument type.
+     * @param <T2>      The second argument type.
+     * @param <T3>      The third argument type.
+     * @return the decorated TriConsumer.
+     */
+    public <T1, T2, T3> TriConsumer<T1, T2, T3> triConsumer(TriConsumer<T1, T2, T3> decorated) {
+        requireNonNull(decorated);
+        return (t1, t2, t3) -> {
+            long start = begin();
+            try {
+                decorated.accept(t1, t2, t3);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link Predicate} to record its invocations in these metrics.
+     *
+     * @param decorated The Predicate to decorate.
+     * @param <T>       The argument type.
+     * @return the decorated Predicate.
+     */
+    public <T> Predicate<T> predicate(Predicate<T> decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.test(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link BiPredicate} to record its invocations in these metrics.
+     *
+     * @param decorated The BiPredicate to decorate.
+     * @param <T>       The first argument type.
+     * @param <U>       The second argument type.
+     * @return the decorated BiPredicate.
+     */
+    public <T, U> BiPredicate<T, U> biPredicate(BiPredicate<T, U> decorated) {
+        requireNonNull(decorated);
+        return (t, u) -> {
+            long start = begin();
+            try {
+                return decorated.test(t, u);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link TriPredicate} to record its invocations in these metrics.
+     *
+     * @param decorated The TriPredicate to decorate.
+     * @param <T1>      The first argument type.
+     * @param <T2>      The second argument type.
+     * @param <T3>      The third argument type.
+     * @return the decorated TriPredicate.
+     */
+    public <T1, T2, T3> TriPredicate<T1, T2, T3> triPredicate(TriPredicate<T1, T2, T3> decorated) {
+        requireNonNull(decorated);
+        return (t1, t2, t3) -> {
+            long start = begin();
+            try {
+                return decorated.test(t1, t2, t3);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link IntPredicate} to record its invocations in these metrics.
+     *
+     * @param decorated The IntPredicate to decorate.
+     * @return the decorated IntPredicate.
+     */
+    public IntPredicate intPredicate(IntPredicate decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.test(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link LongPredicate} to record its invocations in these metrics.
+     *
+     * @param decorated The LongPredicate to decorate.
+     * @return the decorated LongPredicate.
+     */
+    public LongPredicate longPredicate(LongPredicate decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.test(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    /**
+     * Decorates the {@link DoublePredicate} to record its invocations in these metrics.
+     *
+     * @param decorated The DoublePredicate to decorate.
+     * @return the decorated DoublePredicate.
+     */
+    public DoublePredicate doublePredicate(DoublePredicate decorated) {
+        requireNonNull(decorated);
+        return t -> {
+            long start = begin();
+            try {
+                return decorated.test(t);
+            } finally {
+                end(start);
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    @Override
+    public long getSampleCount() {
+        return timed ? histogram.getCount() : 0;
+    }
+
+    @Override
+    public long getMeanNanos() {
+        long count = getSampleCount();
+        return count == 0 ? 0 : histogram.getTotalNanos() / count;
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return timed ? histogram.getMaxNanos() : 0;
+    }
+
+    @Override
+    public long getMedianNanos() {
+        return getPercentile(0.5, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long getPercentile90Nanos() {
+        return getPercentile(0.9, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long getPercentile99Nanos() {
+        return getPercentile(0.99, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the duration below which the given part of the timed invocations have completed. The durations are
+     * kept in buckets, so the result is the upper bound of the bucket of the percentile, which is at most 25% above
+     * the exact duration.
+     *
+     * @param percentile The percentile, between 0 and 1 inclusively.
+     * @param unit       The unit of the result.
+     * @return the duration of the percentile, or zero if no invocation has been timed.
+     * @throws IllegalArgumentException if the percentile isn't between 0 and 1.
+     */
+    public long getPercentile(double percentile, TimeUnit unit) {
+        if (!(percentile >= 0 && percentile <= 1)) {
+            throw new IllegalArgumentException(format("Illegal percentile: %s", percentile));
+        }
+        return timed ? unit.convert(histogram.getPercentileNanos(percentile), TimeUnit.NANOSECONDS) : 0;
+    }
+
+    @Override
+    public void reset() {
+        invocations.reset();
+        if (timed) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server under the name
+     * {@code com.dvelopp.functional.utils:type=InvocationMetrics,name=<name>}.
+     *
+     * @return these metrics.
+     * @throws IllegalStateException if the metrics can't be registered, e.g. because the name is already in use.
+     */
+    public InvocationMetrics register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, getObjectName());
+        } catch (JMException e) {
+            throw new IllegalStateException(format("Can't register metrics %s", name), e);
+        }
+        return this;
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server if they are registered.
+     */
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = getObjectName();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException(format("Can't unregister metrics %s", name), e);
+        }
+    }
+
+    /**
+     * Returns the JMX name of the metrics.
+     *
+     * @return the name of the MBean of the metrics.
+     * @throws IllegalStateException if the name of the metrics can't be part of a JMX name.
+     */
+    public ObjectName getObjectName() {
+        try {
+            return new ObjectName(format("%s:type=InvocationMetrics,name=%s", JMX_DOMAIN, ObjectName.quote(name)));
+        } catch (JMException e) {
+            throw new IllegalStateException(format("Illegal metrics name %s", name), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format("%s{name=%s, invocations=%d, samples=%d, meanNanos=%d, maxNanos=%d}",
+                getClass().getSimpleName(), name, getInvocationCount(), getSampleCount(), getMeanNanos(),
+                getMaxNanos());
+    }
+
+    /**
+     * Counts the invocation and starts its timing if it is sampled.
+     *
+     * @return the start time of the invocation, or {@link #NOT_TIMED}.
+     */
+    private long begin() {
+        invocations.increment();
+        if (!timed || sampleEvery > 1 && ThreadLocalRandom.current().nextInt(sampleEvery) != 0) {
+            return NOT_TIMED;
+        }
+        return System.nanoTime();
+    }
+
+    private void end(long start) {
+        if (start != NOT_TIMED) {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+}
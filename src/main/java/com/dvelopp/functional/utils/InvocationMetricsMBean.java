@@ -0,0 +1,55 @@
+package com.dvelopp.functional.utils;
+
+/**
+ * Management interface of {@link InvocationMetrics}, exposed over JMX by {@link InvocationMetrics#register()}.
+ *
+ * @since 1.3
+ */
+public interface InvocationMetricsMBean {
+
+    /**
+     * @return the name of the metrics.
+     */
+    String getName();
+
+    /**
+     * @return the number of invocations of the decorated functions.
+     */
+    long getInvocationCount();
+
+    /**
+     * @return the number of the timed invocations, a sample of the invocations when sampling is enabled.
+     */
+    long getSampleCount();
+
+    /**
+     * @return the mean duration of the timed invocations in nanoseconds, or zero if none has been timed.
+     */
+    long getMeanNanos();
+
+    /**
+     * @return the longest duration of the timed invocations in nanoseconds.
+     */
+    long getMaxNanos();
+
+    /**
+     * @return the median duration of the timed invocations in nanoseconds.
+     */
+    long getMedianNanos();
+
+    /**
+     * @return the 90th percentile of the durations of the timed invocations in nanoseconds.
+     */
+    long getPercentile90Nanos();
+
+    /**
+     * @return the 99th percentile of the durations of the timed invocations in nanoseconds.
+     */
+    long getPercentile99Nanos();
+
+    /**
+     * Clears the counters and the durations.
+     */
+    void reset();
+
+}
@@ -0,0 +1,174 @@
+package com.dvelopp.functional.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Primitive key version of {@link MultiIndex}. The keys are stored in a {@code long} table and are never boxed.
+ *
+ * @param <T> The elements type.
+ * @since 1.3
+ */
+public final class LongMultiIndex<T> {
+
+    private static final int FREE = -1;
+
+    private final long[] keys;
+    private final long[] table;
+    private final int[] tableIds;
+    private final GroupedValues<T> groups;
+
+    private LongMultiIndex(long[] keys, long[] table, int[] tableIds, GroupedValues<T> groups) {
+        this.keys = keys;
+        this.table = table;
+        this.tableIds = tableIds;
+        this.groups = groups;
+    }
+
+    /**
+     * Builds the index of the collection.
+     *
+     * @param collection   The source collection.
+     * @param keyExtractor The function to extract the key from an element.
+     * @param <T>          The elements type.
+     * @return the new index.
+     * @see MultiIndex#of(Collection, java.util.function.Function)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> LongMultiIndex<T> of(Collection<T> collection, ToLongFunction<? super T> keyExtractor) {
+        Object[] elements = collection.toArray();
+        int[] keyIds = new int[elements.length];
+        long[] keys = new long[Math.min(elements.length, 16)];
+        long[] table = new long[Hashing.tableCapacity(keys.length)];
+        int[] tableIds = newTableIds(table.length);
+        int keyCount = 0;
+        for (int i = 0; i < elements.length; i++) {
+            long key = keyExtractor.applyAsLong((T) elements[i]);
+            int slot = slot(table, tableIds, key);
+            if (tableIds[slot] == FREE) {
+                if (keyCount == keys.length) {
+                    keys = Arrays.copyOf(keys, keyCount << 1);
+                }
+                keys[keyCount] = key;
+                table[slot] = key;
+                tableIds[slot] = keyCount++;
+                if (keyCount > table.length >>> 1) {
+                    table = new long[table.length << 1];
+                    tableIds = newTableIds(table.length);
+                    for (int id = 0; id < keyCount; id++) {
+                        int newSlot = slot(table, tableIds, keys[id]);
+                        table[newSlot] = keys[id];
+                        tableIds[newSlot] = id;
+                    }
+                    slot = slot(table, tableIds, key);
+                }
+            }
+            keyIds[i] = tableIds[slot];
+        }
+        return new LongMultiIndex<>(Arrays.copyOf(keys, keyCount), table, tableIds,
+                new GroupedValues<>(elements, keyIds, keyCount));
+    }
+
+    /**
+     * Returns the elements with the given key.
+     *
+     * @param key The key.
+     * @return the unmodifiable list of elements with the key, empty if there are no such elements.
+     */
+    public List<T> get(long key) {
+        int id = tableIds[slot(table, tableIds, key)];
+        return id == FREE ? Collections.emptyList() : groups.group(id);
+    }
+
+    /**
+     * Returns the number of elements with the given key.
+     *
+     * @param key The key.
+     * @return the number of elements with the key.
+     */
+    public int count(long key) {
+        int id = tableIds[slot(table, tableIds, key)];
+        return id == FREE ? 0 : groups.groupSize(id);
+    }
+
+    /**
+     * Checks whether there are elements with the given key.
+     *
+     * @param key The key.
+     * @return true if there is at least one element with the key.
+     */
+    public boolean containsKey(long key) {
+        return tableIds[slot(table, tableIds, key)] != FREE;
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     *
+     * @return the number of distinct keys.
+     */
+    public int keyCount() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the number of indexed elements.
+     *
+     * @return the number of indexed elements.
+     */
+    public int size() {
+        return groups.size();
+    }
+
+    /**
+     * Performs the action for each key and the unmodifiable list of its elements.
+     *
+     * @param action The action to be performed for each key.
+     */
+    public void forEach(KeyGroupConsumer<T> action) {
+        requireNonNull(action);
+        for (int id = 0; id < keys.length; id++) {
+            action.accept(keys[id], groups.group(id));
+        }
+    }
+
+    /**
+     * Returns the slot that holds the key or the free slot where the key has to be placed.
+     */
+    private static int slot(long[] table, int[] tableIds, long key) {
+        int mask = table.length - 1;
+        int slot = (int) Hashing.mix(key) & mask;
+        while (tableIds[slot] != FREE && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int[] newTableIds(int capacity) {
+        int[] tableIds = new int[capacity];
+        Arrays.fill(tableIds, FREE);
+        return tableIds;
+    }
+
+    /**
+     * Consumer of a primitive key and the elements with that key.
+     *
+     * @param <T> The elements type.
+     */
+    @FunctionalInterface
+    public interface KeyGroupConsumer<T> {
+
+        /**
+         * Performs the operation on the key and its elements.
+         *
+         * @param key      The key.
+         * @param elements The unmodifiable list of elements with the key.
+         */
+        void accept(long key, List<T> elements);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.dvelopp.functional.utils;
+
+/**
+ * Minimal insert-only hash set of primitive longs with open addressing and linear probing. Zero marks a free slot in
+ * the table, so zero itself is tracked separately.
+ *
+ * @since 1.3
+ */
+final class LongOpenHashSet {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 8;
+
+    private long[] table;
+    private int size;
+    private boolean containsZero;
+
+    LongOpenHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    LongOpenHashSet(int expectedSize) {
+        table = new long[Hashing.tableCapacity(expectedSize)];
+    }
+
+    /**
+     * Adds the value to the set.
+     *
+     * @param value The value to add.
+     * @return true if the set didn't contain the value.
+     */
+    boolean add(long value) {
+        if (value == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        int mask = table.length - 1;
+        int index = (int) Hashing.mix(value) & mask;
+        long current;
+        while ((current = table[index]) != 0) {
+            if (current == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size > table.length >>> 1) {
+            resize();
+        }
+        return true;
+    }
+
+    private void resize() {
+        long[] oldTable = table;
+        table = new long[oldTable.length << 1];
+        int mask = table.length - 1;
+        for (long value : oldTable) {
+            if (value != 0) {
+                int index = (int) Hashing.mix(value) & mask;
+                while (table[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,334 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.interfaces.TriFunction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Mapping loops specialized per mapper class. When one loop is shared by many call sites, the JIT sees many mapper
+ * classes at its {@code mapper.apply} call and can't inline any of them. The specializer gives each mapper class its
+ * own copy of the loop: the bytes of a template loop class are defined again in a dedicated class loader, so each
+ * copy is a separate class with its own profile, in which the mapper call stays monomorphic and can be inlined. The
+ * copies are cached per mapper class with a {@link ClassValue}. The mappers returned by
+ * {@link FunctionUtils#function(BiFunction, Object)} and {@link FunctionUtils#function(TriFunction, Object, Object)}
+ * have one class for all actions, so they are keyed by the class of their action instead, and the copies call the
+ * action with the bound arguments directly.
+ * <p>
+ * The specialization is opt-in: the methods of this class can be called directly, and the
+ * {@value #ENABLED_PROPERTY} system property set to {@code true} makes {@link CollectionUtils#mapToList},
+ * {@link CollectionUtils#mapToSet} and {@link CollectionUtils#groupingBy(Collection, Function)} use them. Each
+ * distinct mapper class costs a loaded class, so the specializer suits applications with a bounded number of hot
+ * mapping sites. If the template can't be copied, e.g. because of a security manager, the shared loop is used.
+ *
+ * @since 1.3
+ */
+public final class LoopSpecializer {
+
+    public static final String ENABLED_PROPERTY = "com.dvelopp.functional.utils.specializeLoops";
+
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final LoopCache MAP_TO_LIST_LOOPS = new LoopCache(MapToListLoop.class);
+    private static final LoopCache MAP_TO_SET_LOOPS = new LoopCache(MapToSetLoop.class);
+    private static final LoopCache GROUPING_BY_LOOPS = new LoopCache(GroupingByLoop.class);
+
+    private LoopSpecializer() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Specialized version of {@link CollectionUtils#mapToList(Collection, Function)}.
+     *
+     * @param collection The source collection.
+     * @param mapper     The function to apply to each element.
+     * @param <T>        The source collection elements type.
+     * @param <R>        The target list elements type.
+     * @return the new list that contains result of applying the function for elements of given collection.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> mapToList(Collection<T> collection, Function<? super T, ? extends R> mapper) {
+        requireNonNull(collection, mapper);
+        return (List<R>) loop(MAP_TO_LIST_LOOPS, mapper).apply(collection, mapper);
+    }
+
+    /**
+     * Specialized version of {@link CollectionUtils#mapToSet(Collection, Function)}.
+     *
+     * @param collection The source collection.
+     * @param mapper     The function to apply to each element.
+     * @param <T>        The source collection elements type.
+     * @param <R>        The target set elements type.
+     * @return the new set that contains result of applying the function for elements of given collection.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Set<R> mapToSet(Collection<T> collection, Function<? super T, ? extends R> mapper) {
+        requireNonNull(collection, mapper);
+        return (Set<R>) loop(MAP_TO_SET_LOOPS, mapper).apply(collection, mapper);
+    }
+
+    /**
+     * Specialized version of {@link CollectionUtils#groupingBy(Collection, Function)}.
+     *
+     * @param collection The source collection.
+     * @param classifier The classifier function to apply to each element to get a key.
+     * @param <T>        The source and target inner collection elements type.
+     * @param <K>        The target map keys type.
+     * @return the new map containing mapped key/value pairs of grouped result.
+     * @throws NullPointerException if an element is mapped to a null key.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, K> Map<K, List<T>> groupingBy(Collection<T> collection,
+                                                    Function<? super T, ? extends K> classifier) {
+        requireNonNull(collection, classifier);
+        return (Map<K, List<T>>) loop(GROUPING_BY_LOOPS, classifier).apply(collection, classifier);
+    }
+
+    /**
+     * Returns the loop used for the mapper, exposed for the tests.
+     */
+    static Object mapToListLoop(Function<?, ?> mapper) {
+        return MAP_TO_LIST_LOOPS.get(specializationClass(mapper));
+    }
+
+    private static BiFunction<Collection<?>, Function<?, ?>, Object> loop(LoopCache loops, Function<?, ?> mapper) {
+        return loops.get(specializationClass(mapper));
+    }
+
+    /**
+     * Returns the class whose calls the loop has to see monomorphic: the class of the action for the bound functions
+     * and the class of the mapper itself otherwise.
+     */
+    private static Class<?> specializationClass(Function<?, ?> mapper) {
+        if (mapper instanceof BoundBiFunction) {
+            return ((BoundBiFunction<?, ?, ?>) mapper).getAction().getClass();
+        }
+        if (mapper instanceof BoundTriFunction) {
+            return ((BoundTriFunction<?, ?, ?, ?>) mapper).getAction().getClass();
+        }
+        return mapper.getClass();
+    }
+
+    /**
+     * Cache of the copies of a loop template per mapper class. The loops are typed with public types only, because
+     * the copies are defined in their own class loaders and can't access the package private types of this package.
+     */
+    private static final class LoopCache extends ClassValue<BiFunction<Collection<?>, Function<?, ?>, Object>> {
+
+        private final Class<? extends BiFunction<Collection<?>, Function<?, ?>, Object>> template;
+        private volatile byte[] templateBytes;
+        private volatile BiFunction<Collection<?>, Function<?, ?>, Object> sharedLoop;
+
+        private LoopCache(Class<? extends BiFunction<Collection<?>, Function<?, ?>, Object>> template) {
+            this.template = template;
+        }
+
+        @Override
+        protected BiFunction<Collection<?>, Function<?, ?>, Object> computeValue(Class<?> mapperClass) {
+            try {
+                return newInstance(new CopyingClassLoader(template, bytes()).loadClass(template.getName()));
+            } catch (IOException | ReflectiveOperationException | SecurityException | LinkageError e) {
+                return sharedLoop();
+            }
+        }
+
+        private byte[] bytes() throws IOException {
+            byte[] bytes = templateBytes;
+            if (bytes == null) {
+                String name = template.getName();
+                try (InputStream input = template.getResourceAsStream(
+                        name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+                    if (input == null) {
+                        throw new IOException("Can't read the class file of " + name);
+                    }
+                    ByteArrayOutputStream output = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[4096];
+                    for (int read; (read = input.read(buffer)) != -1; ) {
+                        output.write(buffer, 0, read);
+                    }
+                    bytes = templateBytes = output.toByteArray();
+                }
+            }
+            return bytes;
+        }
+
+        private BiFunction<Collection<?>, Function<?, ?>, Object> sharedLoop() {
+            BiFunction<Collection<?>, Function<?, ?>, Object> loop = sharedLoop;
+            if (loop == null) {
+                try {
+                    loop = sharedLoop = newInstance(template);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return loop;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static BiFunction<Collection<?>, Function<?, ?>, Object> newInstance(Class<?> type)
+                throws ReflectiveOperationException {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return (BiFunction<Collection<?>, Function<?, ?>, Object>) constructor.newInstance();
+        }
+    }
+
+    /**
+     * Class loader that defines its own copy of one class and delegates all other classes to the loader of that
+     * class.
+     */
+    private static final class CopyingClassLoader extends ClassLoader {
+
+        private final String name;
+        private final byte[] bytes;
+
+        private CopyingClassLoader(Class<?> type, byte[] bytes) {
+            super(type.getClassLoader());
+            this.name = type.getName();
+            this.bytes = bytes;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(this.name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                return type != null ? type : defineClass(name, bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    /*
+     * The templates must reference only JDK types and public types of the library and must not use lambdas, since
+     * their copies live in other class loaders. The bound actions are called in loops of their own, so that these
+     * calls are profiled per copy as well.
+     */
+
+    private static final class MapToListLoop implements BiFunction<Collection<?>, Function<?, ?>, Object> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object apply(Collection<?> collection, Function<?, ?> function) {
+            List<Object> result = new ArrayList<>(collection.size());
+            if (function instanceof BoundBiFunction) {
+                BoundBiFunction<Object, Object, Object> bound = (BoundBiFunction<Object, Object, Object>) function;
+                BiFunction<Object, Object, Object> action = bound.getAction();
+                Object arg = bound.getArg();
+                for (Object element : collection) {
+                    result.add(action.apply(element, arg));
+                }
+                return result;
+            }
+            if (function instanceof BoundTriFunction) {
+                BoundTriFunction<Object, Object, Object, Object> bound =
+                        (BoundTriFunction<Object, Object, Object, Object>) function;
+                TriFunction<Object, Object, Object, Object> action = bound.getAction();
+                Object firstArg = bound.getFirstArg();
+                Object secondArg = bound.getSecondArg();
+                for (Object element : collection) {
+                    result.add(action.apply(element, firstArg, secondArg));
+                }
+                return result;
+            }
+            Function<Object, Object> mapper = (Function<Object, Object>) function;
+            if (collection instanceof RandomAccess && collection instanceof List) {
+                List<?> list = (List<?>) collection;
+                for (int i = 0, size = list.size(); i < size; i++) {
+                    result.add(mapper.apply(list.get(i)));
+                }
+            } else {
+                for (Object element : collection) {
+                    result.add(mapper.apply(element));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class MapToSetLoop implements BiFunction<Collection<?>, Function<?, ?>, Object> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object apply(Collection<?> collection, Function<?, ?> function) {
+            Set<Object> result = new HashSet<>(Math.max(16, (int) (collection.size() / .75f) + 1));
+            if (function instanceof BoundBiFunction) {
+                BoundBiFunction<Object, Object, Object> bound = (BoundBiFunction<Object, Object, Object>) function;
+                BiFunction<Object, Object, Object> action = bound.getAction();
+                Object arg = bound.getArg();
+                for (Object element : collection) {
+                    result.add(action.apply(element, arg));
+                }
+                return result;
+            }
+            if (function instanceof BoundTriFunction) {
+                BoundTriFunction<Object, Object, Object, Object> bound =
+                        (BoundTriFunction<Object, Object, Object, Object>) function;
+                TriFunction<Object, Object, Object, Object> action = bound.getAction();
+                Object firstArg = bound.getFirstArg();
+                Object secondArg = bound.getSecondArg();
+                for (Object element : collection) {
+                    result.add(action.apply(element, firstArg, secondArg));
+                }
+                return result;
+            }
+            Function<Object, Object> mapper = (Function<Object, Object>) function;
+            for (Object element : collection) {
+                result.add(mapper.apply(element));
+            }
+            return result;
+        }
+    }
+
+    private static final class GroupingByLoop implements BiFunction<Collection<?>, Function<?, ?>, Object> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object apply(Collection<?> collection, Function<?, ?> function) {
+            Map<Object, List<Object>> result = new HashMap<>();
+            if (function instanceof BoundBiFunction) {
+                BoundBiFunction<Object, Object, Object> bound = (BoundBiFunction<Object, Object, Object>) function;
+                BiFunction<Object, Object, Object> action = bound.getAction();
+                Object arg = bound.getArg();
+                for (Object element : collection) {
+                    add(result, action.apply(element, arg), element);
+                }
+                return result;
+            }
+            if (function instanceof BoundTriFunction) {
+                BoundTriFunction<Object, Object, Object, Object> bound =
+                        (BoundTriFunction<Object, Object, Object, Object>) function;
+                TriFunction<Object, Object, Object, Object> action = bound.getAction();
+                Object firstArg = bound.getFirstArg();
+                Object secondArg = bound.getSecondArg();
+                for (Object element : collection) {
+                    add(result, action.apply(element, firstArg, secondArg), element);
+                }
+                return result;
+            }
+            Function<Object, Object> classifier = (Function<Object, Object>) function;
+            for (Object element : collection) {
+                add(result, classifier.apply(element), element);
+            }
+            return result;
+        }
+
+        private static void add(Map<Object, List<Object>> groups, Object key, Object element) {
+            List<Object> group = groups.get(Objects.requireNonNull(key, "element cannot be mapped to a null key"));
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(key, group);
+            }
+            group.add(element);
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.dvelopp.functional.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+
+/**
+ * Immutable multimap from keys to the elements of a collection, built once and optimized for reads. Unlike a
+ * {@code Map<K, List<T>>} it doesn't allocate a list and a map entry per key: the elements of all keys are stored in
+ * one array ordered by key, the keys are stored in an open addressing table that points to the ranges of that array.
+ * <p>
+ * The keys are iterated in the order they were first seen in the collection, the elements of a key keep the order of
+ * the collection.
+ *
+ * @param <K> The keys type.
+ * @param <T> The elements type.
+ * @since 1.3
+ */
+public final class MultiIndex<K, T> {
+
+    private static final int FREE = -1;
+
+    private final Object[] keys;
+    private final Object[] table;
+    private final int[] tableIds;
+    private final GroupedValues<T> groups;
+
+    private MultiIndex(Object[] keys, Object[] table, int[] tableIds, GroupedValues<T> groups) {
+        this.keys = keys;
+        this.table = table;
+        this.tableIds = tableIds;
+        this.groups = groups;
+    }
+
+    /**
+     * Builds the index of the collection in two passes: the first one assigns dense ids to the keys, the second one
+     * places the elements into the ranges of their keys.
+     *
+     * @param collection   The source collection.
+     * @param keyExtractor The function to extract the key from an element.
+     * @param <K>          The keys type.
+     * @param <T>          The elements type.
+     * @return the new index.
+     * @throws NullPointerException if an element is mapped to a null key.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, T> MultiIndex<K, T> of(Collection<T> collection, Function<? super T, ? extends K> keyExtractor) {
+        Object[] elements = collection.toArray();
+        int[] keyIds = new int[elements.length];
+        Object[] keys = new Object[Math.min(elements.length, 16)];
+        Object[] table = new Object[Hashing.tableCapacity(keys.length)];
+        int[] tableIds = newTableIds(table.length);
+        int keyCount = 0;
+        for (int i = 0; i < elements.length; i++) {
+            Object key = requireNonNull(keyExtractor.apply((T) elements[i]), "element cannot be mapped to a null key");
+            int slot = slot(table, tableIds, key);
+            if (tableIds[slot] == FREE) {
+                if (keyCount == keys.length) {
+                    keys = Arrays.copyOf(keys, keyCount << 1);
+                }
+                keys[keyCount] = key;
+                table[slot] = key;
+                tableIds[slot] = keyCount++;
+                if (keyCount > table.length >>> 1) {
+                    table = new Object[table.length << 1];
+                    tableIds = newTableIds(table.length);
+                    for (int id = 0; id < keyCount; id++) {
+                        int newSlot = slot(table, tableIds, keys[id]);
+                        table[newSlot] = keys[id];
+                        tableIds[newSlot] = id;
+                    }
+                    slot = slot(table, tableIds, key);
+                }
+            }
+            keyIds[i] = tableIds[slot];
+        }
+        return new MultiIndex<>(Arrays.copyOf(keys, keyCount), table, tableIds,
+                new GroupedValues<>(elements, keyIds, keyCount));
+    }
+
+    /**
+     * Returns the elements with the given key.
+     *
+     * @param key The key.
+     * @return the unmodifiable list of elements with the key, empty if there are no such elements.
+     */
+    public List<T> get(Object key) {
+        int id = idOf(key);
+        return id == FREE ? Collections.emptyList() : groups.group(id);
+    }
+
+    /**
+     * Returns the number of elements with the given key.
+     *
+     * @param key The key.
+     * @return the number of elements with the key.
+     */
+    public int count(Object key) {
+        int id = idOf(key);
+        return id == FREE ? 0 : groups.groupSize(id);
+    }
+
+    /**
+     * Checks whether there are elements with the given key.
+     *
+     * @param key The key.
+     * @return true if there is at least one element with the key.
+     */
+    public boolean containsKey(Object key) {
+        return idOf(key) != FREE;
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     *
+     * @return the number of distinct keys.
+     */
+    public int keyCount() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the number of indexed elements.
+     *
+     * @return the number of indexed elements.
+     */
+    public int size() {
+        return groups.size();
+    }
+
+    /**
+     * Performs the action for each key and the unmodifiable list of its elements.
+     *
+     * @param action The action to be performed for each key.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super List<T>> action) {
+        requireNonNull(action);
+        for (int id = 0; id < keys.length; id++) {
+            action.accept((K) keys[id], groups.group(id));
+        }
+    }
+
+    private int idOf(Object key) {
+        return key == null ? FREE : tableIds[slot(table, tableIds, key)];
+    }
+
+    /**
+     * Returns the slot that holds the key or the free slot where the key has to be placed.
+     */
+    private static int slot(Object[] table, int[] tableIds, Object key) {
+        int mask = table.length - 1;
+        int slot = Hashing.spread(key.hashCode()) & mask;
+        while (tableIds[slot] != FREE && !table[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int[] newTableIds(int capacity) {
+        int[] tableIds = new int[capacity];
+        Arrays.fill(tableIds, FREE);
+        return tableIds;
+    }
+
+}
@@ -0,0 +1,490 @@
+package com.dvelopp.functional.utils;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+import static java.lang.String.format;
+
+/**
+ * Aggregations and element-wise arithmetic over primitive arrays. On JDK 17 or newer, when the
+ * {@code jdk.incubator.vector} module is added to the JVM with {@code --add-modules jdk.incubator.vector}, the kernels
+ * use the Vector API, which is compiled into the SIMD instructions of the platform. Otherwise they are plain counted
+ * loops over the arrays without boxing, lambdas or branches in the loop body, which is the shape the JIT compiler
+ * unrolls and auto-vectorizes where it can. Reductions keep several independent accumulators, so the additions of
+ * neighbouring elements don't wait for each other. The histograms always use scalar loops.
+ * <p>
+ * The sums of {@code double} values are computed in interleaved partial sums, one per vector lane or four in the
+ * scalar loops, so they can differ in the last bits from the sum computed in the order of the array.
+ *
+ * @since 1.3
+ */
+public final class NumericKernels {
+
+    private static final String VECTOR_KERNELS_CLASS = "com.dvelopp.functional.utils.VectorKernels";
+
+    static final ArrayKernels KERNELS = loadKernels();
+
+    private NumericKernels() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the sum of the values.
+     *
+     * @param values The values to sum.
+     * @return the sum of the values as a {@code long}, so it doesn't overflow for any array of {@code int} values.
+     */
+    public static long sum(int[] values) {
+        requireNonNull(values);
+        return KERNELS.sum(values);
+    }
+
+    /**
+     * Returns the sum of the values.
+     *
+     * @param values The values to sum.
+     * @return the sum of the values.
+     */
+    public static long sum(long[] values) {
+        requireNonNull(values);
+        return KERNELS.sum(values);
+    }
+
+    /**
+     * Returns the sum of the values.
+     *
+     * @param values The values to sum.
+     * @return the sum of the values.
+     */
+    public static double sum(double[] values) {
+        requireNonNull(values);
+        return KERNELS.sum(values);
+    }
+
+    /**
+     * Returns the minimum of the values.
+     *
+     * @param values The values.
+     * @return the minimum of the values or an empty optional if the array is empty.
+     */
+    public static OptionalInt min(int[] values) {
+        requireNonNull(values);
+        return values.length == 0 ? OptionalInt.empty() : OptionalInt.of(KERNELS.min(values));
+    }
+
+    /**
+     * Returns the minimum of the values.
+     *
+     * @param values The values.
+     * @return the minimum of the values or an empty optional if the array is empty.
+     */
+    public static OptionalLong min(long[] values) {
+        requireNonNull(values);
+        return values.length == 0 ? OptionalLong.empty() : OptionalLong.of(KERNELS.min(values));
+    }
+
+    /**
+     * Returns the minimum of the values. As in {@link Math#min(double, double)}, the minimum is {@code NaN} if any
+     * value is {@code NaN}.
+     *
+     * @param values The values.
+     * @return the minimum of the values or an empty optional if the array is empty.
+     */
+    public static OptionalDouble min(double[] values) {
+        requireNonNull(values);
+        return values.length == 0 ? OptionalDouble.empty() : OptionalDouble.of(KERNELS.min(values));
+    }
+
+    /**
+     * Returns the maximum of the values.
+     *
+     * @param values The values.
+     * @return the maximum of the values or an empty optional if the array is empty.
+     */
+    public static OptionalInt max(int[] values) {
+        requireNonNull(values);
+        return values.length == 0 ? OptionalInt.empty() : OptionalInt.of(KERNELS.max(values));
+    }
+
+    /**
+     * Returns the maximum of the values.
+     *
+     * @param values The values.
+     * @return the maximum of the values or an empty optional if the array is empty.
+     */
+    public static OptionalLong max(long[] values) {
+        requireNonNull(values);
+        return values.length == 0 ? OptionalLong.empty() : OptionalLong.of(KERNELS.max(values));
+    }
+
+    /**
+     * Returns the maximum of the values. As in {@link Math#max(double, double)}, the maximum is {@code NaN} if any
+     * value is {@code NaN}.
+     *
+     * @param values The values.
+     * @return the maximum of the values or an empty optional if the array is empty.
+     */
+    public static OptionalDouble max(double[] values) {
+        requireNonNull(values);
+        return values.length == 0 ? OptionalDouble.empty() : OptionalDouble.of(KERNELS.max(values));
+    }
+
+    /**
+     * Returns the arithmetic mean of the values.
+     *
+     * @param values The values.
+     * @return the mean of the values or an empty optional if the array is empty.
+     */
+    public static OptionalDouble average(int[] values) {
+        return values.length == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sum(values) / values.length);
+    }
+
+    /**
+     * Returns the arithmetic mean of the values.
+     *
+     * @param values The values.
+     * @return the mean of the values or an empty optional if the array is empty.
+     */
+    public static OptionalDouble average(long[] values) {
+        return values.length == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sum(values) / values.length);
+    }
+
+    /**
+     * Returns the arithmetic mean of the values.
+     *
+     * @param values The values.
+     * @return the mean of the values or an empty optional if the array is empty.
+     */
+    public static OptionalDouble average(double[] values) {
+        return values.length == 0 ? OptionalDouble.empty() : OptionalDouble.of(sum(values) / values.length);
+    }
+
+    /**
+     * Returns the number of the values in the range.
+     *
+     * @param values The values.
+     * @param from   The lower bound of the range, inclusive.
+     * @param to     The upper bound of the range, exclusive.
+     * @return the number of the values that are greater than or equal to {@code from} and less than {@code to}.
+     */
+    public static int count(int[] values, int from, int to) {
+        requireNonNull(values);
+        return KERNELS.count(values, from, to);
+    }
+
+    /**
+     * Returns the number of the values in the range.
+     *
+     * @param values The values.
+     * @param from   The lower bound of the range, inclusive.
+     * @param to     The upper bound of the range, exclusive.
+     * @return the number of the values that are greater than or equal to {@code from} and less than {@code to}.
+     */
+    public static int count(long[] values, long from, long to) {
+        requireNonNull(values);
+        return KERNELS.count(values, from, to);
+    }
+
+    /**
+     * Returns the number of the values in the range. {@code NaN} values are not in any range.
+     *
+     * @param values The values.
+     * @param from   The lower bound of the range, inclusive.
+     * @param to     The upper bound of the range, exclusive.
+     * @return the number of the values that are greater than or equal to {@code from} and less than {@code to}.
+     */
+    public static int count(double[] values, double from, double to) {
+        requireNonNull(values);
+        return KERNELS.count(values, from, to);
+    }
+
+    /**
+     * Counts the values per bucket of equal width. The bucket {@code i} holds the values from
+     * {@code from + i * bucketWidth}, inclusive, to {@code from + (i + 1) * bucketWidth}, exclusive. The values outside
+     * of all buckets are not counted.
+     *
+     * @param values      The values.
+     * @param from        The lower bound of the first bucket, inclusive.
+     * @param bucketWidth The width of each bucket.
+     * @param bucketCount The number of buckets.
+     * @return the array of the numbers of the values in each bucket.
+     * @throws IllegalArgumentException if the bucket width or the number of buckets is not positive.
+     */
+    public static int[] histogram(int[] values, int from, int bucketWidth, int bucketCount) {
+        requireNonNull(values);
+        checkBuckets(bucketWidth, bucketCount);
+        int[] counts = new int[bucketCount];
+        for (int value : values) {
+            long bucket = ((long) value - from) / bucketWidth;
+            if (value >= from && bucket < bucketCount) {
+                counts[(int) bucket]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the values per bucket of equal width. The bucket {@code i} holds the values from
+     * {@code from + i * bucketWidth}, inclusive, to {@code from + (i + 1) * bucketWidth}, exclusive. The values outside
+     * of all buckets are not counted.
+     *
+     * @param values      The values.
+     * @param from        The lower bound of the first bucket, inclusive.
+     * @param bucketWidth The width of each bucket.
+     * @param bucketCount The number of buckets.
+     * @return the array of the numbers of the values in each bucket.
+     * @throws IllegalArgumentException if the bucket width or the number of buckets is not positive.
+     */
+    public static int[] histogram(long[] values, long from, long bucketWidth, int bucketCount) {
+        requireNonNull(values);
+        checkBuckets(bucketWidth, bucketCount);
+        int[] counts = new int[bucketCount];
+        for (long value : values) {
+            if (value >= from) {
+                long bucket = Long.divideUnsigned(value - from, bucketWidth);
+                if (bucket < bucketCount) {
+                    counts[(int) bucket]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the values per bucket, splitting the range into buckets of equal width. The values outside of the range
+     * and {@code NaN} values are not counted.
+     *
+     * @param values      The values.
+     * @param from        The lower bound of the range, inclusive.
+     * @param to          The upper bound of the range, exclusive.
+     * @param bucketCount The number of buckets.
+     * @return the array of the numbers of the values in each bucket.
+     * @throws IllegalArgumentException if the range is empty or the number of buckets is not positive.
+     */
+    public static int[] histogram(double[] values, double from, double to, int bucketCount) {
+        requireNonNull(values);
+        if (!(from < to) || Double.isInfinite(to - from)) {
+            throw new IllegalArgumentException(format("Illegal range: [%s, %s)", from, to));
+        }
+        checkBuckets(1, bucketCount);
+        int[] counts = new int[bucketCount];
+        double scale = bucketCount / (to - from);
+        for (double value : values) {
+            if (value >= from && value < to) {
+                counts[Math.min((int) ((value - from) * scale), bucketCount - 1)]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Adds the values of the arrays element by element.
+     *
+     * @param left  The first array.
+     * @param right The second array.
+     * @return the new array with the sums of the elements of the arrays at the same index.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public static int[] add(int[] left, int[] right) {
+        checkLengths(left.length, right.length);
+        int[] result = new int[left.length];
+        KERNELS.add(left, right, result);
+        return result;
+    }
+
+    /**
+     * Adds the values of the arrays element by element.
+     *
+     * @param left  The first array.
+     * @param right The second array.
+     * @return the new array with the sums of the elements of the arrays at the same index.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public static long[] add(long[] left, long[] right) {
+        checkLengths(left.length, right.length);
+        long[] result = new long[left.length];
+        KERNELS.add(left, right, result);
+        return result;
+    }
+
+    /**
+     * Adds the values of the arrays element by element.
+     *
+     * @param left  The first array.
+     * @param right The second array.
+     * @return the new array with the sums of the elements of the arrays at the same index.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public static double[] add(double[] left, double[] right) {
+        checkLengths(left.length, right.length);
+        double[] result = new double[left.length];
+        KERNELS.add(left, right, result);
+        return result;
+    }
+
+    /**
+     * Subtracts the values of the second array from the values of the first one element by element.
+     *
+     * @param left  The array of the minuends.
+     * @param right The array of the subtrahends.
+     * @return the new array with the differences of the elements of the arrays at the same index.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public static int[] subtract(int[] left, int[] right) {
+        checkLengths(left.length, right.length);
+        int[] result = new int[left.length];
+        KERNELS.subtract(left, right, result);
+        return result;
+    }
+
+    /**
+     * Subtracts the values of the second array from the values of the first one element by element.
+     *
+     * @param left  The array of the minuends.
+     * @param right The array of the subtrahends.
+     * @return the new array with the differences of the elements of the arrays at the same index.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public static long[] subtract(long[] left, long[] right) {
+        checkLengths(left.length, right.length);
+        long[] result = new long[left.length];
+        KERNELS.subtract(left, right, result);
+        return result;
+    }
+
+    /**
+     * Subtracts the values of the second array from the values of the first one element by element.
+     *
+     * @param left  The array of the minuends.
+     * @param right The array of the subtrahends.
+     * @return the new array with the differences of the elements of the arrays at the same index.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public static double[] subtract(double[] left, double[] right) {
+        checkLengths(left.length, right.length);
+        double[] result = new double[left.length];
+        KERNELS.subtract(left, right, result);
+        return result;
+    }
+
+    /**
+     * Multiplies the values of the arrays element by element.
+     *
+     * @param left  The first array.
+     * @param right The second array.
+     * @return the new array with the products of the elements of the arrays at the same index.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public static int[] multiply(int[] left, int[] right) {
+        checkLengths(left.length, right.length);
+        int[] result = new int[left.length];
+        KERNELS.multiply(left, right, result);
+        return result;
+    }
+
+    /**
+     * Multiplies the values of the arrays element by element.
+     *
+     * @param left  The first array.
+     * @param right The second array.
+     * @return the new array with the products of the elements of the arrays at the same index.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public static long[] multiply(long[] left, long[] right) {
+        checkLengths(left.length, right.length);
+        long[] result = new long[left.length];
+        KERNELS.multiply(left, right, result);
+        return result;
+    }
+
+    /**
+     * Multiplies the values of the arrays element by element.
+     *
+     * @param left  The first array.
+     * @param right The second array.
+     * @return the new array with the products of the elements of the arrays at the same index.
+     * @throws IllegalArgumentException if the arrays have different lengths.
+     */
+    public static double[] multiply(double[] left, double[] right) {
+        checkLengths(left.length, right.length);
+        double[] result = new double[left.length];
+        KERNELS.multiply(left, right, result);
+        return result;
+    }
+
+    /**
+     * Multiplies each value by the factor.
+     *
+     * @param values The values.
+     * @param factor The factor.
+     * @return the new array with the products of the values and the factor.
+     */
+    public static int[] scale(int[] values, int factor) {
+        int[] result = new int[values.length];
+        KERNELS.scale(values, factor, result);
+        return result;
+    }
+
+    /**
+     * Multiplies each value by the factor.
+     *
+     * @param values The values.
+     * @param factor The factor.
+     * @return the new array with the products of the values and the factor.
+     */
+    public static long[] scale(long[] values, long factor) {
+        long[] result = new long[values.length];
+        KERNELS.scale(values, factor, result);
+        return result;
+    }
+
+    /**
+     * Multiplies each value by the factor.
+     *
+     * @param values The values.
+     * @param factor The factor.
+     * @return the new array with the products of the values and the factor.
+     */
+    public static double[] scale(double[] values, double factor) {
+        double[] result = new double[values.length];
+        KERNELS.scale(values, factor, result);
+        return result;
+    }
+
+    private static ArrayKernels loadKernels() {
+        ArrayKernels vectorKernels = loadVectorKernels();
+        return vectorKernels != null ? vectorKernels : new ScalarKernels();
+    }
+
+    /**
+     * Loads the Vector API kernels, or returns {@code null} if the JDK doesn't provide the
+     * {@code jdk.incubator.vector} module or the library has been built without the kernels.
+     */
+    static ArrayKernels loadVectorKernels() {
+        try {
+            return Class.forName(VECTOR_KERNELS_CLASS, true, NumericKernels.class.getClassLoader())
+                    .asSubclass(ArrayKernels.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static void checkBuckets(long bucketWidth, int bucketCount) {
+        if (bucketWidth < 1) {
+            throw new IllegalArgumentException(format("Illegal bucket width: %d", bucketWidth));
+        }
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException(format("Illegal number of buckets: %d", bucketCount));
+        }
+    }
+
+    private static void checkLengths(int leftLength, int rightLength) {
+        if (leftLength != rightLength) {
+            throw new IllegalArgumentException(format("Illegal array length: %d, expected: %d", rightLength,
+                    leftLength));
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.dvelopp.functional.utils;
+
+import java.util.Objects;
+
+/**
+ * Minimal insert-only hash set with open addressing and linear probing. Unlike {@link java.util.HashSet} it doesn't
+ * allocate a node per element, the elements are stored directly in the table.
+ *
+ * @since 1.3
+ */
+final class ObjectOpenHashSet {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 8;
+
+    private Object[] table;
+    private int size;
+    private boolean containsNull;
+
+    ObjectOpenHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    ObjectOpenHashSet(int expectedSize) {
+        table = new Object[Hashing.tableCapacity(expectedSize)];
+    }
+
+    /**
+     * Adds the element to the set.
+     *
+     * @param element The element to add, can be null.
+     * @return true if the set didn't contain the element.
+     */
+    boolean add(Object element) {
+        if (element == null) {
+            boolean added = !containsNull;
+            containsNull = true;
+            return added;
+        }
+        int mask = table.length - 1;
+        int index = Hashing.spread(element.hashCode()) & mask;
+        Object current;
+        while ((current = table[index]) != null) {
+            if (Objects.equals(current, element)) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = element;
+        if (++size > table.length >>> 1) {
+            resize();
+        }
+        return true;
+    }
+
+    private void resize() {
+        Object[] oldTable = table;
+        table = new Object[oldTable.length << 1];
+        int mask = table.length - 1;
+        for (Object element : oldTable) {
+            if (element != null) {
+                int index = Hashing.spread(element.hashCode()) & mask;
+                while (table[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = element;
+            }
+        }
+    }
+
+}
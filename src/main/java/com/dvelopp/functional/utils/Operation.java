@@ -0,0 +1,92 @@
+package com.dvelopp.functional.utils;
+
+/**
+ * Operation of the library passed to the {@link OperationListener listeners}. The outcome of the operation is known
+ * only when {@link OperationListener#onEnd(Operation)} is called.
+ *
+ * @since 1.3
+ */
+public final class Operation {
+
+    private final String name;
+    private final int inputSize;
+    private final boolean parallel;
+    private final long startNanos;
+    private long durationNanos = -1;
+    private int outputSize = -1;
+    private String branch;
+    private Throwable failure;
+    Object flightRecorderEvent;
+
+    Operation(String name, int inputSize, boolean parallel) {
+        this.name = name;
+        this.inputSize = inputSize;
+        this.parallel = parallel;
+        this.startNanos = System.nanoTime();
+    }
+
+    void finish(int outputSize, String branch, Throwable failure) {
+        this.durationNanos = System.nanoTime() - startNanos;
+        this.outputSize = outputSize;
+        this.branch = branch;
+        this.failure = failure;
+    }
+
+    /**
+     * @return the name of the operation, e.g. {@code mapToList}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of the input elements, or -1 if not applicable.
+     */
+    public int getInputSize() {
+        return inputSize;
+    }
+
+    /**
+     * @return true if the operation runs in parallel.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @return the duration of the operation in nanoseconds, or -1 if it hasn't ended yet.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the number of the output elements, or -1 if not applicable or the operation hasn't ended yet.
+     */
+    public int getOutputSize() {
+        return outputSize;
+    }
+
+    /**
+     * @return the branch taken by the operation, e.g. the result of a condition or whether a call was hedged, or
+     * {@code null} if the operation has a single branch.
+     */
+    public String getBranch() {
+        return branch;
+    }
+
+    /**
+     * @return the exception thrown by the operation or caught by a condition, or {@code null} if there was none.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "Operation{name=" + name + ", inputSize=" + inputSize + ", parallel=" + parallel
+                + ", durationNanos=" + durationNanos + ", outputSize=" + outputSize + ", branch=" + branch
+                + ", failure=" + failure + '}';
+    }
+
+}
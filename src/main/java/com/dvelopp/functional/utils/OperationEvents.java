@@ -0,0 +1,193 @@
+package com.dvelopp.functional.utils;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Instrumentation of the operations of {@link CollectionUtils}, {@link FunctionUtils} and
+ * {@link com.dvelopp.functional.utils.condition.CheckUtils}. The operations are reported to:
+ * <ul>
+ * <li>the Java Flight Recorder, when the {@value #ENABLED_PROPERTY} system property is {@code true} and the JDK
+ * provides the {@code jdk.jfr} API. They are recorded by the recordings that enable the
+ * {@code com.dvelopp.functional.utils.Operation} event, with the name of the operation, the sizes of its input and
+ * output, whether it runs in parallel, its branch and failure, its duration and, where the JVM supports it, the bytes
+ * it allocated;</li>
+ * <li>the {@link OperationListener listeners} discovered with {@link ServiceLoader} when this class is
+ * initialized.</li>
+ * </ul>
+ * <p>
+ * The entry points call {@link #begin(String, int, boolean)} before the operation and {@link #end(Object, Object)},
+ * {@link #end(Object, Object, String)} or {@link #fail(Object, Throwable)} after it, or wrap the operation in
+ * {@link #report(String, Collection, boolean, Supplier)} when it has a single branch. All of them check the static
+ * final {@link #ENABLED} flag first, so when the events are off and no listener is installed they are folded away by
+ * the JIT compiler.
+ * <p>
+ * The flight recorder event is compiled separately from the rest of the library, against the {@code jdk.jfr} API, and
+ * this class loads it reflectively only if the flight recorder events are enabled, so the library is built for and
+ * runs on JDKs without the flight recorder.
+ * <p>
+ * The methods are public for the other packages of the library and are not meant to be called by applications.
+ *
+ * @since 1.3
+ */
+public final class OperationEvents {
+
+    public static final String ENABLED_PROPERTY = "com.dvelopp.functional.utils.jfr";
+
+    private static final String RECORDER_CLASS = "com.dvelopp.functional.utils.OperationEvent$Recorder";
+
+    private static final OperationRecorder RECORDER = Boolean.getBoolean(ENABLED_PROPERTY) ? loadRecorder() : null;
+    static final boolean FLIGHT_RECORDER = RECORDER != null;
+    private static final OperationListener[] LISTENERS = loadListeners();
+    static final boolean ENABLED = FLIGHT_RECORDER || LISTENERS.length > 0;
+
+    private OperationEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns whether the operations are reported.
+     *
+     * @return true if the flight recorder events are enabled or a listener is installed.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts an operation.
+     *
+     * @param operation The name of the operation.
+     * @param inputSize The number of the input elements, or -1 if not applicable.
+     * @param parallel  Whether the operation runs in parallel.
+     * @return the started operation to pass to the end methods, or {@code null} if nothing is reported.
+     */
+    public static Object begin(String operation, int inputSize, boolean parallel) {
+        return ENABLED ? start(operation, inputSize, parallel) : null;
+    }
+
+    /**
+     * Performs an operation that has a single branch and reports it.
+     *
+     * @param operation The name of the operation.
+     * @param input     The input elements.
+     * @param parallel  Whether the operation runs in parallel.
+     * @param body      The operation.
+     * @param <R>       The result type.
+     * @return the result of the operation.
+     */
+    static <R> R report(String operation, Collection<?> input, boolean parallel, Supplier<R> body) {
+        if (!ENABLED) {
+            return body.get();
+        }
+        Object event = start(operation, input.size(), parallel);
+        try {
+            return end(event, body.get());
+        } catch (RuntimeException | Error e) {
+            fail(event, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Ends an operation that has a single branch.
+     *
+     * @param event  The operation returned by {@link #begin(String, int, boolean)}.
+     * @param result The result of the operation, which gives the output size if it is a collection or a map.
+     * @param <R>    The result type.
+     * @return the result.
+     */
+    public static <R> R end(Object event, R result) {
+        return end(event, result, null);
+    }
+
+    /**
+     * Ends an operation.
+     *
+     * @param event  The operation returned by {@link #begin(String, int, boolean)}.
+     * @param result The result of the operation, which gives the output size if it is a collection or a map.
+     * @param branch The branch taken by the operation.
+     * @param <R>    The result type.
+     * @return the result.
+     */
+    public static <R> R end(Object event, R result, String branch) {
+        if (ENABLED && event != null) {
+            finish((Operation) event, sizeOf(result), branch, null);
+        }
+        return result;
+    }
+
+    /**
+     * Ends an operation that has failed.
+     *
+     * @param event   The operation returned by {@link #begin(String, int, boolean)}.
+     * @param failure The exception thrown by the operation.
+     */
+    public static void fail(Object event, Throwable failure) {
+        if (ENABLED && event != null) {
+            finish((Operation) event, -1, null, failure);
+        }
+    }
+
+    private static Operation start(String name, int inputSize, boolean parallel) {
+        Operation operation = new Operation(name, inputSize, parallel);
+        if (FLIGHT_RECORDER) {
+            operation.flightRecorderEvent = RECORDER.begin(name, inputSize, parallel);
+        }
+        for (OperationListener listener : LISTENERS) {
+            listener.onBegin(operation);
+        }
+        return operation;
+    }
+
+    private static void finish(Operation operation, int outputSize, String branch, Throwable failure) {
+        operation.finish(outputSize, branch, failure);
+        if (operation.flightRecorderEvent != null) {
+            RECORDER.end(operation.flightRecorderEvent, outputSize, branch, failure);
+        }
+        for (OperationListener listener : LISTENERS) {
+            listener.onEnd(operation);
+        }
+    }
+
+    private static int sizeOf(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        return -1;
+    }
+
+    /**
+     * Loads the recorder of the flight recorder events, or returns {@code null} if the JDK doesn't provide the
+     * {@code jdk.jfr} API or the library has been built without the event.
+     */
+    static OperationRecorder loadRecorder() {
+        try {
+            return Class.forName(RECORDER_CLASS, true, OperationEvents.class.getClassLoader())
+                    .asSubclass(OperationRecorder.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads the installed listeners. The loading stops at the first listener that can't be instantiated, so that a
+     * broken provider can't prevent the library from being initialized.
+     */
+    private static OperationListener[] loadListeners() {
+        List<OperationListener> listeners = new ArrayList<>();
+        try {
+            for (OperationListener listener
+                    : ServiceLoader.load(OperationListener.class, OperationEvents.class.getClassLoader())) {
+                listeners.add(listener);
+            }
+        } catch (ServiceConfigurationError | SecurityException e) {
+            // keeps the listeners loaded so far
+        }
+        return listeners.toArray(new OperationListener[0]);
+    }
+
+}
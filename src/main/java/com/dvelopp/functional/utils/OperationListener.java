@@ -0,0 +1,34 @@
+package com.dvelopp.functional.utils;
+
+/**
+ * Listener of the operations of the library, e.g. to export metrics. The implementations are discovered with
+ * {@link java.util.ServiceLoader} once, when the library is initialized: a listener is installed by listing its class
+ * in a {@code META-INF/services/com.dvelopp.functional.utils.OperationListener} file on the class path. The
+ * implementations need a public no-arguments constructor.
+ * <p>
+ * The listeners are called on the thread that performs the operation, so they must be thread-safe, fast and must not
+ * throw. When no listener is installed and the flight recorder events are off, the calls are removed by the JIT
+ * compiler.
+ *
+ * @see OperationEvents
+ * @since 1.3
+ */
+public interface OperationListener {
+
+    /**
+     * Called before the operation is performed.
+     *
+     * @param operation The started operation.
+     */
+    default void onBegin(Operation operation) {
+    }
+
+    /**
+     * Called after the operation is performed or has failed.
+     *
+     * @param operation The ended operation with its output size, branch and failure.
+     */
+    default void onEnd(Operation operation) {
+    }
+
+}
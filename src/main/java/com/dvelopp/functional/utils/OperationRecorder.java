@@ -0,0 +1,31 @@
+package com.dvelopp.functional.utils;
+
+/**
+ * Recorder of the operations as flight recorder events. The implementation is compiled separately against the
+ * {@code jdk.jfr} API and is loaded by {@link OperationEvents} only if the flight recorder events are enabled.
+ *
+ * @since 1.3
+ */
+interface OperationRecorder {
+
+    /**
+     * Starts the event of an operation.
+     *
+     * @param operation The name of the operation.
+     * @param inputSize The number of the input elements, or -1 if not applicable.
+     * @param parallel  Whether the operation runs in parallel.
+     * @return the started event, or {@code null} if no recording enables the event.
+     */
+    Object begin(String operation, int inputSize, boolean parallel);
+
+    /**
+     * Ends and commits the event of an operation.
+     *
+     * @param event      The event returned by {@link #begin(String, int, boolean)}.
+     * @param outputSize The number of the output elements, or -1 if not applicable.
+     * @param branch     The branch taken by the operation.
+     * @param failure    The exception thrown by the operation.
+     */
+    void end(Object event, int outputSize, String branch, Throwable failure);
+
+}
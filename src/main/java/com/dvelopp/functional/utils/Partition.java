@@ -0,0 +1,108 @@
+package com.dvelopp.functional.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import static java.lang.String.format;
+
+/**
+ * Result of splitting a collection by a predicate: the elements that match it and the elements that don't, both in
+ * the order of the collection. The lists are sized exactly for their content.
+ *
+ * @param <T> The elements type.
+ * @since 1.3
+ */
+public final class Partition<T> {
+
+    private final List<T> matching;
+    private final List<T> notMatching;
+
+    private Partition(List<T> matching, List<T> notMatching) {
+        this.matching = matching;
+        this.notMatching = notMatching;
+    }
+
+    /**
+     * Splits the collection in one pass over it. The matching elements are collected from the start of one array and
+     * the rest from its end, so the lists can be allocated with their final sizes.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Partition<T> of(Collection<T> collection, Predicate<? super T> predicate) {
+        Object[] elements = new Object[collection.size()];
+        int matchingCount = 0;
+        int notMatchingStart = elements.length;
+        for (T element : collection) {
+            if (predicate.test(element)) {
+                elements[matchingCount++] = element;
+            } else {
+                elements[--notMatchingStart] = element;
+            }
+        }
+        List<T> matching = new ArrayList<>(matchingCount);
+        for (int i = 0; i < matchingCount; i++) {
+            matching.add((T) elements[i]);
+        }
+        List<T> notMatching = new ArrayList<>(elements.length - notMatchingStart);
+        for (int i = elements.length - 1; i >= notMatchingStart; i--) {
+            notMatching.add((T) elements[i]);
+        }
+        return new Partition<>(matching, notMatching);
+    }
+
+    /**
+     * Splits the collection into the given number of buckets. The bucket of each element is computed once, then the
+     * lists are allocated with their final sizes and filled from the array of the elements.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T>[] of(Collection<T> collection, ToIntFunction<? super T> bucket, int bucketCount) {
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException(format("Illegal number of buckets: %d", bucketCount));
+        }
+        Object[] elements = collection.toArray();
+        int[] buckets = new int[elements.length];
+        int[] sizes = new int[bucketCount];
+        for (int i = 0; i < elements.length; i++) {
+            int index = bucket.applyAsInt((T) elements[i]);
+            if (index < 0 || index >= bucketCount) {
+                throw new IllegalArgumentException(format("Illegal bucket: %d", index));
+            }
+            buckets[i] = index;
+            sizes[index]++;
+        }
+        List<T>[] result = (List<T>[]) new List<?>[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            result[i] = new ArrayList<>(sizes[i]);
+        }
+        for (int i = 0; i < elements.length; i++) {
+            result[buckets[i]].add((T) elements[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the elements that match the predicate.
+     *
+     * @return the list of the matching elements in the order of the collection.
+     */
+    public List<T> getMatching() {
+        return matching;
+    }
+
+    /**
+     * Returns the elements that don't match the predicate.
+     *
+     * @return the list of the elements that don't match in the order of the collection.
+     */
+    public List<T> getNotMatching() {
+        return notMatching;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s{matching=%s, notMatching=%s}", getClass().getSimpleName(), matching, notMatching);
+    }
+
+}
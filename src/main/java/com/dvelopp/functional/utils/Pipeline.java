@@ -0,0 +1,378 @@
+package com.dvelopp.functional.utils;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.Collector;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+import static java.lang.String.format;
+
+/**
+ * Lightweight sequential alternative to {@link java.util.stream.Stream} for small collections and arrays. The stages
+ * only record their operations in an array; a terminal operation runs a single loop over the source, indexing arrays
+ * and {@link RandomAccess} lists directly, and applies the operations to each element in turn. No objects are created
+ * per stage at execution time, only the counters of the limits, and there are no spliterators, no pipeline flags and
+ * no intermediate collections, so the fixed cost of a short pipeline is much lower than the cost of a stream.
+ * <p>
+ * The pipeline is immutable: each stage returns a new pipeline over the same source, and a pipeline can be executed
+ * more than once. The source is read again by each terminal operation, including its size, so a collection may
+ * change between the executions.
+ *
+ * @param <T> The elements type.
+ * @since 1.3
+ */
+public final class Pipeline<T> {
+
+    private static final int UNKNOWN_SIZE = -1;
+
+    private static final Operation[] NO_OPERATIONS = new Operation[0];
+
+    private final Object[] array;
+    private final Collection<?> collection;
+    private final Operation[] operations;
+
+    /**
+     * The number of the limit stages, each of them has its own counter.
+     */
+    private final int limits;
+
+    /**
+     * The maximal number of elements that is passed on from the source, or {@link #UNKNOWN_SIZE} if the stages can
+     * drop or add elements.
+     */
+    private final int sizeLimit;
+
+    private Pipeline(Object[] array, Collection<?> collection, Operation[] operations, int limits, int sizeLimit) {
+        this.array = array;
+        this.collection = collection;
+        this.operations = operations;
+        this.limits = limits;
+        this.sizeLimit = sizeLimit;
+    }
+
+    /**
+     * Creates a pipeline over the elements of the collection.
+     *
+     * @param collection The source collection.
+     * @param <T>        The elements type.
+     * @return the new pipeline.
+     */
+    public static <T> Pipeline<T> from(Collection<T> collection) {
+        Objects.requireNonNull(collection);
+        return new Pipeline<>(null, collection, NO_OPERATIONS, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a pipeline over the elements of the array.
+     *
+     * @param array The source array.
+     * @param <T>   The elements type.
+     * @return the new pipeline.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Pipeline<T> from(T... array) {
+        Objects.requireNonNull(array);
+        return new Pipeline<>(array, null, NO_OPERATIONS, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a pipeline of the results of applying the function to the elements of this pipeline.
+     *
+     * @param mapper The function to apply to each element.
+     * @param <R>    The type of the new elements.
+     * @return the new pipeline.
+     */
+    public <R> Pipeline<R> map(Function<? super T, ? extends R> mapper) {
+        requireNonNull(mapper);
+        return then(new Operation(Operation.MAP, mapper, 0), limits, sizeLimit);
+    }
+
+    /**
+     * Returns a pipeline of the elements of this pipeline that match the predicate.
+     *
+     * @param predicate The predicate to apply to each element.
+     * @return the new pipeline.
+     */
+    public Pipeline<T> filter(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        return then(new Operation(Operation.FILTER, predicate, 0), limits, UNKNOWN_SIZE);
+    }
+
+    /**
+     * Returns a pipeline of the elements of the collections produced by the function for each element of this
+     * pipeline. A {@code null} result is treated as an empty collection.
+     *
+     * @param mapper The function that returns the new elements for each element.
+     * @param <R>    The type of the new elements.
+     * @return the new pipeline.
+     */
+    public <R> Pipeline<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        requireNonNull(mapper);
+        return then(new Operation(Operation.FLAT_MAP, mapper, 0), limits, UNKNOWN_SIZE);
+    }
+
+    /**
+     * Returns a pipeline of at most the given number of the first elements of this pipeline. The source is not read
+     * further once the limit is reached.
+     *
+     * @param maxSize The number of elements the pipeline should be limited to.
+     * @return the new pipeline.
+     * @throws IllegalArgumentException if the max size is negative.
+     */
+    public Pipeline<T> limit(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException(format("Illegal max size: %d", maxSize));
+        }
+        return then(new Operation(Operation.LIMIT, null, maxSize), limits + 1,
+                sizeLimit == UNKNOWN_SIZE ? UNKNOWN_SIZE : Math.min(sizeLimit, maxSize));
+    }
+
+    /**
+     * Performs the action for each element of the pipeline.
+     *
+     * @param action The action to be performed for each element.
+     */
+    public void forEach(Consumer<? super T> action) {
+        requireNonNull(action);
+        run(element -> {
+            action.accept(element);
+            return true;
+        });
+    }
+
+    /**
+     * Collects the elements into a new {@link ArrayList}, which is allocated with the final size when the pipeline
+     * has no filtering stages.
+     *
+     * @return the new list of the elements.
+     */
+    public List<T> toList() {
+        int size = size();
+        List<T> result = new ArrayList<>(size == UNKNOWN_SIZE ? 10 : size);
+        run(result::add);
+        return result;
+    }
+
+    /**
+     * Collects the elements into a new {@link HashSet}.
+     *
+     * @return the new set of the elements.
+     */
+    public Set<T> toSet() {
+        int size = size();
+        Set<T> result = new HashSet<>(size == UNKNOWN_SIZE ? 16 : Math.max(16, (int) (size / .75f) + 1));
+        run(element -> {
+            result.add(element);
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * Collects the elements into a new collection created by the factory.
+     *
+     * @param collectionFactory The new collection supplier.
+     * @param <C>               The collection type.
+     * @return the new collection of the elements.
+     */
+    public <C extends Collection<? super T>> C toCollection(Supplier<C> collectionFactory) {
+        requireNonNull(collectionFactory);
+        C result = collectionFactory.get();
+        run(element -> {
+            result.add(element);
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * Collects the elements into a new array created by the generator. The array is allocated with the final size
+     * when the pipeline has no filtering stages and grows if the source changes while it is read.
+     *
+     * @param generator The function that creates a new array of the requested length.
+     * @param <A>       The element type of the array.
+     * @return the new array of the elements.
+     */
+    public <A> A[] toArray(IntFunction<A[]> generator) {
+        requireNonNull(generator);
+        int size = size();
+        if (size == UNKNOWN_SIZE) {
+            return toList().toArray(generator.apply(0));
+        }
+        ArraySink<A> result = new ArraySink<>(generator.apply(size));
+        run(result);
+        return result.toArray();
+    }
+
+    /**
+     * Performs a mutable reduction of the elements with the collector.
+     *
+     * @param collector The collector describing the reduction.
+     * @param <A>       The intermediate accumulation type of the collector.
+     * @param <R>       The type of the result.
+     * @return the result of the reduction.
+     */
+    @SuppressWarnings("unchecked")
+    public <A, R> R collect(Collector<? super T, A, R> collector) {
+        requireNonNull(collector);
+        A container = collector.supplier().get();
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        run(element -> {
+            accumulator.accept(container, element);
+            return true;
+        });
+        return collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)
+                ? (R) container
+                : collector.finisher().apply(container);
+    }
+
+    /**
+     * Returns the number of elements the source passes on at the moment, or {@link #UNKNOWN_SIZE} if the stages can
+     * drop or add elements.
+     */
+    private int size() {
+        if (sizeLimit == UNKNOWN_SIZE) {
+            return UNKNOWN_SIZE;
+        }
+        return Math.min(array != null ? array.length : collection.size(), sizeLimit);
+    }
+
+    private <R> Pipeline<R> then(Operation operation, int limits, int sizeLimit) {
+        Operation[] operations = Arrays.copyOf(this.operations, this.operations.length + 1);
+        operations[this.operations.length] = operation;
+        return new Pipeline<>(array, collection, operations, limits, sizeLimit);
+    }
+
+    private void run(Sink<? super T> terminal) {
+        int[] remaining = limits == 0 ? null : new int[limits];
+        for (int i = 0, limit = 0; limit < limits; i++) {
+            if (operations[i].kind == Operation.LIMIT) {
+                remaining[limit++] = operations[i].maxSize;
+            }
+        }
+        if (array != null) {
+            for (Object element : array) {
+                if (!push(element, 0, 0, remaining, terminal)) {
+                    return;
+                }
+            }
+        } else if (collection instanceof RandomAccess && collection instanceof List) {
+            List<?> list = (List<?>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (!push(list.get(i), 0, 0, remaining, terminal)) {
+                    return;
+                }
+            }
+        } else {
+            for (Object element : collection) {
+                if (!push(element, 0, 0, remaining, terminal)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the operations starting from the given one to the element and passes the result on to the terminal
+     * sink. Only a flat map calls this method again, for the rest of the operations.
+     *
+     * @param from      The index of the first operation to apply.
+     * @param limit     The index of the counter of the first limit among the operations to apply.
+     * @param remaining The counters of the limits.
+     * @return false if no more elements are needed.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean push(Object element, int from, int limit, int[] remaining, Sink<? super T> terminal) {
+        boolean more = true;
+        for (int i = from; i < operations.length; i++) {
+            Operation operation = operations[i];
+            switch (operation.kind) {
+                case Operation.MAP:
+                    element = ((Function<Object, Object>) operation.function).apply(element);
+                    break;
+                case Operation.FILTER:
+                    if (!((Predicate<Object>) operation.function).test(element)) {
+                        return more;
+                    }
+                    break;
+                case Operation.FLAT_MAP:
+                    Iterable<?> elements = ((Function<Object, Iterable<?>>) operation.function).apply(element);
+                    if (elements != null) {
+                        for (Object mapped : elements) {
+                            if (!push(mapped, i + 1, limit, remaining, terminal)) {
+                                return false;
+                            }
+                        }
+                    }
+                    return more;
+                default:
+                    if (remaining[limit] == 0) {
+                        return false;
+                    }
+                    more = --remaining[limit++] > 0;
+            }
+        }
+        return terminal.accept((T) element) && more;
+    }
+
+    /**
+     * Receiver of the elements of a terminal operation.
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+
+        /**
+         * Accepts the element.
+         *
+         * @return false if no more elements are needed.
+         */
+        boolean accept(T element);
+    }
+
+    /**
+     * Operation of a stage, applied to each element that reaches the stage.
+     */
+    private static final class Operation {
+
+        private static final int MAP = 0;
+        private static final int FILTER = 1;
+        private static final int FLAT_MAP = 2;
+        private static final int LIMIT = 3;
+
+        private final int kind;
+        private final Object function;
+        private final int maxSize;
+
+        private Operation(int kind, Object function, int maxSize) {
+            this.kind = kind;
+            this.function = function;
+            this.maxSize = maxSize;
+        }
+    }
+
+    private static final class ArraySink<A> implements Sink<Object> {
+
+        private A[] elements;
+        private int size;
+
+        private ArraySink(A[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean accept(Object element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(10, size + (size >> 1)));
+            }
+            elements[size++] = (A) element;
+            return true;
+        }
+
+        private A[] toArray() {
+            return size == elements.length ? elements : Arrays.copyOf(elements, size);
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.dvelopp.functional.utils;
+
+/**
+ * Plain counted loops without boxing, lambdas or branches in the loop body, which is the shape the JIT compiler unrolls
+ * and turns into SIMD instructions where the platform supports them. Reductions keep several independent accumulators,
+ * so the additions of neighbouring elements don't wait for each other.
+ *
+ * @since 1.3
+ */
+final class ScalarKernels implements ArrayKernels {
+
+    @Override
+    public long sum(int[] values) {
+        long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (int end = values.length & ~3; i < end; i += 4) {
+            sum0 += values[i];
+            sum1 += values[i + 1];
+            sum2 += values[i + 2];
+            sum3 += values[i + 3];
+        }
+        for (; i < values.length; i++) {
+            sum0 += values[i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    @Override
+    public int min(int[] values) {
+        int min = Integer.MAX_VALUE;
+        for (int value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] values) {
+        int max = Integer.MIN_VALUE;
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Override
+    public int count(int[] values, int from, int to) {
+        int count = 0;
+        for (int value : values) {
+            count += value >= from & value < to ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public void add(int[] left, int[] right, int[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] + right[i];
+        }
+    }
+
+    @Override
+    public void subtract(int[] left, int[] right, int[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] - right[i];
+        }
+    }
+
+    @Override
+    public void multiply(int[] left, int[] right, int[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] * right[i];
+        }
+    }
+
+    @Override
+    public void scale(int[] values, int factor, int[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values[i] * factor;
+        }
+    }
+
+    @Override
+    public long sum(long[] values) {
+        long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (int end = values.length & ~3; i < end; i += 4) {
+            sum0 += values[i];
+            sum1 += values[i + 1];
+            sum2 += values[i + 2];
+            sum3 += values[i + 3];
+        }
+        for (; i < values.length; i++) {
+            sum0 += values[i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    @Override
+    public long min(long[] values) {
+        long min = Long.MAX_VALUE;
+        for (long value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] values) {
+        long max = Long.MIN_VALUE;
+        for (long value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Override
+    public int count(long[] values, long from, long to) {
+        int count = 0;
+        for (long value : values) {
+            count += value >= from & value < to ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public void add(long[] left, long[] right, long[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] + right[i];
+        }
+    }
+
+    @Override
+    public void subtract(long[] left, long[] right, long[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] - right[i];
+        }
+    }
+
+    @Override
+    public void multiply(long[] left, long[] right, long[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] * right[i];
+        }
+    }
+
+    @Override
+    public void scale(long[] values, long factor, long[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values[i] * factor;
+        }
+    }
+
+    @Override
+    public double sum(double[] values) {
+        double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (int end = values.length & ~3; i < end; i += 4) {
+            sum0 += values[i];
+            sum1 += values[i + 1];
+            sum2 += values[i + 2];
+            sum3 += values[i + 3];
+        }
+        for (; i < values.length; i++) {
+            sum0 += values[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    @Override
+    public double min(double[] values) {
+        double min = Double.POSITIVE_INFINITY;
+        for (double value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Override
+    public int count(double[] values, double from, double to) {
+        int count = 0;
+        for (double value : values) {
+            count += value >= from & value < to ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public void add(double[] left, double[] right, double[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] + right[i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] left, double[] right, double[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] - right[i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] left, double[] right, double[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] * right[i];
+        }
+    }
+
+    @Override
+    public void scale(double[] values, double factor, double[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values[i] * factor;
+        }
+    }
+
+}
@@ -0,0 +1,468 @@
+package com.dvelopp.functional.utils;
+
+import java.util.*;
+import java.util.function.*;
+
+import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
+import static java.lang.String.format;
+
+/**
+ * Selection vector over the positions of a collection or of a column array: bit {@code i} is set if the element at
+ * position {@code i} is selected. Several predicates can be evaluated over the same data into selections, which are
+ * combined with {@link #and(Selection)}, {@link #or(Selection)}, {@link #andNot(Selection)} and {@link #not()} word by
+ * word, and only the elements of the final selection are materialized, e.g. with {@link #select(Collection)} or
+ * {@link #mapToList(Collection, Function)}. No intermediate collections of the elements are created.
+ * <p>
+ * The bits are stored in a {@code long[]} in the layout of {@link BitSet#valueOf(long[])}. The selections are
+ * immutable.
+ *
+ * @since 1.3
+ */
+public final class Selection {
+
+    private static final int WORD_SHIFT = 6;
+
+    private final long[] words;
+    private final int size;
+
+    private Selection(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * Evaluates the predicate for the elements of the collection.
+     *
+     * @param collection The source collection.
+     * @param predicate  The predicate to apply to each element.
+     * @param <T>        The source collection elements type.
+     * @return the selection of the positions of the elements that match the predicate.
+     */
+    public static <T> Selection of(Collection<T> collection, Predicate<? super T> predicate) {
+        requireNonNull(collection, predicate);
+        int size = collection.size();
+        long[] words = new long[wordCount(size)];
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            List<T> list = (List<T>) collection;
+            for (int i = 0; i < size; i++) {
+                words[i >>> WORD_SHIFT] |= (predicate.test(list.get(i)) ? 1L : 0L) << i;
+            }
+        } else {
+            int i = 0;
+            for (T element : collection) {
+                words[i >>> WORD_SHIFT] |= (predicate.test(element) ? 1L : 0L) << i;
+                i++;
+            }
+        }
+        return new Selection(words, size);
+    }
+
+    /**
+     * Evaluates the predicate for the int values extracted from the elements of the collection.
+     *
+     * @param collection The source collection.
+     * @param column     The function to extract the value from each element.
+     * @param predicate  The predicate to apply to each value.
+     * @param <T>        The source collection elements type.
+     * @return the selection of the positions of the elements whose values match the predicate.
+     */
+    public static <T> Selection ofInts(Collection<T> collection, ToIntFunction<? super T> column,
+                                       IntPredicate predicate) {
+        requireNonNull(column, predicate);
+        return of(collection, element -> predicate.test(column.applyAsInt(element)));
+    }
+
+    /**
+     * Evaluates the predicate for the long values extracted from the elements of the collection.
+     *
+     * @param collection The source collection.
+     * @param column     The function to extract the value from each element.
+     * @param predicate  The predicate to apply to each value.
+     * @param <T>        The source collection elements type.
+     * @return the selection of the positions of the elements whose values match the predicate.
+     */
+    public static <T> Selection ofLongs(Collection<T> collection, ToLongFunction<? super T> column,
+                                        LongPredicate predicate) {
+        requireNonNull(column, predicate);
+        return of(collection, element -> predicate.test(column.applyAsLong(element)));
+    }
+
+    /**
+     * Evaluates the predicate for the double values extracted from the elements of the collection.
+     *
+     * @param collection The source collection.
+     * @param column     The function to extract the value from each element.
+     * @param predicate  The predicate to apply to each value.
+     * @param <T>        The source collection elements type.
+     * @return the selection of the positions of the elements whose values match the predicate.
+     */
+    public static <T> Selection ofDoubles(Collection<T> collection, ToDoubleFunction<? super T> column,
+                                          DoublePredicate predicate) {
+        requireNonNull(column, predicate);
+        return of(collection, element -> predicate.test(column.applyAsDouble(element)));
+    }
+
+    /**
+     * Evaluates the predicate for the values of the column.
+     *
+     * @param column    The column values.
+     * @param predicate The predicate to apply to each value.
+     * @return the selection of the positions of the values that match the predicate.
+     */
+    public static Selection ofInts(int[] column, IntPredicate predicate) {
+        requireNonNull(column, predicate);
+        long[] words = new long[wordCount(column.length)];
+        for (int i = 0; i < column.length; i++) {
+            words[i >>> WORD_SHIFT] |= (predicate.test(column[i]) ? 1L : 0L) << i;
+        }
+        return new Selection(words, column.length);
+    }
+
+    /**
+     * Evaluates the predicate for the values of the column.
+     *
+     * @param column    The column values.
+     * @param predicate The predicate to apply to each value.
+     * @return the selection of the positions of the values that match the predicate.
+     */
+    public static Selection ofLongs(long[] column, LongPredicate predicate) {
+        requireNonNull(column, predicate);
+        long[] words = new long[wordCount(column.length)];
+        for (int i = 0; i < column.length; i++) {
+            words[i >>> WORD_SHIFT] |= (predicate.test(column[i]) ? 1L : 0L) << i;
+        }
+        return new Selection(words, column.length);
+    }
+
+    /**
+     * Evaluates the predicate for the values of the column.
+     *
+     * @param column    The column values.
+     * @param predicate The predicate to apply to each value.
+     * @return the selection of the positions of the values that match the predicate.
+     */
+    public static Selection ofDoubles(double[] column, DoublePredicate predicate) {
+        requireNonNull(column, predicate);
+        long[] words = new long[wordCount(column.length)];
+        for (int i = 0; i < column.length; i++) {
+            words[i >>> WORD_SHIFT] |= (predicate.test(column[i]) ? 1L : 0L) << i;
+        }
+        return new Selection(words, column.length);
+    }
+
+    /**
+     * Creates a selection from the bits of the bit set.
+     *
+     * @param bits The selected positions.
+     * @param size The number of the positions.
+     * @return the new selection.
+     * @throws IllegalArgumentException if the size is negative or a position not less than the size is set.
+     */
+    public static Selection of(BitSet bits, int size) {
+        requireNonNull(bits);
+        if (size < 0 || bits.length() > size) {
+            throw new IllegalArgumentException(format("Illegal size: %d", size));
+        }
+        return new Selection(Arrays.copyOf(bits.toLongArray(), wordCount(size)), size);
+    }
+
+    static Selection of(long[] words, int size) {
+        return new Selection(words, size);
+    }
+
+    /**
+     * Creates a selection of all the positions.
+     *
+     * @param size The number of the positions.
+     * @return the new selection.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    public static Selection all(int size) {
+        return none(size).not();
+    }
+
+    /**
+     * Creates a selection of no positions.
+     *
+     * @param size The number of the positions.
+     * @return the new selection.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    public static Selection none(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException(format("Illegal size: %d", size));
+        }
+        return new Selection(new long[wordCount(size)], size);
+    }
+
+    /**
+     * Returns the positions selected by both selections.
+     *
+     * @param other The selection of the same size.
+     * @return the new selection.
+     * @throws IllegalArgumentException if the sizes differ.
+     */
+    public Selection and(Selection other) {
+        checkSize(requireNonNull(other).size);
+        long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new Selection(result, size);
+    }
+
+    /**
+     * Returns the positions selected by either selection.
+     *
+     * @param other The selection of the same size.
+     * @return the new selection.
+     * @throws IllegalArgumentException if the sizes differ.
+     */
+    public Selection or(Selection other) {
+        checkSize(requireNonNull(other).size);
+        long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new Selection(result, size);
+    }
+
+    /**
+     * Returns the positions selected by this selection and not by the other one.
+     *
+     * @param other The selection of the same size.
+     * @return the new selection.
+     * @throws IllegalArgumentException if the sizes differ.
+     */
+    public Selection andNot(Selection other) {
+        checkSize(requireNonNull(other).size);
+        long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & ~other.words[i];
+        }
+        return new Selection(result, size);
+    }
+
+    /**
+     * Returns the positions not selected by this selection.
+     *
+     * @return the new selection.
+     */
+    public Selection not() {
+        long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ~words[i];
+        }
+        if (size % Long.SIZE != 0) {
+            result[result.length - 1] &= (1L << size) - 1;
+        }
+        return new Selection(result, size);
+    }
+
+    /**
+     * @return the number of the positions, selected or not.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of the selected positions.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns whether the position is selected.
+     *
+     * @param index The position.
+     * @return true if the position is selected.
+     * @throws IndexOutOfBoundsException if the position is negative or not less than the size.
+     */
+    public boolean isSelected(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(format("Illegal index: %d", index));
+        }
+        return (words[index >>> WORD_SHIFT] & 1L << index) != 0;
+    }
+
+    /**
+     * Performs the action for each selected position in ascending order.
+     *
+     * @param action The action to be performed for each position.
+     */
+    public void forEachIndex(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                action.accept(i << WORD_SHIFT | Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    /**
+     * @return the selected positions in ascending order.
+     */
+    public int[] indices() {
+        int[] indices = new int[cardinality()];
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                indices[count++] = i << WORD_SHIFT | Long.numberOfTrailingZeros(word);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the selected elements of the collection.
+     *
+     * @param collection The collection the selection has been evaluated for.
+     * @param <T>        The collection elements type.
+     * @return the new list of the selected elements in the order of the collection.
+     * @throws IllegalArgumentException if the size of the collection differs.
+     */
+    public <T> List<T> select(Collection<T> collection) {
+        return mapToList(collection, Function.identity());
+    }
+
+    /**
+     * Returns the results of applying the function to the selected elements of the collection. The function is
+     * applied only to the selected elements.
+     *
+     * @param collection The collection the selection has been evaluated for.
+     * @param mapper     The function to apply to each selected element.
+     * @param <T>        The collection elements type.
+     * @param <R>        The target list elements type.
+     * @return the new list of the results in the order of the collection.
+     * @throws IllegalArgumentException if the size of the collection differs.
+     */
+    public <T, R> List<R> mapToList(Collection<T> collection, Function<? super T, ? extends R> mapper) {
+        requireNonNull(collection, mapper);
+        checkSize(collection.size());
+        List<R> result = new ArrayList<>(cardinality());
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            List<T> list = (List<T>) collection;
+            forEachIndex(index -> result.add(mapper.apply(list.get(index))));
+        } else {
+            int i = 0;
+            for (T element : collection) {
+                if ((words[i >>> WORD_SHIFT] & 1L << i) != 0) {
+                    result.add(mapper.apply(element));
+                }
+                i++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the selected values of the column.
+     *
+     * @param column The column the selection has been evaluated for.
+     * @return the new array of the selected values in the order of the column.
+     * @throws IllegalArgumentException if the length of the column differs.
+     */
+    public int[] select(int[] column) {
+        checkSize(requireNonNull(column).length);
+        int[] result = new int[cardinality()];
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                result[count++] = column[i << WORD_SHIFT | Long.numberOfTrailingZeros(word)];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the selected values of the column.
+     *
+     * @param column The column the selection has been evaluated for.
+     * @return the new array of the selected values in the order of the column.
+     * @throws IllegalArgumentException if the length of the column differs.
+     */
+    public long[] select(long[] column) {
+        checkSize(requireNonNull(column).length);
+        long[] result = new long[cardinality()];
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                result[count++] = column[i << WORD_SHIFT | Long.numberOfTrailingZeros(word)];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the selected values of the column.
+     *
+     * @param column The column the selection has been evaluated for.
+     * @return the new array of the selected values in the order of the column.
+     * @throws IllegalArgumentException if the length of the column differs.
+     */
+    public double[] select(double[] column) {
+        checkSize(requireNonNull(column).length);
+        double[] result = new double[cardinality()];
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                result[count++] = column[i << WORD_SHIFT | Long.numberOfTrailingZeros(word)];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the new bit set of the selected positions.
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return the copy of the words of the selection, in the layout of {@link BitSet#toLongArray()} but with the
+     * trailing zero words kept.
+     */
+    public long[] toLongArray() {
+        return words.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Selection)) {
+            return false;
+        }
+        Selection other = (Selection) o;
+        return size == other.size && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return "Selection{size=" + size + ", selected=" + toBitSet() + '}';
+    }
+
+    private void checkSize(int otherSize) {
+        if (otherSize != size) {
+            throw new IllegalArgumentException(format("Illegal size: %d, expected: %d", otherSize, size));
+        }
+    }
+
+    static int wordCount(int size) {
+        return (size + Long.SIZE - 1) >>> WORD_SHIFT;
+    }
+
+}
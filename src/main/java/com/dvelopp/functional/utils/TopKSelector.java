@@ -0,0 +1,234 @@
+package com.dvelopp.functional.utils;
+
+import java.util.*;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+import static java.lang.String.format;
+
+/**
+ * Selects k greatest elements of a collection with a bounded min-heap, so the selection takes O(n log k) time and
+ * O(k) memory instead of sorting the whole collection. The parallel selection builds one heap per partition of the
+ * parallel stream and merges the heaps.
+ *
+ * @since 1.3
+ */
+final class TopKSelector {
+
+    private TopKSelector() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Selects k greatest elements according to the comparator.
+     *
+     * @param collection The source collection.
+     * @param k          The number of elements to select.
+     * @param comparator The comparator to compare elements with.
+     * @param parallel   Whether the selection is performed on a parallel stream.
+     * @param <T>        The elements type.
+     * @return the list of selected elements sorted from the greatest one.
+     */
+    static <T> List<T> select(Collection<T> collection, int k, Comparator<? super T> comparator, boolean parallel) {
+        int capacity = capacity(collection, k);
+        if (parallel) {
+            return collection.parallelStream().collect(Collector.of(() -> new ObjectHeap<T>(capacity, comparator),
+                    ObjectHeap::offer, ObjectHeap::merge, ObjectHeap::toSortedList));
+        }
+        ObjectHeap<T> heap = new ObjectHeap<>(capacity, comparator);
+        for (T element : collection) {
+            heap.offer(element);
+        }
+        return heap.toSortedList();
+    }
+
+    /**
+     * Selects k elements with the greatest primitive keys. The key is extracted only once per element.
+     *
+     * @param collection   The source collection.
+     * @param k            The number of elements to select.
+     * @param keyExtractor The function to extract the key from an element.
+     * @param parallel     Whether the selection is performed on a parallel stream.
+     * @param <T>          The elements type.
+     * @return the list of selected elements sorted from the one with the greatest key.
+     */
+    static <T> List<T> select(Collection<T> collection, int k, ToLongFunction<? super T> keyExtractor,
+                              boolean parallel) {
+        int capacity = capacity(collection, k);
+        if (parallel) {
+            return collection.parallelStream().collect(Collector.of(() -> new LongKeyHeap<T>(capacity),
+                    (heap, element) -> heap.offer(keyExtractor.applyAsLong(element), element),
+                    LongKeyHeap::merge, LongKeyHeap::toSortedList));
+        }
+        LongKeyHeap<T> heap = new LongKeyHeap<>(capacity);
+        for (T element : collection) {
+            heap.offer(keyExtractor.applyAsLong(element), element);
+        }
+        return heap.toSortedList();
+    }
+
+    private static int capacity(Collection<?> collection, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException(format("Illegal number of elements to select: %d", k));
+        }
+        return Math.min(k, collection.size());
+    }
+
+    /**
+     * Min-heap of at most capacity elements. The root is the least of the greatest elements seen so far.
+     */
+    private static final class ObjectHeap<T> {
+
+        private final Object[] elements;
+        private final Comparator<? super T> comparator;
+        private int size;
+
+        private ObjectHeap(int capacity, Comparator<? super T> comparator) {
+            this.elements = new Object[capacity];
+            this.comparator = comparator;
+        }
+
+        private void offer(T element) {
+            if (size < elements.length) {
+                elements[size] = element;
+                siftUp(size++);
+            } else if (size > 0 && comparator.compare(element, elementAt(0)) > 0) {
+                elements[0] = element;
+                siftDown(0);
+            }
+        }
+
+        private ObjectHeap<T> merge(ObjectHeap<T> other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.elementAt(i));
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<T> toSortedList() {
+            T[] sorted = (T[]) Arrays.copyOf(elements, size);
+            Arrays.sort(sorted, comparator.reversed());
+            return Arrays.asList(sorted);
+        }
+
+        private void siftUp(int index) {
+            T element = elementAt(index);
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (comparator.compare(element, elementAt(parent)) >= 0) {
+                    break;
+                }
+                elements[index] = elements[parent];
+                index = parent;
+            }
+            elements[index] = element;
+        }
+
+        private void siftDown(int index) {
+            T element = elementAt(index);
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < size && comparator.compare(elementAt(right), elementAt(child)) < 0) {
+                    child = right;
+                }
+                if (comparator.compare(element, elementAt(child)) <= 0) {
+                    break;
+                }
+                elements[index] = elements[child];
+                index = child;
+            }
+            elements[index] = element;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T elementAt(int index) {
+            return (T) elements[index];
+        }
+    }
+
+    /**
+     * Min-heap by primitive key that keeps keys and elements in parallel arrays, so keys are never boxed.
+     */
+    private static final class LongKeyHeap<T> {
+
+        private final long[] keys;
+        private final Object[] elements;
+        private int size;
+
+        private LongKeyHeap(int capacity) {
+            this.keys = new long[capacity];
+            this.elements = new Object[capacity];
+        }
+
+        private void offer(long key, T element) {
+            if (size < keys.length) {
+                siftUp(size++, key, element);
+            } else if (size > 0 && key > keys[0]) {
+                siftDown(key, element);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private LongKeyHeap<T> merge(LongKeyHeap<T> other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.keys[i], (T) other.elements[i]);
+            }
+            return this;
+        }
+
+        /**
+         * Sorts the heap in place by repeatedly moving the root to the end, so the array ends up in descending order.
+         */
+        @SuppressWarnings("unchecked")
+        private List<T> toSortedList() {
+            int count = size;
+            while (size > 1) {
+                long key = keys[--size];
+                Object element = elements[size];
+                keys[size] = keys[0];
+                elements[size] = elements[0];
+                siftDown(key, (T) element);
+            }
+            size = count;
+            return (List<T>) Arrays.asList(Arrays.copyOf(elements, count));
+        }
+
+        private void siftUp(int index, long key, T element) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (key >= keys[parent]) {
+                    break;
+                }
+                keys[index] = keys[parent];
+                elements[index] = elements[parent];
+                index = parent;
+            }
+            keys[index] = key;
+            elements[index] = element;
+        }
+
+        private void siftDown(long key, T element) {
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < size && keys[right] < keys[child]) {
+                    child = right;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                keys[index] = keys[child];
+                elements[index] = elements[child];
+                index = child;
+            }
+            keys[index] = key;
+            elements[index] = element;
+        }
+    }
+
+}
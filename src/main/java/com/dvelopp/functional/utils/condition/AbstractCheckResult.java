@@ -1,5 +1,8 @@
 package com.dvelopp.functional.utils.condition;
 
+import com.dvelopp.functional.utils.OperationEvents;
+
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 import static com.dvelopp.functional.utils.condition.AbstractCheckResult.ConditionResult.*;
@@ -177,6 +180,29 @@ public abstract class AbstractCheckResult<T, R, S extends AbstractCheckResult<T,
         return (AbstractCheckResult<T, RR, SS>) this;
     }
 
+    /**
+     * Evaluates the condition, unless it has been evaluated already, and reports the check. An exception thrown by
+     * the condition is kept and gives the {@link ConditionResult#EXCEPTION} result.
+     *
+     * @param argumentCount The number of the arguments the condition is evaluated with.
+     * @param condition     The evaluation of the condition.
+     * @return the condition result.
+     */
+    ConditionResult check(int argumentCount, BooleanSupplier condition) {
+        if (conditionResult != NONE) {
+            return conditionResult;
+        }
+        Object event = OperationEvents.begin("inCase", argumentCount, false);
+        try {
+            conditionResult = condition.getAsBoolean() ? TRUE : FALSE;
+        } catch (Exception e) {
+            exception = e;
+            OperationEvents.fail(event, e);
+            return conditionResult = EXCEPTION;
+        }
+        return OperationEvents.end(event, conditionResult, conditionResult.name());
+    }
+
     boolean needToExecuteCondition() {
         return conditionResult != EXECUTED;
     }
@@ -0,0 +1,23 @@
+package com.dvelopp.functional.utils.condition;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Check result of a {@link BooleanSupplier}. Unlike {@link NoArgumentsCheckResult} the condition is evaluated
+ * without boxing its value.
+ *
+ * @param <R> The return value type.
+ * @since 1.3
+ */
+public class BooleanCheckResult<R> extends AbstractCheckResult<BooleanSupplier, R, BooleanCheckResult<R>> {
+
+    BooleanCheckResult(BooleanSupplier condition) {
+        setCondition(condition);
+    }
+
+    @Override
+    protected ConditionResult performCheck() {
+        return check(0, getCondition());
+    }
+
+}
@@ -1,7 +1,6 @@
 package com.dvelopp.functional.utils.condition;
 
-import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.function.*;
 
 import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
 
@@ -11,6 +10,9 @@ import static com.dvelopp.functional.utils.ObjectUtils.requireNonNull;
  */
 public final class CheckUtils {
 
+    private static final BooleanSupplier TRUE_CONDITION = () -> true;
+    private static final BooleanSupplier FALSE_CONDITION = () -> false;
+
     private CheckUtils() {
         throw new UnsupportedOperationException();
     }
@@ -23,8 +25,71 @@ public final class CheckUtils {
         return new NoArgumentsCheckResult<>(() -> requireNonNull(condition));
     }
 
+    /**
+     * Boxing-free version of {@link #inCase(Supplier)}.
+     *
+     * @param condition The condition to evaluate.
+     * @param <R>       The return value type.
+     * @return the check result of the condition.
+     * @since 1.3
+     */
+    public static <R> BooleanCheckResult<R> inCaseBoolean(BooleanSupplier condition) {
+        return new BooleanCheckResult<>(requireNonNull(condition));
+    }
+
+    /**
+     * Version of {@link #inCase(Boolean)} for a primitive condition, which allocates no condition object.
+     *
+     * @param condition The condition value.
+     * @param <R>       The return value type.
+     * @return the check result of the condition.
+     * @since 1.3
+     */
+    public static <R> BooleanCheckResult<R> inCaseBoolean(boolean condition) {
+        return new BooleanCheckResult<>(condition ? TRUE_CONDITION : FALSE_CONDITION);
+    }
+
     public static <T, R> OneArgumentCheckResult<T, R> inCase(Predicate<T> condition, T arg) {
         return new OneArgumentCheckResult<>(requireNonNull(condition), arg);
     }
 
+    /**
+     * Version of {@link #inCase(Predicate, Object)} for an int argument, which is not boxed.
+     *
+     * @param condition The condition to test the argument with.
+     * @param arg       The argument.
+     * @param <R>       The return value type.
+     * @return the check result of the condition.
+     * @since 1.3
+     */
+    public static <R> IntArgumentCheckResult<R> inCaseInt(IntPredicate condition, int arg) {
+        return new IntArgumentCheckResult<>(requireNonNull(condition), arg);
+    }
+
+    /**
+     * Version of {@link #inCase(Predicate, Object)} for a long argument, which is not boxed.
+     *
+     * @param condition The condition to test the argument with.
+     * @param arg       The argument.
+     * @param <R>       The return value type.
+     * @return the check result of the condition.
+     * @since 1.3
+     */
+    public static <R> LongArgumentCheckResult<R> inCaseLong(LongPredicate condition, long arg) {
+        return new LongArgumentCheckResult<>(requireNonNull(condition), arg);
+    }
+
+    /**
+     * Version of {@link #inCase(Predicate, Object)} for a double argument, which is not boxed.
+     *
+     * @param condition The condition to test the argument with.
+     * @param arg       The argument.
+     * @param <R>       The return value type.
+     * @return the check result of the condition.
+     * @since 1.3
+     */
+    public static <R> DoubleArgumentCheckResult<R> inCaseDouble(DoublePredicate condition, double arg) {
+        return new DoubleArgumentCheckResult<>(requireNonNull(condition), arg);
+    }
+
 }
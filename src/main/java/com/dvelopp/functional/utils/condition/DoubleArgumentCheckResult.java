@@ -0,0 +1,109 @@
+package com.dvelopp.functional.utils.condition;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.dvelopp.functional.utils.condition.AbstractCheckResult.ConditionResult.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Check result of a {@link DoublePredicate} and a double argument. Unlike {@link OneArgumentCheckResult} the
+ * argument is not boxed, and the actions that compute a double value store it without boxing as well, to be read
+ * with {@link #doubleValue(double)}.
+ *
+ * @param <R> The return value type of the actions that compute an object.
+ * @since 1.3
+ */
+public class DoubleArgumentCheckResult<R>
+        extends AbstractCheckResult<DoublePredicate, R, DoubleArgumentCheckResult<R>> {
+
+    private final double arg;
+    private double doubleValue;
+    private boolean hasDoubleValue;
+
+    DoubleArgumentCheckResult(DoublePredicate condition, double arg) {
+        setCondition(condition);
+        this.arg = arg;
+    }
+
+    public DoubleArgumentCheckResult<R> isTrue(DoubleConsumer closure) {
+        return performIfConditionIs(closure, TRUE);
+    }
+
+    public DoubleArgumentCheckResult<R> isFalse(DoubleConsumer closure) {
+        return performIfConditionIs(closure, FALSE);
+    }
+
+    public <RR extends R> DoubleArgumentCheckResult<RR> isTrueMap(DoubleFunction<RR> function) {
+        return mapIfConditionIs(function, TRUE);
+    }
+
+    public <RR extends R> DoubleArgumentCheckResult<RR> isFalseMap(DoubleFunction<RR> function) {
+        return mapIfConditionIs(function, FALSE);
+    }
+
+    public DoubleArgumentCheckResult<R> isTrueMapToDouble(DoubleUnaryOperator function) {
+        return mapToDoubleIfConditionIs(function, TRUE);
+    }
+
+    public DoubleArgumentCheckResult<R> isFalseMapToDouble(DoubleUnaryOperator function) {
+        return mapToDoubleIfConditionIs(function, FALSE);
+    }
+
+    /**
+     * Get the double value computed by {@link #isTrueMapToDouble(DoubleUnaryOperator)} or
+     * {@link #isFalseMapToDouble(DoubleUnaryOperator)}.
+     *
+     * @param defaultValue The value to return if no double value has been computed.
+     * @return the computed value or the default value.
+     */
+    public double doubleValue(double defaultValue) {
+        return hasDoubleValue ? doubleValue : defaultValue;
+    }
+
+    private DoubleArgumentCheckResult<R> performIfConditionIs(DoubleConsumer closure,
+                                                              ConditionResult expectedConditionValue) {
+        if (needToExecuteCondition()) {
+            requireNonNull(closure);
+            if (expectedConditionValue == performCheck()) {
+                conditionResult = EXECUTED;
+                closure.accept(arg);
+            }
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <RR extends R> DoubleArgumentCheckResult<RR> mapIfConditionIs(DoubleFunction<RR> function,
+                                                                          ConditionResult expectedConditionValue) {
+        if (needToExecuteCondition()) {
+            requireNonNull(function);
+            if (expectedConditionValue == performCheck()) {
+                conditionResult = EXECUTED;
+                valueToReturn = function.apply(arg);
+            }
+        }
+        return (DoubleArgumentCheckResult<RR>) this;
+    }
+
+    private DoubleArgumentCheckResult<R> mapToDoubleIfConditionIs(DoubleUnaryOperator function,
+                                                                  ConditionResult expectedConditionValue) {
+        if (needToExecuteCondition()) {
+            requireNonNull(function);
+            if (expectedConditionValue == performCheck()) {
+                conditionResult = EXECUTED;
+                doubleValue = function.applyAsDouble(arg);
+                hasDoubleValue = true;
+            }
+        }
+        return this;
+    }
+
+    @Override
+    protected ConditionResult performCheck() {
+        return check(1, () -> getCondition().test(arg));
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.dvelopp.functional.utils.condition;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static com.dvelopp.functional.utils.condition.AbstractCheckResult.ConditionResult.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Check result of an {@link IntPredicate} and an int argument. Unlike {@link OneArgumentCheckResult} the argument is
+ * not boxed, and the actions that compute an int value store it without boxing as well, to be read with
+ * {@link #intValue(int)}.
+ *
+ * @param <R> The return value type of the actions that compute an object.
+ * @since 1.3
+ */
+public class IntArgumentCheckResult<R> extends AbstractCheckResult<IntPredicate, R, IntArgumentCheckResult<R>> {
+
+    private final int arg;
+    private int intValue;
+    private boolean hasIntValue;
+
+    IntArgumentCheckResult(IntPredicate condition, int arg) {
+        setCondition(condition);
+        this.arg = arg;
+    }
+
+    public IntArgumentCheckResult<R> isTrue(IntConsumer closure) {
+        return performIfConditionIs(closure, TRUE);
+    }
+
+    public IntArgumentCheckResult<R> isFalse(IntConsumer closure) {
+        return performIfConditionIs(closure, FALSE);
+    }
+
+    public <RR extends R> IntArgumentCheckResult<RR> isTrueMap(IntFunction<RR> function) {
+        return mapIfConditionIs(function, TRUE);
+    }
+
+    public <RR extends R> IntArgumentCheckResult<RR> isFalseMap(IntFunction<RR> function) {
+        return mapIfConditionIs(function, FALSE);
+    }
+
+    public IntArgumentCheckResult<R> isTrueMapToInt(IntUnaryOperator function) {
+        return mapToIntIfConditionIs(function, TRUE);
+    }
+
+    public IntArgumentCheckResult<R> isFalseMapToInt(IntUnaryOperator function) {
+        return mapToIntIfConditionIs(function, FALSE);
+    }
+
+    /**
+     * Get the int value computed by {@link #isTrueMapToInt(IntUnaryOperator)} or
+     * {@link #isFalseMapToInt(IntUnaryOperator)}.
+     *
+     * @param defaultValue The value to return if no int value has been computed.
+     * @return the computed value or the default value.
+     */
+    public int intValue(int defaultValue) {
+        return hasIntValue ? intValue : defaultValue;
+    }
+
+    private IntArgumentCheckResult<R> performIfConditionIs(IntConsumer closure,
+                                                           ConditionResult expectedConditionValue) {
+        if (needToExecuteCondition()) {
+            requireNonNull(closure);
+            if (expectedConditionValue == performCheck()) {
+                conditionResult = EXECUTED;
+                closure.accept(arg);
+            }
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <RR extends R> IntArgumentCheckResult<RR> mapIfConditionIs(IntFunction<RR> function,
+                                                                       ConditionResult expectedConditionValue) {
+        if (needToExecuteCondition()) {
+            requireNonNull(function);
+            if (expectedConditionValue == performCheck()) {
+                conditionResult = EXECUTED;
+                valueToReturn = function.apply(arg);
+            }
+        }
+        return (IntArgumentCheckResult<RR>) this;
+    }
+
+    private IntArgumentCheckResult<R> mapToIntIfConditionIs(IntUnaryOperator function,
+                                                            ConditionResult expectedConditionValue) {
+        if (needToExecuteCondition()) {
+            requireNonNull(function);
+            if (expectedConditionValue == performCheck()) {
+                conditionResult = EXECUTED;
+                intValue = function.applyAsInt(arg);
+                hasIntValue = true;
+            }
+        }
+        return this;
+    }
+
+    @Override
+    protected ConditionResult performCheck() {
+        return check(1, () -> getCondition().test(arg));
+    }
+
+}
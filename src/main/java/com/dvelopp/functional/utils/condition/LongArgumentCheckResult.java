@@ -0,0 +1,108 @@
+package com.dvelopp.functional.utils.condition;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static com.dvelopp.functional.utils.condition.AbstractCheckResult.ConditionResult.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Check result of a {@link LongPredicate} and a long argument. Unlike {@link OneArgumentCheckResult} the argument is
+ * not boxed, and the actions that compute a long value store it without boxing as well, to be read with
+ * {@link #longValue(long)}.
+ *
+ * @param <R> The return value type of the actions that compute an object.
+ * @since 1.3
+ */
+public class LongArgumentCheckResult<R> extends AbstractCheckResult<LongPredicate, R, LongArgumentCheckResult<R>> {
+
+    private final long arg;
+    private long longValue;
+    private boolean hasLongValue;
+
+    LongArgumentCheckResult(LongPredicate condition, long arg) {
+        setCondition(condition);
+        this.arg = arg;
+    }
+
+    public LongArgumentCheckResult<R> isTrue(LongConsumer closure) {
+        return performIfConditionIs(closure, TRUE);
+    }
+
+    public LongArgumentCheckResult<R> isFalse(LongConsumer closure) {
+        return performIfConditionIs(closure, FALSE);
+    }
+
+    public <RR extends R> LongArgumentCheckResult<RR> isTrueMap(LongFunction<RR> function) {
+        return mapIfConditionIs(function, TRUE);
+    }
+
+    public <RR extends R> LongArgumentCheckResult<RR> isFalseMap(LongFunction<RR> function) {
+        return mapIfConditionIs(function, FALSE);
+    }
+
+    public LongArgumentCheckResult<R> isTrueMapToLong(LongUnaryOperator function) {
+        return mapToLongIfConditionIs(function, TRUE);
+    }
+
+    public LongArgumentCheckResult<R> isFalseMapToLong(LongUnaryOperator function) {
+        return mapToLongIfConditionIs(function, FALSE);
+    }
+
+    /**
+     * Get the long value computed by {@link #isTrueMapToLong(LongUnaryOperator)} or
+     * {@link #isFalseMapToLong(LongUnaryOperator)}.
+     *
+     * @param defaultValue The value to return if no long value has been computed.
+     * @return the computed value or the default value.
+     */
+    public long longValue(long defaultValue) {
+        return hasLongValue ? longValue : defaultValue;
+    }
+
+    private LongArgumentCheckResult<R> performIfConditionIs(LongConsumer closure,
+                                                            ConditionResult expectedConditionValue) {
+        if (needToExecuteCondition()) {
+            requireNonNull(closure);
+            if (expectedConditionValue == performCheck()) {
+                conditionResult = EXECUTED;
+                closure.accept(arg);
+            }
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <RR extends R> LongArgumentCheckResult<RR> mapIfConditionIs(LongFunction<RR> function,
+                                                                        ConditionResult expectedConditionValue) {
+        if (needToExecuteCondition()) {
+            requireNonNull(function);
+            if (expectedConditionValue == performCheck()) {
+                conditionResult = EXECUTED;
+                valueToReturn = function.apply(arg);
+            }
+        }
+        return (LongArgumentCheckResult<RR>) this;
+    }
+
+    private LongArgumentCheckResult<R> mapToLongIfConditionIs(LongUnaryOperator function,
+                                                              ConditionResult expectedConditionValue) {
+        if (needToExecuteCondition()) {
+            requireNonNull(function);
+            if (expectedConditionValue == performCheck()) {
+                conditionResult = EXECUTED;
+                longValue = function.applyAsLong(arg);
+                hasLongValue = true;
+            }
+        }
+        return this;
+    }
+
+    @Override
+    protected ConditionResult performCheck() {
+        return check(1, () -> getCondition().test(arg));
+    }
+
+}
@@ -2,11 +2,6 @@ package com.dvelopp.functional.utils.condition;
 
 import java.util.function.Supplier;
 
-import static com.dvelopp.functional.utils.condition.AbstractCheckResult.ConditionResult.EXCEPTION;
-import static com.dvelopp.functional.utils.condition.AbstractCheckResult.ConditionResult.FALSE;
-import static com.dvelopp.functional.utils.condition.AbstractCheckResult.ConditionResult.NONE;
-import static com.dvelopp.functional.utils.condition.AbstractCheckResult.ConditionResult.TRUE;
-
 /**
  * @since 1.0
  */
@@ -24,15 +19,7 @@ public class NoArgumentsCheckResult<R> extends AbstractCheckResult<Supplier<Bool
      */
     @Override
     protected ConditionResult performCheck() {
-        if (conditionResult != NONE) {
-            return conditionResult;
-        }
-        try {
-            return conditionResult = getCondition().get() ? TRUE : FALSE;
-        } catch (Exception e) {
-            exception = e;
-            return conditionResult = EXCEPTION;
-        }
+        return check(0, getCondition()::get);
     }
 
 }
\ No newline at end of file
@@ -62,15 +62,7 @@ public class OneArgumentCheckResult<T, R> extends AbstractCheckResult<Predicate<
 
     @Override
     protected ConditionResult performCheck() {
-        if (conditionResult != NONE) {
-            return conditionResult;
-        }
-        try {
-            return conditionResult = getCondition().test(arg) ? TRUE : FALSE;
-        } catch (Exception e) {
-            exception = e;
-            return conditionResult = EXCEPTION;
-        }
+        return check(1, () -> getCondition().test(arg));
     }
 
 
@@ -0,0 +1,91 @@
+package com.dvelopp.functional.utils.flow;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Subscriber that consumes the items in its {@code onNext} and keeps at most the batch size of items requested. It
+ * requests a batch on subscription and half a batch each time half a batch has been consumed, so the publisher
+ * rarely waits for a request while the number of items in flight stays bounded.
+ */
+abstract class BatchingSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final int batchSize;
+    private final int replenishment;
+    private volatile Flow.Subscription subscription;
+    private volatile boolean done;
+    private int consumed;
+
+    BatchingSubscriber(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(format("Illegal batch size: %d", batchSize));
+        }
+        this.batchSize = batchSize;
+        this.replenishment = Math.max(1, batchSize >>> 1);
+    }
+
+    @Override
+    public final void onSubscribe(Flow.Subscription subscription) {
+        requireNonNull(subscription);
+        if (this.subscription != null || done) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public final void onNext(T item) {
+        requireNonNull(item);
+        if (done) {
+            return;
+        }
+        try {
+            consume(item);
+        } catch (RuntimeException e) {
+            cancel();
+            fail(e);
+            return;
+        }
+        if (++consumed == replenishment && !done) {
+            consumed = 0;
+            subscription.request(replenishment);
+        }
+    }
+
+    @Override
+    public final void onError(Throwable throwable) {
+        requireNonNull(throwable);
+        if (!done) {
+            done = true;
+            fail(throwable);
+        }
+    }
+
+    @Override
+    public final void onComplete() {
+        if (!done) {
+            done = true;
+            complete();
+        }
+    }
+
+    /**
+     * Cancels the upstream subscription and ignores the further signals.
+     */
+    final void cancel() {
+        done = true;
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    abstract void consume(T item);
+
+    abstract void complete();
+
+    abstract void fail(Throwable throwable);
+
+}
@@ -0,0 +1,135 @@
+package com.dvelopp.functional.utils.flow;
+
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Processor that reduces the items with a collector as they arrive and publishes the result when the upstream
+ * completes. Only the container of the collector is kept, never the items, and the items are requested in batches
+ * regardless of the downstream demand, which only matters for the single result.
+ */
+final class CollectingProcessor<T, A, R> extends BatchingSubscriber<T> implements Flow.Processor<T, R> {
+
+    private final Collector<? super T, A, R> collector;
+    private final BiConsumer<A, ? super T> accumulator;
+    private A container;
+
+    private Flow.Subscriber<? super R> downstream;
+    private boolean subscribed;
+    private boolean requested;
+    private boolean terminated;
+    private R result;
+    private boolean hasResult;
+    private Throwable failure;
+
+    CollectingProcessor(Collector<? super T, A, R> collector, int batchSize) {
+        super(batchSize);
+        this.collector = collector;
+        this.accumulator = collector.accumulator();
+        this.container = collector.supplier().get();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        requireNonNull(subscriber);
+        synchronized (this) {
+            if (downstream != null) {
+                Demand.reject(subscriber);
+                return;
+            }
+            downstream = subscriber;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+
+            @Override
+            public void request(long n) {
+                synchronized (CollectingProcessor.this) {
+                    if (n <= 0) {
+                        failure = failure != null ? failure : Demand.illegalRequest(n);
+                    }
+                    requested = true;
+                }
+                if (n <= 0) {
+                    CollectingProcessor.this.cancel();
+                }
+                signal();
+            }
+
+            @Override
+            public void cancel() {
+                synchronized (CollectingProcessor.this) {
+                    terminated = true;
+                }
+                CollectingProcessor.this.cancel();
+            }
+        });
+        synchronized (this) {
+            subscribed = true;
+        }
+        signal();
+    }
+
+    @Override
+    void consume(T item) {
+        accumulator.accept(container, item);
+    }
+
+    @Override
+    void complete() {
+        R finished;
+        try {
+            finished = collector.finisher().apply(container);
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+        container = null;
+        synchronized (this) {
+            result = finished;
+            hasResult = true;
+        }
+        signal();
+    }
+
+    @Override
+    void fail(Throwable throwable) {
+        container = null;
+        synchronized (this) {
+            if (failure == null) {
+                failure = throwable;
+            }
+        }
+        signal();
+    }
+
+    /**
+     * Delivers the result or the failure once the downstream is ready for it. The decision is taken under the lock,
+     * so only one thread delivers the terminal signals.
+     */
+    private void signal() {
+        Flow.Subscriber<? super R> subscriber;
+        Throwable error;
+        R value;
+        synchronized (this) {
+            if (terminated || !subscribed || failure == null && !(hasResult && requested)) {
+                return;
+            }
+            terminated = true;
+            subscriber = downstream;
+            error = failure;
+            value = result;
+            result = null;
+        }
+        if (error != null) {
+            subscriber.onError(error);
+        } else {
+            if (value != null) {
+                subscriber.onNext(value);
+            }
+            subscriber.onComplete();
+        }
+    }
+
+}
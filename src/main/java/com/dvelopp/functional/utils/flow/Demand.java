@@ -0,0 +1,62 @@
+package com.dvelopp.functional.utils.flow;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Helpers for the demand counters of the subscriptions.
+ */
+final class Demand {
+
+    /**
+     * Subscription that does nothing, used to reject subscribers.
+     */
+    static final Flow.Subscription EMPTY_SUBSCRIPTION = new Flow.Subscription() {
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private Demand() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Adds the numbers, saturating at {@link Long#MAX_VALUE}, which stands for an unbounded demand.
+     */
+    static long add(long demand, long n) {
+        long sum = demand + n;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * Adds the number to the counter, saturating at {@link Long#MAX_VALUE}.
+     *
+     * @return the previous value of the counter.
+     */
+    static long add(AtomicLong demand, long n) {
+        for (; ; ) {
+            long current = demand.get();
+            if (current == Long.MAX_VALUE || demand.compareAndSet(current, add(current, n))) {
+                return current;
+            }
+        }
+    }
+
+    static IllegalArgumentException illegalRequest(long n) {
+        return new IllegalArgumentException("Non positive number of requested items: " + n);
+    }
+
+    /**
+     * Rejects a second subscriber of a component that supports only one.
+     */
+    static void reject(Flow.Subscriber<?> subscriber) {
+        subscriber.onSubscribe(EMPTY_SUBSCRIPTION);
+        subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.dvelopp.functional.utils.flow;
+
+/**
+ * Interfaces of flow-controlled components, in which publishers produce items consumed by subscribers that request
+ * them with {@link Subscription#request(long)}. The interfaces have the same methods and contracts as
+ * {@code java.util.concurrent.Flow} of Java 9 and the Reactive Streams specification, so the components of this
+ * package can be connected to either of them with a one line adapter per interface.
+ *
+ * @since 1.3
+ */
+public final class Flow {
+
+    private Flow() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Producer of items received by subscribers. Each subscriber receives the same items in the same order, unless
+     * they are dropped or errors occur.
+     *
+     * @param <T> The published items type.
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+
+        /**
+         * Adds the subscriber. The publisher calls {@link Subscriber#onSubscribe(Subscription)} first and then
+         * signals the items and the completion or the error to the subscriber.
+         *
+         * @param subscriber The subscriber.
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * Receiver of items. The methods are invoked in order for each subscription: {@code onSubscribe}, then at most as
+     * many {@code onNext} calls as requested, then {@code onError} or {@code onComplete}.
+     *
+     * @param <T> The subscribed items type.
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Called before any other method for the subscription.
+         *
+         * @param subscription The new subscription.
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with the next item of the subscription.
+         *
+         * @param item The item.
+         */
+        void onNext(T item);
+
+        /**
+         * Called when the publisher or the subscription fails. No other methods are called afterwards.
+         *
+         * @param throwable The failure.
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called when there are no more items. No other methods are called afterwards.
+         */
+        void onComplete();
+    }
+
+    /**
+     * Link between a publisher and a subscriber.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the number of items to the demand of the subscriber. A non positive number fails the subscription with
+         * {@link IllegalArgumentException}.
+         *
+         * @param n The number of items, {@link Long#MAX_VALUE} for an unbounded demand.
+         */
+        void request(long n);
+
+        /**
+         * Stops the flow of the items to the subscriber, possibly after some items that are already on their way.
+         */
+        void cancel();
+    }
+
+    /**
+     * Component that is both a subscriber and a publisher.
+     *
+     * @param <T> The subscribed items type.
+     * @param <R> The published items type.
+     */
+    public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.dvelopp.functional.utils.flow;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Subscriber that performs an action for each item. The action runs in the thread that delivers the item, and the
+ * next items are requested as the previous ones are consumed, so a slow action slows the publisher down instead of
+ * letting the items pile up. The completion of the flow is reported by {@link #getCompletion()}.
+ *
+ * @param <T> The items type.
+ * @since 1.3
+ */
+public final class ForEachSubscriber<T> extends BatchingSubscriber<T> {
+
+    private final Consumer<? super T> action;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    ForEachSubscriber(Consumer<? super T> action, int batchSize) {
+        super(batchSize);
+        this.action = action;
+        completion.whenComplete((result, throwable) -> {
+            if (completion.isCancelled()) {
+                cancel();
+            }
+        });
+    }
+
+    /**
+     * Returns the future that is completed when the publisher completes, or completed exceptionally when the
+     * publisher or the action fails. Cancelling the future cancels the subscription.
+     *
+     * @return the future of the completion of the flow.
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    @Override
+    void consume(T item) {
+        action.accept(item);
+    }
+
+    @Override
+    void complete() {
+        completion.complete(null);
+    }
+
+    @Override
+    void fail(Throwable throwable) {
+        completion.completeExceptionally(throwable);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.dvelopp.functional.utils.flow;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Publisher of the elements of an iterable. Each subscriber gets its own iterator, and the elements are read from it
+ * only as they are requested, in the thread that requests them.
+ */
+final class IterablePublisher<T> implements Flow.Publisher<T> {
+
+    private final Iterable<? extends T> iterable;
+
+    IterablePublisher(Iterable<? extends T> iterable) {
+        this.iterable = iterable;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber);
+        Iterator<? extends T> iterator;
+        try {
+            iterator = iterable.iterator();
+        } catch (RuntimeException e) {
+            subscriber.onSubscribe(Demand.EMPTY_SUBSCRIPTION);
+            subscriber.onError(e);
+            return;
+        }
+        IteratorSubscription<T> subscription = new IteratorSubscription<>(subscriber, iterator);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Emits the elements within the demand. Only one thread at a time runs the drain loop; a request made while it
+     * runs, also from {@code onNext} of the subscriber, is picked up by the running loop.
+     */
+    private static final class IteratorSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Iterator<? extends T> iterator;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger drains = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable illegalRequest;
+
+        private IteratorSubscription(Flow.Subscriber<? super T> subscriber, Iterator<? extends T> iterator) {
+            this.subscriber = subscriber;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                illegalRequest = Demand.illegalRequest(n);
+            } else {
+                Demand.add(requested, n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (drains.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!emit()) {
+                    cancelled = true;
+                    return;
+                }
+                missed = drains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Emits the requested elements.
+         *
+         * @return false if the subscription has been terminated.
+         */
+        private boolean emit() {
+            long demand = requested.get();
+            long emitted = 0;
+            try {
+                while (!cancelled) {
+                    if (illegalRequest != null) {
+                        subscriber.onError(illegalRequest);
+                        return false;
+                    }
+                    if (!iterator.hasNext()) {
+                        subscriber.onComplete();
+                        return false;
+                    }
+                    if (emitted == demand) {
+                        break;
+                    }
+                    subscriber.onNext(requireNonNull(iterator.next(), "Null elements can't be published"));
+                    emitted++;
+                }
+            } catch (RuntimeException e) {
+                if (!cancelled) {
+                    subscriber.onError(e);
+                }
+                return false;
+            }
+            if (demand != Long.MAX_VALUE && emitted != 0) {
+                requested.addAndGet(-emitted);
+            }
+            return !cancelled;
+        }
+    }
+
+}
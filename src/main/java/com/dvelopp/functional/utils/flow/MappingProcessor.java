@@ -0,0 +1,168 @@
+package com.dvelopp.functional.utils.flow;
+
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Processor that publishes the result of the mapper for each item. Each item produces exactly one result, so the
+ * downstream demand is passed to the upstream as is and nothing is buffered. The demand and the cancellation that
+ * arrive before the upstream subscription are kept and forwarded to it, and the completion or the failure of the
+ * upstream that arrives before the downstream subscriber is delivered to it on subscription.
+ */
+final class MappingProcessor<T, R> implements Flow.Processor<T, R> {
+
+    private final Function<? super T, ? extends R> mapper;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+
+    private Flow.Subscription upstream;
+    private long pendingDemand;
+    private Flow.Subscriber<? super R> downstream;
+    private boolean subscribed;
+    private boolean terminated;
+    private boolean completed;
+    private Throwable failure;
+
+    MappingProcessor(Function<? super T, ? extends R> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        requireNonNull(subscription);
+        long demand;
+        boolean cancel;
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            demand = pendingDemand;
+            pendingDemand = 0;
+            cancel = cancelled;
+        }
+        if (cancel) {
+            subscription.cancel();
+        } else if (demand > 0) {
+            subscription.request(demand);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        requireNonNull(item);
+        if (done || cancelled) {
+            return;
+        }
+        R mapped;
+        try {
+            mapped = requireNonNull(mapper.apply(item), "The mapper returned null");
+        } catch (RuntimeException e) {
+            cancelUpstream();
+            terminate(e);
+            return;
+        }
+        downstream.onNext(mapped);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        requireNonNull(throwable);
+        terminate(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(null);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        requireNonNull(subscriber);
+        synchronized (this) {
+            if (downstream != null) {
+                Demand.reject(subscriber);
+                return;
+            }
+            downstream = subscriber;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    cancelUpstream();
+                    terminate(Demand.illegalRequest(n));
+                    return;
+                }
+                Flow.Subscription subscription;
+                synchronized (MappingProcessor.this) {
+                    subscription = upstream;
+                    if (subscription == null) {
+                        pendingDemand = Demand.add(pendingDemand, n);
+                        return;
+                    }
+                }
+                subscription.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                synchronized (MappingProcessor.this) {
+                    terminated = true;
+                }
+                cancelUpstream();
+            }
+        });
+        synchronized (this) {
+            subscribed = true;
+        }
+        signalTermination();
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription;
+        synchronized (this) {
+            cancelled = true;
+            subscription = upstream;
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void terminate(Throwable throwable) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+            failure = throwable;
+            completed = throwable == null;
+        }
+        signalTermination();
+    }
+
+    private void signalTermination() {
+        Flow.Subscriber<? super R> subscriber;
+        Throwable error;
+        boolean complete;
+        synchronized (this) {
+            if (terminated || !subscribed || !done) {
+                return;
+            }
+            terminated = true;
+            subscriber = downstream;
+            error = failure;
+            complete = completed;
+        }
+        if (complete) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(error);
+        }
+    }
+
+}
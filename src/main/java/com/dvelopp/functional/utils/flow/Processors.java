@@ -0,0 +1,218 @@
+package com.dvelopp.functional.utils.flow;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Flow counterparts of the operations of {@link com.dvelopp.functional.utils.CollectionUtils}, for items that arrive
+ * over time instead of being collected in memory first. The processors consume the items as they arrive, honour the
+ * demand of their subscribers and request the items from their publishers in bounded batches, so a burst of items is
+ * never buffered by the processors:
+ * <ul>
+ * <li>{@link #map(Function)} publishes a result for each item as soon as it is mapped;</li>
+ * <li>the reducing processors such as {@link #groupingBy(Function)} keep only the result being built and publish it
+ * when the publisher completes;</li>
+ * <li>{@link #forEach(Consumer)} performs an action for each item and reports the completion of the flow.</li>
+ * </ul>
+ * Each processor supports one subscriber, additional subscribers receive {@link IllegalStateException}. Null items
+ * are not allowed in flows, so a mapper or a collector must not return {@code null}.
+ *
+ * @since 1.3
+ */
+public final class Processors {
+
+    /**
+     * The default number of items requested at once by the reducing processors and the for each subscribers.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private Processors() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a publisher of the elements of the iterable. Each subscriber iterates the iterable anew, reading the
+     * elements only as they are requested.
+     *
+     * @param iterable The source iterable.
+     * @param <T>      The elements type.
+     * @return the new publisher.
+     */
+    public static <T> Flow.Publisher<T> fromIterable(Iterable<? extends T> iterable) {
+        requireNonNull(iterable);
+        return new IterablePublisher<>(iterable);
+    }
+
+    /**
+     * Returns a processor that publishes the results of applying the function to the items. The processor requests
+     * as many items from its publisher as its subscriber requests from it.
+     *
+     * @param mapper The function to apply to each item.
+     * @param <T>    The source items type.
+     * @param <R>    The target items type.
+     * @return the new processor.
+     */
+    public static <T, R> Flow.Processor<T, R> map(Function<? super T, ? extends R> mapper) {
+        requireNonNull(mapper);
+        return new MappingProcessor<>(mapper);
+    }
+
+    /**
+     * Returns a processor that reduces the items with the collector and publishes the result when its publisher
+     * completes.
+     *
+     * @param collector The collector describing the reduction.
+     * @param <T>       The source items type.
+     * @param <A>       The intermediate accumulation type of the collector.
+     * @param <R>       The type of the result.
+     * @return the new processor.
+     */
+    public static <T, A, R> Flow.Processor<T, R> collect(Collector<? super T, A, R> collector) {
+        return collect(collector, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns a processor that reduces the items with the collector and publishes the result when its publisher
+     * completes. At most the batch size of items is requested from the publisher at once.
+     *
+     * @param collector The collector describing the reduction.
+     * @param batchSize The maximal number of requested items.
+     * @param <T>       The source items type.
+     * @param <A>       The intermediate accumulation type of the collector.
+     * @param <R>       The type of the result.
+     * @return the new processor.
+     * @throws IllegalArgumentException if the batch size is not positive.
+     */
+    public static <T, A, R> Flow.Processor<T, R> collect(Collector<? super T, A, R> collector, int batchSize) {
+        requireNonNull(collector);
+        return new CollectingProcessor<>(collector, batchSize);
+    }
+
+    /**
+     * Flow counterpart of {@link com.dvelopp.functional.utils.CollectionUtils#groupingBy(Collection, Function)}.
+     *
+     * @param classifier The classifier function to apply to each item to get a key.
+     * @param <T>        The source items type.
+     * @param <K>        The target map keys type.
+     * @return the new processor that publishes the map of the grouped items.
+     */
+    public static <T, K> Flow.Processor<T, Map<K, List<T>>> groupingBy(Function<? super T, ? extends K> classifier) {
+        requireNonNull(classifier);
+        return collect(Collectors.groupingBy(classifier));
+    }
+
+    /**
+     * Flow counterpart of
+     * {@link com.dvelopp.functional.utils.CollectionUtils#mapToMap(Collection, Function, Function)}.
+     * The processor publishes {@link IllegalStateException} if two items are mapped to the same key.
+     *
+     * @param keyMapper   The mapping function to produce keys.
+     * @param valueMapper The mapping function to produce values.
+     * @param <T>         The source items type.
+     * @param <K>         The output of the key mapping function.
+     * @param <U>         The output of the value mapping function.
+     * @return the new processor that publishes the map of the mapped items.
+     */
+    public static <T, K, U> Flow.Processor<T, Map<K, U>> mapToMap(Function<? super T, ? extends K> keyMapper,
+                                                                 Function<? super T, ? extends U> valueMapper) {
+        requireNonNull(keyMapper);
+        requireNonNull(valueMapper);
+        return collect(Collectors.toMap(keyMapper, valueMapper, (first, second) -> {
+            throw new IllegalStateException(format("Duplicate key %s", first));
+        }));
+    }
+
+    /**
+     * Flow counterpart of
+     * {@link com.dvelopp.functional.utils.CollectionUtils#mapToMap(Collection, Function, Function, BinaryOperator)}.
+     *
+     * @param keyMapper     The mapping function to produce keys.
+     * @param valueMapper   The mapping function to produce values.
+     * @param mergeFunction The function to resolve collisions between values associated with the same key.
+     * @param <T>           The source items type.
+     * @param <K>           The output of the key mapping function.
+     * @param <U>           The output of the value mapping function.
+     * @return the new processor that publishes the map of the mapped items.
+     */
+    public static <T, K, U> Flow.Processor<T, Map<K, U>> mapToMap(Function<? super T, ? extends K> keyMapper,
+                                                                 Function<? super T, ? extends U> valueMapper,
+                                                                 BinaryOperator<U> mergeFunction) {
+        requireNonNull(keyMapper);
+        requireNonNull(valueMapper);
+        requireNonNull(mergeFunction);
+        return collect(Collectors.toMap(keyMapper, valueMapper, mergeFunction));
+    }
+
+    /**
+     * Flow counterpart of
+     * {@link com.dvelopp.functional.utils.CollectionUtils#getSummaryStatistics(Collection, ToIntFunction)}.
+     *
+     * @param toIntMapper The function to apply to each item.
+     * @param <T>         The source items type.
+     * @return the new processor that publishes the statistics of the mapped values.
+     */
+    public static <T> Flow.Processor<T, IntSummaryStatistics> summaryStatistics(ToIntFunction<? super T> toIntMapper) {
+        requireNonNull(toIntMapper);
+        return collect(Collectors.summarizingInt(toIntMapper));
+    }
+
+    /**
+     * Flow counterpart of
+     * {@link com.dvelopp.functional.utils.CollectionUtils#getSummaryStatistics(Collection, ToLongFunction)}.
+     *
+     * @param toLongMapper The function to apply to each item.
+     * @param <T>          The source items type.
+     * @return the new processor that publishes the statistics of the mapped values.
+     */
+    public static <T> Flow.Processor<T, LongSummaryStatistics> summaryStatisticsByLong(
+            ToLongFunction<? super T> toLongMapper) {
+        requireNonNull(toLongMapper);
+        return collect(Collectors.summarizingLong(toLongMapper));
+    }
+
+    /**
+     * Flow counterpart of
+     * {@link com.dvelopp.functional.utils.CollectionUtils#getSummaryStatistics(Collection, ToDoubleFunction)}.
+     *
+     * @param toDoubleMapper The function to apply to each item.
+     * @param <T>            The source items type.
+     * @return the new processor that publishes the statistics of the mapped values.
+     */
+    public static <T> Flow.Processor<T, DoubleSummaryStatistics> summaryStatisticsByDouble(
+            ToDoubleFunction<? super T> toDoubleMapper) {
+        requireNonNull(toDoubleMapper);
+        return collect(Collectors.summarizingDouble(toDoubleMapper));
+    }
+
+    /**
+     * Returns a subscriber that performs the action for each item.
+     *
+     * @param action The action to be performed for each item.
+     * @param <T>    The items type.
+     * @return the new subscriber.
+     */
+    public static <T> ForEachSubscriber<T> forEach(Consumer<? super T> action) {
+        return forEach(action, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns a subscriber that performs the action for each item, requesting at most the batch size of items at
+     * once.
+     *
+     * @param action    The action to be performed for each item.
+     * @param batchSize The maximal number of requested items.
+     * @param <T>       The items type.
+     * @return the new subscriber.
+     * @throws IllegalArgumentException if the batch size is not positive.
+     */
+    public static <T> ForEachSubscriber<T> forEach(Consumer<? super T> action, int batchSize) {
+        requireNonNull(action);
+        return new ForEachSubscriber<>(action, batchSize);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.dvelopp.functional.utils.interfaces;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a predicate (boolean-valued function) of three {@code double}-valued arguments.  This is the
+ * {@code double}-consuming primitive type specialization of {@link TriPredicate}.
+ *
+ * @since 1.3
+ */
+@FunctionalInterface
+public interface DoubleTriPredicate {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param first  The first input argument.
+     * @param second The second input argument.
+     * @param third  The third input argument.
+     * @return {@code true} if the input arguments match the predicate,
+     * otherwise {@code false}
+     */
+    boolean test(double first, double second, double third);
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical AND of this predicate and another.
+     *
+     * @param other A predicate that will be logically-ANDed with this predicate.
+     * @return A composed predicate that represents the short-circuiting logical AND of this predicate and the
+     * {@code other} predicate.
+     * @throws NullPointerException if other is null.
+     */
+    default DoubleTriPredicate and(DoubleTriPredicate other) {
+        requireNonNull(other);
+        return (first, second, third) -> test(first, second, third) && other.test(first, second, third);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical OR of this predicate and another.
+     *
+     * @param other A predicate that will be logically-ORed with this predicate.
+     * @return A composed predicate that represents the short-circuiting logical OR of this predicate and the
+     * {@code other} predicate.
+     * @throws NullPointerException if other is null.
+     */
+    default DoubleTriPredicate or(DoubleTriPredicate other) {
+        requireNonNull(other);
+        return (first, second, third) -> test(first, second, third) || other.test(first, second, third);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     *
+     * @return A predicate that represents the logical negation of this predicate.
+     */
+    default DoubleTriPredicate negate() {
+        return (first, second, third) -> !test(first, second, third);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.dvelopp.functional.utils.interfaces;
+
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation upon three {@code int}-valued operands and producing a
+ * {@code int}-valued result.  This is the primitive type specialization of
+ * {@link TriOperator} for {@code int}.
+ *
+ * @since 1.3
+ */
+@FunctionalInterface
+public interface IntTriOperator {
+
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param first  The first operand.
+     * @param second The second operand.
+     * @param third  The third operand.
+     * @return The operator result.
+     */
+    int applyAsInt(int first, int second, int third);
+
+    /**
+     * Returns a composed operator that first applies this operator to its input, and then applies the
+     * {@code after} operator to the result.
+     *
+     * @param after The operator to apply after this operator is applied.
+     * @return A composed operator that first applies this operator and then applies the {@code after} operator.
+     * @throws NullPointerException if after is null.
+     */
+    default IntTriOperator andThen(IntUnaryOperator after) {
+        requireNonNull(after);
+        return (first, second, third) -> after.applyAsInt(applyAsInt(first, second, third));
+    }
+
+    /**
+     * Returns a composed operator that first applies the {@code before} operator to each operand, and then applies
+     * this operator to the results.
+     *
+     * @param before The operator to apply to each operand before this operator is applied.
+     * @return A composed operator that first applies the {@code before} operator and then applies this operator.
+     * @throws NullPointerException if before is null.
+     */
+    default IntTriOperator compose(IntUnaryOperator before) {
+        requireNonNull(before);
+        return (first, second, third) -> applyAsInt(before.applyAsInt(first), before.applyAsInt(second),
+                before.applyAsInt(third));
+    }
+
+}
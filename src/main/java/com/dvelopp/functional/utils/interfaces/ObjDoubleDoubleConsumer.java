@@ -0,0 +1,41 @@
+package com.dvelopp.functional.utils.interfaces;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation that accepts an object-valued and two {@code double}-valued arguments, and returns no
+ * result.  This is the {@code (reference, double, double)} specialization of {@link TriConsumer}.
+ * Unlike most other functional interfaces, {@code ObjDoubleDoubleConsumer} is expected to operate via side-effects.
+ *
+ * @param <T> The type of the object argument to the operation.
+ * @since 1.3
+ */
+@FunctionalInterface
+public interface ObjDoubleDoubleConsumer<T> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param t      The first input argument.
+     * @param first  The second input argument.
+     * @param second The third input argument.
+     */
+    void accept(T t, double first, double second);
+
+    /**
+     * Returns a composed consumer that performs, in sequence, this operation followed by the {@code after}
+     * operation.
+     *
+     * @param after The operation to perform after this operation.
+     * @return A composed consumer that performs in sequence this operation followed by the {@code after} operation.
+     * @throws NullPointerException if after is null.
+     */
+    default ObjDoubleDoubleConsumer<T> andThen(ObjDoubleDoubleConsumer<? super T> after) {
+        requireNonNull(after);
+        return (t, first, second) -> {
+            accept(t, first, second);
+            after.accept(t, first, second);
+        };
+    }
+
+}
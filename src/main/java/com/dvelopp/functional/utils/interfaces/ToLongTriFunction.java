@@ -0,0 +1,43 @@
+package com.dvelopp.functional.utils.interfaces;
+
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a function that accepts three arguments and produces a {@code long}-valued result.  This is the
+ * {@code long}-producing primitive specialization for {@link TriFunction}.
+ *
+ * @param <T1> The type of the first argument to the function.
+ * @param <T2> The type of the second argument to the function.
+ * @param <T3> The type of the third argument to the function.
+ * @since 1.3
+ */
+@FunctionalInterface
+public interface ToLongTriFunction<T1, T2, T3> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param firstArgument  The first input argument.
+     * @param secondArgument The second input argument.
+     * @param thirdArgument  The third input argument.
+     * @return The function result.
+     */
+    long applyAsLong(T1 firstArgument, T2 secondArgument, T3 thirdArgument);
+
+    /**
+     * Returns a composed function that first applies this function to its input, and then applies the
+     * {@code after} operator to the result.
+     *
+     * @param after The operator to apply after this function is applied.
+     * @return A composed function that first applies this function and then applies the {@code after} operator.
+     * @throws NullPointerException if after is null.
+     */
+    default ToLongTriFunction<T1, T2, T3> andThen(LongUnaryOperator after) {
+        requireNonNull(after);
+        return (firstArgument, secondArgument, thirdArgument) ->
+                after.applyAsLong(applyAsLong(firstArgument, secondArgument, thirdArgument));
+    }
+
+}
@@ -2,6 +2,8 @@ package com.dvelopp.functional.utils.interfaces;
 
 import java.util.function.Consumer;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Represents an operation that accepts three input arguments and returns no
  * result.  This is the three-arity specialization of {@link Consumer}.
@@ -25,4 +27,20 @@ public interface TriConsumer<T1, T2, T3> {
      */
     void accept(T1 t1, T2 t2, T3 t3);
 
+    /**
+     * Returns a composed consumer that performs, in sequence, this operation followed by the {@code after}
+     * operation.
+     *
+     * @param after The operation to perform after this operation.
+     * @return A composed consumer that performs in sequence this operation followed by the {@code after} operation.
+     * @throws NullPointerException if after is null.
+     */
+    default TriConsumer<T1, T2, T3> andThen(TriConsumer<? super T1, ? super T2, ? super T3> after) {
+        requireNonNull(after);
+        return (t1, t2, t3) -> {
+            accept(t1, t2, t3);
+            after.accept(t1, t2, t3);
+        };
+    }
+
 }
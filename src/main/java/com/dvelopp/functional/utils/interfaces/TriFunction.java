@@ -2,6 +2,8 @@ package com.dvelopp.functional.utils.interfaces;
 
 import java.util.function.Function;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Represents a function that accepts three arguments and produces a result.
  * This is the three-arity specialization of {@link Function}.
@@ -25,6 +27,21 @@ public interface TriFunction<T1, T2, T3, R> {
      */
     R apply(T1 firstArgument, T2 secondArgument, T3 thirdArgument);
 
+    /**
+     * Returns a composed function that first applies this function to its input, and then applies the
+     * {@code after} function to the result.
+     *
+     * @param after The function to apply after this function is applied.
+     * @param <V>   The type of output of the {@code after} function, and of the composed function.
+     * @return A composed function that first applies this function and then applies the {@code after} function.
+     * @throws NullPointerException if after is null.
+     */
+    default <V> TriFunction<T1, T2, T3, V> andThen(Function<? super R, ? extends V> after) {
+        requireNonNull(after);
+        return (firstArgument, secondArgument, thirdArgument) ->
+                after.apply(apply(firstArgument, secondArgument, thirdArgument));
+    }
+
     /**
      * Returns a TriFunction that always returns its first input argument.
      *
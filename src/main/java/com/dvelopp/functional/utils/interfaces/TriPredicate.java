@@ -2,6 +2,8 @@ package com.dvelopp.functional.utils.interfaces;
 
 import java.util.function.Predicate;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Represents a predicate (boolean-valued function) of three arguments.  This is
  * the three-arity specialization of {@link Predicate}.
@@ -27,4 +29,39 @@ public interface TriPredicate<T1, T2, T3> {
      * otherwise {@code false}
      */
     boolean test(T1 t1, T2 t2, T3 t3);
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical AND of this predicate and another.
+     *
+     * @param other A predicate that will be logically-ANDed with this predicate.
+     * @return A composed predicate that represents the short-circuiting logical AND of this predicate and the
+     * {@code other} predicate.
+     * @throws NullPointerException if other is null.
+     */
+    default TriPredicate<T1, T2, T3> and(TriPredicate<? super T1, ? super T2, ? super T3> other) {
+        requireNonNull(other);
+        return (t1, t2, t3) -> test(t1, t2, t3) && other.test(t1, t2, t3);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical OR of this predicate and another.
+     *
+     * @param other A predicate that will be logically-ORed with this predicate.
+     * @return A composed predicate that represents the short-circuiting logical OR of this predicate and the
+     * {@code other} predicate.
+     * @throws NullPointerException if other is null.
+     */
+    default TriPredicate<T1, T2, T3> or(TriPredicate<? super T1, ? super T2, ? super T3> other) {
+        requireNonNull(other);
+        return (t1, t2, t3) -> test(t1, t2, t3) || other.test(t1, t2, t3);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     *
+     * @return A predicate that represents the logical negation of this predicate.
+     */
+    default TriPredicate<T1, T2, T3> negate() {
+        return (t1, t2, t3) -> !test(t1, t2, t3);
+    }
 }
@@ -0,0 +1,636 @@
+package com.dvelopp.functional.utils.persistent;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable map with structural sharing based on the hash array mapped trie. Each level of the trie consumes 5 bits
+ * of the key hash, the nodes keep only the occupied slots and a bitmap of them, so {@link #plus(Object, Object)} and
+ * {@link #minus(Object)} copy O(log32 n) small nodes and share the rest with the original map. Keys with equal hashes
+ * are kept in collision nodes.
+ * <p>
+ * Many updates in a row can be batched in a {@link Transient} that changes the nodes it owns in place.
+ * <p>
+ * Null keys and values are supported. The map implements {@link Map} in the read only way: the mutating methods of
+ * {@link Map} throw {@link UnsupportedOperationException}.
+ *
+ * @param <K> The keys type.
+ * @param <V> The values type.
+ * @since 1.3
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * The trie can have at most 7 bitmap levels for 32-bit hashes and one collision level below them.
+     */
+    private static final int MAX_DEPTH = 8;
+
+    /**
+     * Replaces {@code null} keys in the nodes, since {@code null} key marks a slot with a sub node.
+     */
+    private static final Object NULL = new Object();
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(0, null);
+
+    private final int size;
+    private final Node root;
+
+    private PersistentHashMap(int size, Node root) {
+        this.size = size;
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @param <K> The keys type.
+     * @param <V> The values type.
+     * @return the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns the map with the entries of the given map.
+     *
+     * @param map The map to copy.
+     * @param <K> The keys type.
+     * @param <V> The values type.
+     * @return the map with the same entries.
+     */
+    public static <K, V> PersistentHashMap<K, V> from(Map<? extends K, ? extends V> map) {
+        requireNonNull(map);
+        Transient<K, V> result = PersistentHashMap.<K, V>empty().asTransient();
+        map.forEach(result::put);
+        return result.persistent();
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates elements into a new map using a transient map. If the mapped keys
+     * contain duplicates, the last value wins.
+     *
+     * @param keyMapper   The mapping function to produce keys.
+     * @param valueMapper The mapping function to produce values.
+     * @param <T>         The type of the input elements.
+     * @param <K>         The output type of the key mapping function.
+     * @param <V>         The output type of the value mapping function.
+     * @return the collector which collects elements into a map.
+     */
+    public static <T, K, V> Collector<T, ?, PersistentHashMap<K, V>> toPersistentMap(
+            Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends V> valueMapper) {
+        requireNonNull(keyMapper);
+        requireNonNull(valueMapper);
+        return Collector.of(() -> PersistentHashMap.<K, V>empty().asTransient(),
+                (map, element) -> map.put(keyMapper.apply(element), valueMapper.apply(element)),
+                (left, right) -> left.putAll(right.persistent()), Transient::persistent);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Object value = find(key);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new NodeIterator<Entry<K, V>>(root) {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    Entry<K, V> current(Object key, Object value) {
+                        return new SimpleImmutableEntry<>((K) key, (V) value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns a new map with the key associated with the value. The previous value of the key is replaced.
+     *
+     * @param key   The key, can be null.
+     * @param value The value, can be null.
+     * @return the new map, or this map if the key is already associated with the same value.
+     */
+    public PersistentHashMap<K, V> plus(K key, V value) {
+        Box added = new Box();
+        Node newRoot = (root == null ? BitmapIndexedNode.EMPTY : root).assoc(null, 0, hash(key), mask(key), value,
+                added);
+        return newRoot == root ? this : new PersistentHashMap<>(added.set ? size + 1 : size, newRoot);
+    }
+
+    /**
+     * Returns a new map without the key.
+     *
+     * @param key The key to remove.
+     * @return the new map, or this map if it doesn't contain the key.
+     */
+    public PersistentHashMap<K, V> minus(Object key) {
+        if (root == null) {
+            return this;
+        }
+        Node newRoot = root.without(null, 0, hash(key), mask(key), new Box());
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentHashMap<>(size - 1, newRoot);
+    }
+
+    /**
+     * Returns a transient copy of this map. The map itself stays unchanged.
+     *
+     * @return the new transient map with the same entries.
+     */
+    public Transient<K, V> asTransient() {
+        return new Transient<>(this);
+    }
+
+    /**
+     * Returns the iterator over the keys without creating an entry per key.
+     */
+    Iterator<K> keyIterator() {
+        return new NodeIterator<K>(root) {
+            @Override
+            @SuppressWarnings("unchecked")
+            K current(Object key, Object value) {
+                return (K) key;
+            }
+        };
+    }
+
+    private Object find(Object key) {
+        return root == null ? NOT_FOUND : root.find(0, hash(key), mask(key));
+    }
+
+    private static Object mask(Object key) {
+        return key == null ? NULL : key;
+    }
+
+    private static Object unmask(Object key) {
+        return key == NULL ? null : key;
+    }
+
+    private static int hash(Object key) {
+        if (key == null || key == NULL) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bitPosition(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Holder for the flag that tells the caller whether a leaf was added or removed.
+     */
+    private static final class Box {
+
+        private boolean set;
+    }
+
+    private abstract static class Node {
+
+        /**
+         * The token of the transient map that is allowed to change the node in place.
+         */
+        final Object edit;
+        Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        /**
+         * Returns the number of the used array cells.
+         */
+        abstract int length();
+
+        abstract Node assoc(Object edit, int shift, int hash, Object key, Object value, Box added);
+
+        abstract Node without(Object edit, int shift, int hash, Object key, Box removed);
+
+        abstract Object find(int shift, int hash, Object key);
+
+        boolean isEditable(Object edit) {
+            return edit != null && this.edit == edit;
+        }
+    }
+
+    /**
+     * Node which keeps the occupied slots only, their positions are marked in the bitmap. Each slot takes two array
+     * cells: the key and the value, or {@code null} and the sub node.
+     */
+    private static final class BitmapIndexedNode extends Node {
+
+        private static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(null, 0, new Object[0]);
+
+        private int bitmap;
+
+        private BitmapIndexedNode(Object edit, int bitmap, Object[] array) {
+            super(edit, array);
+            this.bitmap = bitmap;
+        }
+
+        @Override
+        int length() {
+            return 2 * Integer.bitCount(bitmap);
+        }
+
+        @Override
+        Node assoc(Object edit, int shift, int hash, Object key, Object value, Box added) {
+            int bit = bitPosition(hash, shift);
+            int index = 2 * index(bit);
+            if ((bitmap & bit) != 0) {
+                Object keyOrNull = array[index];
+                Object valueOrNode = array[index + 1];
+                if (keyOrNull == null) {
+                    Node node = ((Node) valueOrNode).assoc(edit, shift + BITS, hash, key, value, added);
+                    return node == valueOrNode ? this : editAndSet(edit, index + 1, node);
+                }
+                if (key.equals(keyOrNull)) {
+                    return value == valueOrNode ? this : editAndSet(edit, index + 1, value);
+                }
+                added.set = true;
+                BitmapIndexedNode result = editAndSet(edit, index, null);
+                result.array[index + 1] = createNode(edit, shift + BITS, keyOrNull, valueOrNode, hash, key, value);
+                return result;
+            }
+            added.set = true;
+            int length = length();
+            if (isEditable(edit) && length < array.length) {
+                System.arraycopy(array, index, array, index + 2, length - index);
+                array[index] = key;
+                array[index + 1] = value;
+                bitmap |= bit;
+                return this;
+            }
+            Object[] newArray = new Object[edit == null ? length + 2 : Math.max(4, 2 * length)];
+            System.arraycopy(array, 0, newArray, 0, index);
+            newArray[index] = key;
+            newArray[index + 1] = value;
+            System.arraycopy(array, index, newArray, index + 2, length - index);
+            return new BitmapIndexedNode(edit, bitmap | bit, newArray);
+        }
+
+        @Override
+        Node without(Object edit, int shift, int hash, Object key, Box removed) {
+            int bit = bitPosition(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = 2 * index(bit);
+            Object keyOrNull = array[index];
+            Object valueOrNode = array[index + 1];
+            if (keyOrNull == null) {
+                Node node = ((Node) valueOrNode).without(edit, shift + BITS, hash, key, removed);
+                if (node == valueOrNode) {
+                    return this;
+                }
+                if (node != null) {
+                    return editAndSet(edit, index + 1, node);
+                }
+            } else if (!key.equals(keyOrNull)) {
+                return this;
+            }
+            removed.set = true;
+            if (bitmap == bit) {
+                return null;
+            }
+            int length = length();
+            if (isEditable(edit)) {
+                System.arraycopy(array, index + 2, array, index, length - index - 2);
+                array[length - 2] = null;
+                array[length - 1] = null;
+                bitmap ^= bit;
+                return this;
+            }
+            Object[] newArray = new Object[length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, length - index - 2);
+            return new BitmapIndexedNode(edit, bitmap ^ bit, newArray);
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int bit = bitPosition(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int index = 2 * index(bit);
+            Object keyOrNull = array[index];
+            Object valueOrNode = array[index + 1];
+            if (keyOrNull == null) {
+                return ((Node) valueOrNode).find(shift + BITS, hash, key);
+            }
+            return key.equals(keyOrNull) ? valueOrNode : NOT_FOUND;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapIndexedNode editAndSet(Object edit, int index, Object element) {
+            BitmapIndexedNode result = isEditable(edit) ? this : new BitmapIndexedNode(edit, bitmap, array.clone());
+            result.array[index] = element;
+            return result;
+        }
+
+        private static Node createNode(Object edit, int shift, Object firstKey, Object firstValue, int secondHash,
+                                       Object secondKey, Object secondValue) {
+            int firstHash = hash(firstKey);
+            if (firstHash == secondHash) {
+                return new HashCollisionNode(edit, firstHash, 2,
+                        new Object[]{firstKey, firstValue, secondKey, secondValue});
+            }
+            Box added = new Box();
+            return EMPTY.assoc(edit, shift, firstHash, firstKey, firstValue, added)
+                    .assoc(edit, shift, secondHash, secondKey, secondValue, added);
+        }
+    }
+
+    /**
+     * Node for the keys with the same hash, the keys and values are kept next to each other and compared linearly.
+     */
+    private static final class HashCollisionNode extends Node {
+
+        private final int hash;
+        private int count;
+
+        private HashCollisionNode(Object edit, int hash, int count, Object[] array) {
+            super(edit, array);
+            this.hash = hash;
+            this.count = count;
+        }
+
+        @Override
+        int length() {
+            return 2 * count;
+        }
+
+        @Override
+        Node assoc(Object edit, int shift, int hash, Object key, Object value, Box added) {
+            if (hash != this.hash) {
+                return new BitmapIndexedNode(edit, bitPosition(this.hash, shift), new Object[]{null, this})
+                        .assoc(edit, shift, hash, key, value, added);
+            }
+            int index = indexOf(key);
+            if (index != -1) {
+                if (array[index + 1] == value) {
+                    return this;
+                }
+                HashCollisionNode result = editable(edit);
+                result.array[index + 1] = value;
+                return result;
+            }
+            added.set = true;
+            int length = length();
+            HashCollisionNode result = editable(edit);
+            if (length == result.array.length) {
+                result.array = Arrays.copyOf(result.array, length + 2);
+            }
+            result.array[length] = key;
+            result.array[length + 1] = value;
+            result.count++;
+            return result;
+        }
+
+        @Override
+        Node without(Object edit, int shift, int hash, Object key, Box removed) {
+            int index = indexOf(key);
+            if (index == -1) {
+                return this;
+            }
+            removed.set = true;
+            if (count == 1) {
+                return null;
+            }
+            int length = length();
+            HashCollisionNode result = editable(edit);
+            result.array[index] = result.array[length - 2];
+            result.array[index + 1] = result.array[length - 1];
+            result.array[length - 2] = null;
+            result.array[length - 1] = null;
+            result.count--;
+            return result;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int index = indexOf(key);
+            return index == -1 ? NOT_FOUND : array[index + 1];
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < 2 * count; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private HashCollisionNode editable(Object edit) {
+            return isEditable(edit) ? this : new HashCollisionNode(edit, hash, count, array.clone());
+        }
+    }
+
+    /**
+     * Depth first iterator over the entries of the trie.
+     */
+    private abstract static class NodeIterator<E> implements Iterator<E> {
+
+        private final Object[][] arrays = new Object[MAX_DEPTH][];
+        private final int[] lengths = new int[MAX_DEPTH];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private boolean ready;
+        private Object key;
+        private Object value;
+
+        NodeIterator(Node root) {
+            if (root != null) {
+                push(root);
+            }
+        }
+
+        abstract E current(Object key, Object value);
+
+        @Override
+        public boolean hasNext() {
+            if (!ready) {
+                ready = advance();
+            }
+            return ready;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return current(unmask(key), value);
+        }
+
+        private boolean advance() {
+            while (depth > 0) {
+                int level = depth - 1;
+                if (positions[level] == lengths[level]) {
+                    arrays[level] = null;
+                    depth--;
+                    continue;
+                }
+                Object[] array = arrays[level];
+                int position = positions[level];
+                positions[level] += 2;
+                if (array[position] == null) {
+                    push((Node) array[position + 1]);
+                } else {
+                    key = array[position];
+                    value = array[position + 1];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void push(Node node) {
+            arrays[depth] = node.array;
+            lengths[depth] = node.length();
+            positions[depth] = 0;
+            depth++;
+        }
+    }
+
+    /**
+     * Mutable builder of a map that changes the nodes it has already copied in place. The transient must not be used
+     * after {@link #persistent()} is called and it is not thread safe.
+     *
+     * @param <K> The keys type.
+     * @param <V> The values type.
+     */
+    public static final class Transient<K, V> {
+
+        private final Box box = new Box();
+        private Object edit = new Object();
+        private int size;
+        private Node root;
+
+        private Transient(PersistentHashMap<K, V> map) {
+            size = map.size;
+            root = map.root;
+        }
+
+        /**
+         * Associates the key with the value, the previous value of the key is replaced.
+         *
+         * @param key   The key, can be null.
+         * @param value The value, can be null.
+         * @return this transient map.
+         */
+        public Transient<K, V> put(K key, V value) {
+            ensureEditable();
+            box.set = false;
+            root = (root == null ? BitmapIndexedNode.EMPTY : root).assoc(edit, 0, hash(key), mask(key), value, box);
+            if (box.set) {
+                size++;
+            }
+            return this;
+        }
+
+        /**
+         * Copies all the entries of the map into this transient map.
+         *
+         * @param map The map to copy.
+         * @return this transient map.
+         */
+        public Transient<K, V> putAll(Map<? extends K, ? extends V> map) {
+            map.forEach(this::put);
+            return this;
+        }
+
+        /**
+         * Removes the key.
+         *
+         * @param key The key to remove.
+         * @return this transient map.
+         */
+        public Transient<K, V> remove(Object key) {
+            ensureEditable();
+            if (root != null) {
+                box.set = false;
+                root = root.without(edit, 0, hash(key), mask(key), box);
+                if (box.set) {
+                    size--;
+                }
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            ensureEditable();
+            Object value = root == null ? NOT_FOUND : root.find(0, hash(key), mask(key));
+            return value == NOT_FOUND ? null : (V) value;
+        }
+
+        public boolean containsKey(Object key) {
+            ensureEditable();
+            return root != null && root.find(0, hash(key), mask(key)) != NOT_FOUND;
+        }
+
+        public int size() {
+            ensureEditable();
+            return size;
+        }
+
+        /**
+         * Returns the persistent map with the entries of this transient and invalidates the transient.
+         *
+         * @return the persistent map.
+         */
+        public PersistentHashMap<K, V> persistent() {
+            ensureEditable();
+            edit = null;
+            return size == 0 ? empty() : new PersistentHashMap<>(size, root);
+        }
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("Transient used after persistent() call");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.dvelopp.functional.utils.persistent;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Collector;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable set with structural sharing. The elements are the keys of a {@link PersistentHashMap}, so
+ * {@link #plus(Object)} and {@link #minus(Object)} copy O(log32 n) small nodes and share the rest with the original
+ * set.
+ * <p>
+ * Many updates in a row can be batched in a {@link Transient} that changes the nodes it owns in place.
+ * <p>
+ * Null elements are supported. The set implements {@link Set} in the read only way: the mutating methods of
+ * {@link Set} throw {@link UnsupportedOperationException}.
+ *
+ * @param <E> The elements type.
+ * @since 1.3
+ */
+public final class PersistentHashSet<E> extends AbstractSet<E> {
+
+    private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(PersistentHashMap.empty());
+
+    private final PersistentHashMap<E, Boolean> map;
+
+    private PersistentHashSet(PersistentHashMap<E, Boolean> map) {
+        this.map = map;
+    }
+
+    /**
+     * Returns the empty set.
+     *
+     * @param <E> The elements type.
+     * @return the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> empty() {
+        return (PersistentHashSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns the set of the given elements.
+     *
+     * @param elements The elements of the set.
+     * @param <E>      The elements type.
+     * @return the set of the given elements without duplicates.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E> PersistentHashSet<E> of(E... elements) {
+        return from(Arrays.asList(elements));
+    }
+
+    /**
+     * Returns the set of the given elements.
+     *
+     * @param elements The elements of the set.
+     * @param <E>      The elements type.
+     * @return the set of the given elements without duplicates.
+     */
+    public static <E> PersistentHashSet<E> from(Iterable<? extends E> elements) {
+        requireNonNull(elements);
+        Transient<E> set = PersistentHashSet.<E>empty().asTransient();
+        for (E element : elements) {
+            set.add(element);
+        }
+        return set.persistent();
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the input elements into a new set using a transient set.
+     *
+     * @param <E> The elements type.
+     * @return the collector which collects all the input elements into a set.
+     */
+    public static <E> Collector<E, ?, PersistentHashSet<E>> toPersistentSet() {
+        return Collector.of(() -> PersistentHashSet.<E>empty().asTransient(), Transient::add,
+                (left, right) -> left.addAll(right.persistent()), Transient::persistent,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return map.containsKey(element);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return map.keyIterator();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns a new set with the element added.
+     *
+     * @param element The element to add, can be null.
+     * @return the new set, or this set if it already contains the element.
+     */
+    public PersistentHashSet<E> plus(E element) {
+        PersistentHashMap<E, Boolean> newMap = map.plus(element, Boolean.TRUE);
+        return newMap == map ? this : new PersistentHashSet<>(newMap);
+    }
+
+    /**
+     * Returns a new set without the element.
+     *
+     * @param element The element to remove.
+     * @return the new set, or this set if it doesn't contain the element.
+     */
+    public PersistentHashSet<E> minus(Object element) {
+        PersistentHashMap<E, Boolean> newMap = map.minus(element);
+        return newMap == map ? this : newMap.isEmpty() ? empty() : new PersistentHashSet<>(newMap);
+    }
+
+    /**
+     * Returns a transient copy of this set. The set itself stays unchanged.
+     *
+     * @return the new transient set with the same elements.
+     */
+    public Transient<E> asTransient() {
+        return new Transient<>(map.asTransient());
+    }
+
+    /**
+     * Mutable builder of a set that changes the nodes it has already copied in place. The transient must not be used
+     * after {@link #persistent()} is called and it is not thread safe.
+     *
+     * @param <E> The elements type.
+     */
+    public static final class Transient<E> {
+
+        private final PersistentHashMap.Transient<E, Boolean> map;
+
+        private Transient(PersistentHashMap.Transient<E, Boolean> map) {
+            this.map = map;
+        }
+
+        /**
+         * Adds the element.
+         *
+         * @param element The element to add, can be null.
+         * @return this transient set.
+         */
+        public Transient<E> add(E element) {
+            map.put(element, Boolean.TRUE);
+            return this;
+        }
+
+        /**
+         * Adds all the elements.
+         *
+         * @param elements The elements to add.
+         * @return this transient set.
+         */
+        public Transient<E> addAll(Iterable<? extends E> elements) {
+            for (E element : elements) {
+                add(element);
+            }
+            return this;
+        }
+
+        /**
+         * Removes the element.
+         *
+         * @param element The element to remove.
+         * @return this transient set.
+         */
+        public Transient<E> remove(Object element) {
+            map.remove(element);
+            return this;
+        }
+
+        public boolean contains(Object element) {
+            return map.containsKey(element);
+        }
+
+        public int size() {
+            return map.size();
+        }
+
+        /**
+         * Returns the persistent set with the elements of this transient and invalidates the transient.
+         *
+         * @return the persistent set.
+         */
+        public PersistentHashSet<E> persistent() {
+            PersistentHashMap<E, Boolean> result = map.persistent();
+            return result.isEmpty() ? empty() : new PersistentHashSet<>(result);
+        }
+    }
+
+}
@@ -0,0 +1,428 @@
+package com.dvelopp.functional.utils.persistent;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable list with structural sharing. Updates return a new vector that shares all but O(log32 n) nodes with the
+ * original one, so {@link #append(Object)}, {@link #with(int, Object)} and {@link #dropLast()} don't copy the whole
+ * list. The elements are stored in a 32-way tree with the last (up to 32) elements kept in a separate tail array, so
+ * appending is usually just a copy of the tail.
+ * <p>
+ * Many updates in a row can be batched in a {@link Transient} that changes the nodes it owns in place.
+ * <p>
+ * The vector implements {@link List} in the read only way: the mutating methods of {@link List} throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @param <E> The elements type.
+ * @since 1.3
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <E> The elements type.
+     * @return the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns the vector of the given elements.
+     *
+     * @param elements The elements of the vector.
+     * @param <E>      The elements type.
+     * @return the vector of the given elements in the same order.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E> PersistentVector<E> of(E... elements) {
+        return from(Arrays.asList(elements));
+    }
+
+    /**
+     * Returns the vector of the given elements.
+     *
+     * @param elements The elements of the vector.
+     * @param <E>      The elements type.
+     * @return the vector of the given elements in the iteration order.
+     */
+    public static <E> PersistentVector<E> from(Iterable<? extends E> elements) {
+        requireNonNull(elements);
+        Transient<E> vector = PersistentVector.<E>empty().asTransient();
+        for (E element : elements) {
+            vector.add(element);
+        }
+        return vector.persistent();
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the input elements into a new vector using a transient vector.
+     *
+     * @param <E> The elements type.
+     * @return the collector which collects all the input elements into a vector in encounter order.
+     */
+    public static <E> Collector<E, ?, PersistentVector<E>> toPersistentVector() {
+        return Collector.of(() -> PersistentVector.<E>empty().asTransient(), Transient::add,
+                (left, right) -> left.addAll(right.persistent()), Transient::persistent);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) arrayFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+
+            private int index;
+            private Object[] array;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    array = arrayFor(index);
+                }
+                return (E) array[index++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Returns a new vector with the element appended to the end.
+     *
+     * @param element The element to append.
+     * @return the new vector.
+     */
+    public PersistentVector<E> append(E element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        int newShift = shift;
+        Node newRoot;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Returns a new vector with the element at the index replaced. Index equal to the size appends the element.
+     *
+     * @param index   The index of the element to replace.
+     * @param element The new element.
+     * @return the new vector.
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the size.
+     */
+    public PersistentVector<E> with(int index, E element) {
+        if (index == size) {
+            return append(element);
+        }
+        checkIndex(index, size);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, doAssoc(null, shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a new vector without the last element.
+     *
+     * @return the new vector.
+     * @throws IllegalStateException if the vector is empty.
+     */
+    public PersistentVector<E> dropLast() {
+        if (size == 0) {
+            throw new IllegalStateException("Can't drop the last element of an empty vector");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = arrayFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns a transient copy of this vector. The vector itself stays unchanged.
+     *
+     * @return the new transient vector with the same elements.
+     */
+    public Transient<E> asTransient() {
+        return new Transient<>(this);
+    }
+
+    private Object[] arrayFor(int index) {
+        checkIndex(index, size);
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private Node popTail(int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Node result = new Node(null, node.array.clone());
+            result.array[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node result = new Node(null, node.array.clone());
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(format("Index: %d, Size: %d", index, size));
+        }
+    }
+
+    /**
+     * Returns the node that can be changed in place with the given edit token, copying it if it belongs to another
+     * owner. Without edit token (persistent updates) the node is always copied.
+     */
+    private static Node editable(Object edit, Node node) {
+        return edit != null && node.edit == edit ? node : new Node(edit, node.array.clone());
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node result = new Node(edit);
+        result.array[0] = newPath(edit, level - BITS, node);
+        return result;
+    }
+
+    private static Node pushTail(Object edit, int size, int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = editable(edit, parent);
+        Node nodeToInsert;
+        if (level == BITS) {
+            nodeToInsert = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            nodeToInsert = child != null
+                    ? pushTail(edit, size, level - BITS, child, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+        }
+        result.array[subIndex] = nodeToInsert;
+        return result;
+    }
+
+    private static Node doAssoc(Object edit, int level, Node node, int index, Object element) {
+        Node result = editable(edit, node);
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = doAssoc(edit, level - BITS, (Node) node.array[subIndex], index, element);
+        }
+        return result;
+    }
+
+    /**
+     * Node of the tree. The edit token identifies the transient vector that is allowed to change the node in place.
+     */
+    private static final class Node {
+
+        private final Object edit;
+        private final Object[] array;
+
+        private Node(Object edit) {
+            this(edit, new Object[WIDTH]);
+        }
+
+        private Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Mutable builder of a vector that changes the nodes it has already copied in place. The transient must not be
+     * used after {@link #persistent()} is called and it is not thread safe.
+     *
+     * @param <E> The elements type.
+     */
+    public static final class Transient<E> {
+
+        private Object edit = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Transient(PersistentVector<E> vector) {
+            size = vector.size;
+            shift = vector.shift;
+            root = new Node(edit, vector.root.array.clone());
+            tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        /**
+         * Appends the element to the end.
+         *
+         * @param element The element to append.
+         * @return this transient vector.
+         */
+        public Transient<E> add(E element) {
+            ensureEditable();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, size, shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends all the elements to the end.
+         *
+         * @param elements The elements to append.
+         * @return this transient vector.
+         */
+        public Transient<E> addAll(Iterable<? extends E> elements) {
+            for (E element : elements) {
+                add(element);
+            }
+            return this;
+        }
+
+        /**
+         * Replaces the element at the index.
+         *
+         * @param index   The index of the element to replace.
+         * @param element The new element.
+         * @return this transient vector.
+         * @throws IndexOutOfBoundsException if the index is negative or not less than the size.
+         */
+        public Transient<E> set(int index, E element) {
+            ensureEditable();
+            checkIndex(index, size);
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = doAssoc(edit, shift, root, index, element);
+            }
+            return this;
+        }
+
+        public int size() {
+            ensureEditable();
+            return size;
+        }
+
+        /**
+         * Returns the persistent vector with the elements of this transient and invalidates the transient.
+         *
+         * @return the persistent vector.
+         */
+        public PersistentVector<E> persistent() {
+            ensureEditable();
+            edit = null;
+            if (size == 0) {
+                return empty();
+            }
+            return new PersistentVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("Transient used after persistent() call");
+            }
+        }
+    }
+
+}
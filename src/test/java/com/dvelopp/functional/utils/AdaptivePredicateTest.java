@@ -0,0 +1,67 @@
+package com.dvelopp.functional.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static com.dvelopp.functional.utils.FunctionUtils.adaptiveAllOf;
+import static com.dvelopp.functional.utils.FunctionUtils.adaptiveAnyOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptivePredicateTest {
+
+    private static final int TESTS = AdaptivePredicate.SAMPLE_EVERY * AdaptivePredicate.REORDER_INTERVAL * 20;
+
+    @Test
+    public void adaptiveAllOf_SelectivePredicateLast_MovedFirst() {
+        AdaptivePredicate<Integer> predicate = adaptiveAllOf(i -> i >= 0, i -> i % 2 == 0);
+
+        for (int i = 0; i < TESTS; i++) {
+            assertThat(predicate.test(i)).isEqualTo(i % 2 == 0);
+        }
+
+        assertThat(predicate.getSampleCount()).isPositive();
+        assertThat(predicate.getOrder()).containsExactly(1, 0);
+    }
+
+    @Test
+    public void adaptiveAnyOf_AcceptingPredicateLast_MovedFirst() {
+        AdaptivePredicate<Integer> predicate = adaptiveAnyOf(i -> i < 0, i -> i % 4 != 0, i -> i > TESTS);
+
+        for (int i = 0; i < TESTS; i++) {
+            assertThat(predicate.test(i)).isEqualTo(i % 4 != 0);
+        }
+
+        assertThat(predicate.getOrder()[0]).isEqualTo(1);
+    }
+
+    @Test
+    public void adaptiveAllOf_Reordered_FewerEvaluations() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Predicate<Integer> rarelyRejecting = i -> evaluations.incrementAndGet() > 0;
+        AdaptivePredicate<Integer> predicate = adaptiveAllOf(rarelyRejecting, i -> i % 10 == 0);
+        for (int i = 0; i < TESTS; i++) {
+            predicate.test(i);
+        }
+        evaluations.set(0);
+
+        for (int i = 0; i < 1000; i++) {
+            predicate.test(i);
+        }
+
+        assertThat(evaluations.get()).isLessThan(200);
+    }
+
+    @Test
+    public void getOrder_NewPredicate_GivenOrder() {
+        assertThat(FunctionUtils.<Integer>adaptiveAllOf(i -> true, i -> false, i -> true).getOrder())
+                .containsExactly(0, 1, 2);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void adaptiveAllOf_NullPredicate_NullPointerExceptionHasBeenThrown() {
+        adaptiveAllOf(FunctionUtils.truePredicate(), null);
+    }
+
+}
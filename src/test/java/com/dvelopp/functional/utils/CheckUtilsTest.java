@@ -1,14 +1,20 @@
 package com.dvelopp.functional.utils;
 
+import com.dvelopp.functional.utils.condition.CheckUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 import static com.dvelopp.functional.utils.FunctionUtils.*;
 import static com.dvelopp.functional.utils.condition.CheckUtils.inCase;
+import static com.dvelopp.functional.utils.condition.CheckUtils.inCaseBoolean;
+import static com.dvelopp.functional.utils.condition.CheckUtils.inCaseDouble;
+import static com.dvelopp.functional.utils.condition.CheckUtils.inCaseInt;
+import static com.dvelopp.functional.utils.condition.CheckUtils.inCaseLong;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -536,6 +542,105 @@ public class CheckUtilsTest {
         inCase(identityPredicate(), true).isTrue(nullObject);
     }
 
+    @Test
+    public void inCaseBooleanIsTrue_TrueCaseForBooleanSupplier_ClosureHasBeenExecuted() {
+        BooleanSupplier condition = () -> true;
+
+        inCaseBoolean(condition).isTrue(this::closureWithoutReturn);
+
+        assertClosureWasExecuted();
+    }
+
+    @Test
+    public void inCaseBooleanIsFalse_ExceptionInBooleanSupplier_ExceptionCaseExecuted() {
+        BooleanSupplier condition = () -> {
+            throw new IllegalStateException();
+        };
+
+        inCaseBoolean(condition).isFalse(this::closureWithoutReturn).isException(this::closureWithoutReturn);
+
+        assertClosureWasExecuted();
+    }
+
+    @Test
+    public void inCaseBooleanIsTrue_PrimitiveFalse_FalseValueReturned() {
+        boolean condition = false;
+
+        String result = CheckUtils.<String>inCaseBoolean(condition).isTrue("yes").isFalse("no").value();
+
+        assertThat(result).isEqualTo("no");
+    }
+
+    @Test
+    public void inCaseIsTrue_ImplicitlyTypedSupplierLambda_ClosureHasBeenExecuted() {
+        inCase(() -> true).isTrue(this::closureWithoutReturn);
+
+        assertClosureWasExecuted();
+    }
+
+    @Test
+    public void inCaseIsException_NullBoolean_ExceptionCaseExecuted() {
+        inCase((Boolean) null).isException(this::closureWithoutReturn);
+
+        assertClosureWasExecuted();
+    }
+
+    @Test
+    public void inCaseIntIsTrueMapToInt_TrueCase_PrimitiveValueReturned() {
+        int result = inCaseInt(i -> i > 0, 5).isTrueMapToInt(i -> i * 2).isFalseMapToInt(i -> -i).intValue(0);
+
+        assertThat(result).isEqualTo(10);
+    }
+
+    @Test
+    public void inCaseIntIsFalseMapToInt_NoActionForCase_DefaultValueReturned() {
+        int result = inCaseInt(i -> i > 0, -5).isTrueMapToInt(i -> i * 2).intValue(42);
+
+        assertThat(result).isEqualTo(42);
+    }
+
+    @Test
+    public void inCaseIntIsFalse_FalseCase_ClosureHasBeenExecutedWithArgument() {
+        int[] accepted = new int[1];
+
+        inCaseInt(i -> i > 0, -3).isTrue(i -> accepted[0] = 1).isFalse(i -> accepted[0] = i);
+
+        assertThat(accepted[0]).isEqualTo(-3);
+    }
+
+    @Test
+    public void inCaseIntIsTrueMap_TrueCase_ObjectValueReturned() {
+        assertThat(inCaseInt(i -> i % 2 == 0, 4).isTrueMap(Integer::toString).value()).isEqualTo("4");
+    }
+
+    @Test
+    public void inCaseLongIsFalseMapToLong_FalseCase_PrimitiveValueReturned() {
+        long result = inCaseLong(l -> l > 10, 7L).isTrueMapToLong(l -> l).isFalseMapToLong(l -> l * 3).longValue(0);
+
+        assertThat(result).isEqualTo(21L);
+    }
+
+    @Test
+    public void inCaseDoubleIsTrueMapToDouble_TrueCase_PrimitiveValueReturned() {
+        double result = inCaseDouble(Double::isFinite, 2.5).isTrueMapToDouble(d -> d * d).doubleValue(Double.NaN);
+
+        assertThat(result).isEqualTo(6.25);
+    }
+
+    @Test
+    public void inCaseDoubleIsException_ExceptionInPredicate_ExceptionCaseExecuted() {
+        inCaseDouble(d -> {
+            throw new IllegalStateException();
+        }, 1.0).isTrueMapToDouble(d -> d).isException(this::closureWithoutReturn);
+
+        assertClosureWasExecuted();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void check_CaseForIntPredicateWithNullPredicate_NPEHasBeenThrown() {
+        inCaseInt(null, 1);
+    }
+
     /**
      * Mock for the closure without return. It could be any method.
      * We just need it in order to know whether closureWithoutReturn was executed or not.
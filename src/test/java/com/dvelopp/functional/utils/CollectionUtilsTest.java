@@ -4,10 +4,18 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -24,6 +32,7 @@ import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 @RunWith(MockitoJUnitRunner.class)
 @SuppressWarnings("ConstantConditions")
@@ -960,6 +969,801 @@ public class CollectionUtilsTest {
         assertThat(actualStream.isParallel()).isTrue();
     }
 
+    @Test
+    public void sortedMapToList_ComparatorCase_MappedObjectsHaveBeenSorted() {
+        List<BiValHolder<String, String>> testObjects = asList(biValHolder3, biValHolder1, biValHolder4, biValHolder2);
+
+        List<String> sortedObjects = sortedMapToList(testObjects, BiValHolder::getVal2, Comparator.reverseOrder());
+
+        assertThat(sortedObjects).containsExactly(VAL_4, VAL_3, VAL_2, VAL_1);
+    }
+
+    @Test
+    public void sortedMapToListByLong_WithEqualKeys_MappedObjectsHaveBeenSortedInStableOrder() {
+        List<BiValHolder<String, Long>> testObjects = asList(new BiValHolder<>(VAL_1, 3L),
+                new BiValHolder<>(VAL_2, -1L), new BiValHolder<>(VAL_3, 3L), new BiValHolder<>(VAL_4, 0L));
+
+        List<BiValHolder<String, Long>> sortedObjects = sortedMapToListByLong(testObjects, identity(),
+                BiValHolder::getVal2);
+
+        assertThat(mapToList(sortedObjects, BiValHolder::getVal1)).containsExactly(VAL_2, VAL_4, VAL_1, VAL_3);
+    }
+
+    @Test
+    public void sortedMapToListByDouble_WithNegativeValues_MappedObjectsHaveBeenSortedAsDoubleCompare() {
+        List<Double> testObjects = asList(2.5, -0.0, Double.NaN, -7.25, 0.0, Double.NEGATIVE_INFINITY, -1.0);
+
+        List<Double> sortedObjects = sortedMapToListByDouble(testObjects, identity(), Double::doubleValue);
+
+        assertThat(sortedObjects).containsExactly(Double.NEGATIVE_INFINITY, -7.25, -1.0, -0.0, 0.0, 2.5, Double.NaN);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void sortedMapToList_ComparatorIsNull_NPEHasBeenThrown() {
+        Comparator<String> nullComparator = null;
+
+        sortedMapToList(validBiValList, BiValHolder::getVal2, nullComparator);
+    }
+
+    @Test
+    public void sortedMapToStream_DataFitsIntoMemory_MappedObjectsHaveBeenSorted() {
+        List<BiValHolder<String, String>> testObjects = asList(biValHolder2, biValHolder1);
+
+        try (Stream<String> sortedObjects = sortedMapToStream(testObjects, BiValHolder::getVal2,
+                Comparator.naturalOrder(), 2)) {
+            assertThat(sortedObjects).containsExactly(VAL_1, VAL_2);
+        }
+    }
+
+    @Test
+    public void sortedMapToStream_DataDoesNotFitIntoMemory_RunsHaveBeenSpilledAndMergedInOrder() {
+        List<Integer> testObjects = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            testObjects.add(random.nextInt(1_000));
+        }
+        List<String> expectedObjects = mapToList(testObjects, String::valueOf);
+        expectedObjects.sort(Comparator.naturalOrder());
+
+        try (Stream<String> sortedObjects = sortedMapToStream(testObjects, String::valueOf,
+                Comparator.naturalOrder(), 300)) {
+            assertThat(sortedObjects.collect(toList())).isEqualTo(expectedObjects);
+        }
+    }
+
+    @Test
+    public void sortedMapToStreamByLong_DataDoesNotFitIntoMemory_RunsHaveBeenMergedInStableOrder() {
+        List<BiValHolder<Integer, Long>> testObjects = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            testObjects.add(new BiValHolder<>(i, (long) (i % 7)));
+        }
+
+        try (Stream<Integer> sortedObjects = sortedMapToStreamByLong(testObjects, BiValHolder::getVal1,
+                i -> i % 7, 64)) {
+            List<Integer> expectedObjects = mapToList(
+                    sortedMapToListByLong(testObjects, identity(), BiValHolder::getVal2), BiValHolder::getVal1);
+            assertThat(sortedObjects.collect(toList())).isEqualTo(expectedObjects);
+        }
+    }
+
+    @Test
+    public void sortedMapToStream_StreamIsClosedBeforeItIsConsumed_TemporaryFilesHaveBeenRemoved() throws IOException {
+        List<Integer> testObjects = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            testObjects.add(1_000 - i);
+        }
+        long runFilesBefore = countSortedRunFiles();
+
+        try (Stream<Integer> sortedObjects = sortedMapToStream(testObjects, identity(),
+                Comparator.naturalOrder(), 100)) {
+            assertThat(countSortedRunFiles()).isEqualTo(runFilesBefore + 10);
+            assertThat(sortedObjects.limit(3)).containsExactly(1, 2, 3);
+        }
+
+        assertThat(countSortedRunFiles()).isEqualTo(runFilesBefore);
+    }
+
+    private long countSortedRunFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("sorted-run-")).count();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sortedMapToStream_MemoryBudgetIsNotPositive_IllegalArgumentExceptionHasBeenThrown() {
+        sortedMapToStream(validBiValList, BiValHolder::getVal2, Comparator.naturalOrder(), 0);
+    }
+
+    @Test
+    public void topK_ComparatorCase_GreatestElementsHaveBeenSelectedInDescendingOrder() {
+        List<Integer> testObjects = asList(5, 1, 9, 3, 7, 2, 8);
+
+        List<Integer> selectedObjects = topK(testObjects, 3, Comparator.naturalOrder());
+
+        assertThat(selectedObjects).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    public void topK_KIsGreaterThanCollectionSize_AllElementsHaveBeenSelected() {
+        List<Integer> testObjects = asList(2, 3, 1);
+
+        List<Integer> selectedObjects = topK(testObjects, 10, Comparator.naturalOrder());
+
+        assertThat(selectedObjects).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    public void topK_KIsZero_EmptyListHasBeenReturned() {
+        List<Integer> testObjects = asList(2, 3, 1);
+
+        List<Integer> selectedObjects = topK(testObjects, 0, Comparator.naturalOrder());
+
+        assertThat(selectedObjects).isEmpty();
+    }
+
+    @Test
+    public void topKByLong_ElementsWithGreatestKeysHaveBeenSelected() {
+        List<BiValHolder<String, Long>> testObjects = asList(new BiValHolder<>(VAL_1, Long.MIN_VALUE),
+                new BiValHolder<>(VAL_2, 10L), new BiValHolder<>(VAL_3, Long.MAX_VALUE), new BiValHolder<>(VAL_4, 0L));
+
+        List<BiValHolder<String, Long>> selectedObjects = topKByLong(testObjects, 2, BiValHolder::getVal2);
+
+        assertThat(mapToList(selectedObjects, BiValHolder::getVal1)).containsExactly(VAL_3, VAL_2);
+    }
+
+    @Test
+    public void topKByDouble_ElementsWithGreatestKeysHaveBeenSelected() {
+        List<Double> testObjects = asList(-1.5, 3.25, -7.0, 0.0, 2.0);
+
+        List<Double> selectedObjects = topKByDouble(testObjects, 2, Double::doubleValue);
+
+        assertThat(selectedObjects).containsExactly(3.25, 2.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void topK_KIsNegative_IllegalArgumentExceptionHasBeenThrown() {
+        topK(validBiValList, -1, Comparator.comparing(BiValHolder::getVal1));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void topK_ComparatorIsNull_NPEHasBeenThrown() {
+        Comparator<BiValHolder<String, String>> nullComparator = null;
+
+        topK(validBiValList, 1, nullComparator);
+    }
+
+    @Test
+    public void bottomK_ComparatorCase_LeastElementsHaveBeenSelectedInAscendingOrder() {
+        List<Integer> testObjects = asList(5, 1, 9, 3, 7, 2, 8);
+
+        List<Integer> selectedObjects = bottomK(testObjects, 3, Comparator.naturalOrder());
+
+        assertThat(selectedObjects).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void bottomKByLong_WithExtremeKeys_ElementsWithLeastKeysHaveBeenSelected() {
+        List<Long> testObjects = asList(Long.MAX_VALUE, 4L, Long.MIN_VALUE, -4L);
+
+        List<Long> selectedObjects = bottomKByLong(testObjects, 3, Long::longValue);
+
+        assertThat(selectedObjects).containsExactly(Long.MIN_VALUE, -4L, 4L);
+    }
+
+    @Test
+    public void bottomKByDouble_ElementsWithLeastKeysHaveBeenSelected() {
+        List<Double> testObjects = asList(-1.5, 3.25, -7.0, 0.0, 2.0);
+
+        List<Double> selectedObjects = bottomKByDouble(testObjects, 2, Double::doubleValue);
+
+        assertThat(selectedObjects).containsExactly(-7.0, -1.5);
+    }
+
+    @Test
+    public void parallelTopK_LargeCollection_SameElementsAsSequentialSortHaveBeenSelected() {
+        List<Integer> testObjects = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            testObjects.add(random.nextInt());
+        }
+        List<Integer> expectedObjects = testObjects.stream().sorted(Comparator.reverseOrder()).limit(10)
+                .collect(toList());
+
+        assertThat(parallelTopK(testObjects, 10, Comparator.naturalOrder())).isEqualTo(expectedObjects);
+        assertThat(parallelTopKByLong(testObjects, 10, Integer::longValue)).isEqualTo(expectedObjects);
+        assertThat(parallelTopKByDouble(testObjects, 10, Integer::doubleValue)).isEqualTo(expectedObjects);
+    }
+
+    @Test
+    public void parallelBottomK_LargeCollection_SameElementsAsSequentialSortHaveBeenSelected() {
+        List<Integer> testObjects = new ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            testObjects.add(random.nextInt());
+        }
+        List<Integer> expectedObjects = testObjects.stream().sorted().limit(10).collect(toList());
+
+        assertThat(parallelBottomK(testObjects, 10, Comparator.naturalOrder())).isEqualTo(expectedObjects);
+        assertThat(parallelBottomKByLong(testObjects, 10, Integer::longValue)).isEqualTo(expectedObjects);
+        assertThat(parallelBottomKByDouble(testObjects, 10, Integer::doubleValue)).isEqualTo(expectedObjects);
+    }
+
+    @Test
+    public void distinctBy_DuplicateKeys_FirstElementForEachKeyHasBeenKeptInOrder() {
+        BiValHolder<String, String> duplicateHolder = new BiValHolder<>(KEY_1, VAL_3);
+        List<BiValHolder<String, String>> testObjects = asList(biValHolder2, biValHolder1, duplicateHolder,
+                biValHolder2, biValHolder3);
+
+        List<BiValHolder<String, String>> distinctObjects = distinctBy(testObjects, BiValHolder::getVal1);
+
+        assertThat(distinctObjects).containsExactly(biValHolder2, biValHolder1, biValHolder3);
+    }
+
+    @Test
+    public void distinctBy_NullKeys_OnlyFirstElementWithNullKeyHasBeenKept() {
+        BiValHolder<String, String> nullKeyHolder1 = new BiValHolder<>(null, VAL_1);
+        BiValHolder<String, String> nullKeyHolder2 = new BiValHolder<>(null, VAL_2);
+        List<BiValHolder<String, String>> testObjects = asList(nullKeyHolder1, biValHolder1, nullKeyHolder2);
+
+        List<BiValHolder<String, String>> distinctObjects = distinctBy(testObjects, BiValHolder::getVal1);
+
+        assertThat(distinctObjects).containsExactly(nullKeyHolder1, biValHolder1);
+    }
+
+    @Test
+    public void distinctBy_ManyKeys_SameResultAsLinkedHashSet() {
+        List<Integer> testObjects = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            testObjects.add(random.nextInt(2_000));
+        }
+
+        List<Integer> distinctObjects = distinctBy(testObjects, identity());
+
+        assertThat(distinctObjects).isEqualTo(new ArrayList<>(new LinkedHashSet<>(testObjects)));
+    }
+
+    @Test
+    public void distinctByInt_DuplicateKeysIncludingZero_FirstElementForEachKeyHasBeenKeptInOrder() {
+        List<String> testObjects = asList("", "a", "bb", "c", "dd", "", "eee");
+
+        List<String> distinctObjects = distinctByInt(testObjects, String::length);
+
+        assertThat(distinctObjects).containsExactly("", "a", "bb", "eee");
+    }
+
+    @Test
+    public void distinctByLong_ManyKeys_SameResultAsLinkedHashSet() {
+        List<Long> testObjects = new ArrayList<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 10_000; i++) {
+            testObjects.add(random.nextLong() % 1_000);
+        }
+
+        List<Long> distinctObjects = distinctByLong(testObjects, Long::longValue);
+
+        assertThat(distinctObjects).isEqualTo(new ArrayList<>(new LinkedHashSet<>(testObjects)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void distinctBy_KeyExtractorIsNull_NPEHasBeenThrown() {
+        Function<BiValHolder<String, String>, ?> nullKeyExtractor = null;
+
+        distinctBy(validBiValList, nullKeyExtractor);
+    }
+
+    @Test
+    public void approximateDistinctBy_DuplicateKeys_DuplicatesHaveBeenDropped() {
+        List<BiValHolder<String, String>> testObjects = asList(biValHolder1, biValHolder2, biValHolder1,
+                biValHolder3, biValHolder2);
+
+        List<BiValHolder<String, String>> distinctObjects = approximateDistinctBy(testObjects, BiValHolder::getVal1,
+                0.0001);
+
+        assertThat(distinctObjects).containsExactly(biValHolder1, biValHolder2, biValHolder3);
+    }
+
+    @Test
+    public void approximateDistinctBy_StringKeysWithEqualHashCodes_AllElementsHaveBeenKept() {
+        List<String> testObjects = new ArrayList<>(singletonList(""));
+        for (int i = 0; i < 10; i++) {
+            List<String> longerObjects = new ArrayList<>();
+            for (String object : testObjects) {
+                longerObjects.add(object + "Aa");
+                longerObjects.add(object + "BB");
+            }
+            testObjects = longerObjects;
+        }
+
+        List<String> distinctObjects = approximateDistinctBy(testObjects, identity(), 0.0001);
+
+        assertThat(mapToSet(testObjects, String::hashCode)).hasSize(1);
+        assertThat(distinctObjects).isEqualTo(testObjects);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void approximateDistinctBy_FalsePositiveProbabilityIsOne_IllegalArgumentExceptionHasBeenThrown() {
+        approximateDistinctBy(validBiValList, BiValHolder::getVal1, 1);
+    }
+
+    @Test
+    public void hashJoin_LeftIsSmaller_AllMatchingPairsHaveBeenCombinedInOrderOfRight() {
+        List<BiValHolder<String, String>> customers = asList(biValHolder1, biValHolder2);
+        List<BiValHolder<String, String>> orders = asList(new BiValHolder<>(KEY_2, VAL_5),
+                new BiValHolder<>(KEY_3, VAL_6), new BiValHolder<>(KEY_1, VAL_7), new BiValHolder<>(KEY_2, VAL_3));
+
+        List<String> joined = hashJoin(customers, orders, BiValHolder::getVal1, BiValHolder::getVal1,
+                (customer, order) -> customer.getVal2() + order.getVal2());
+
+        assertThat(joined).containsExactly(VAL_2 + VAL_5, VAL_1 + VAL_7, VAL_2 + VAL_3);
+    }
+
+    @Test
+    public void hashJoin_RightIsSmallerWithDuplicateKeys_AllMatchingPairsHaveBeenCombinedInOrderOfLeft() {
+        List<BiValHolder<String, String>> orders = asList(new BiValHolder<>(KEY_2, VAL_5),
+                new BiValHolder<>(KEY_3, VAL_6), new BiValHolder<>(KEY_1, VAL_7));
+        List<BiValHolder<String, String>> customers = asList(biValHolder1, new BiValHolder<>(KEY_1, VAL_4));
+
+        List<String> joined = hashJoin(orders, customers, BiValHolder::getVal1, BiValHolder::getVal1,
+                (order, customer) -> order.getVal2() + customer.getVal2());
+
+        assertThat(joined).containsExactly(VAL_7 + VAL_1, VAL_7 + VAL_4);
+    }
+
+    @Test
+    public void hashJoin_NullKeys_NullKeysHaveNotBeenMatched() {
+        List<BiValHolder<String, String>> left = asList(new BiValHolder<>(null, VAL_1), biValHolder2);
+        List<BiValHolder<String, String>> right = asList(new BiValHolder<>(null, VAL_3), biValHolder2,
+                biValHolder4);
+
+        List<String> joined = hashJoin(left, right, BiValHolder::getVal1, BiValHolder::getVal1,
+                (l, r) -> l.getVal2() + r.getVal2());
+
+        assertThat(joined).containsExactly(VAL_2 + VAL_2);
+    }
+
+    @Test
+    public void hashJoinByLong_ZeroAndNegativeKeys_AllMatchingPairsHaveBeenCombined() {
+        List<Long> left = asList(0L, -1L, 5L);
+        List<Long> right = asList(-1L, 7L, 0L, 0L);
+
+        List<String> joined = hashJoinByLong(left, right, Long::longValue, Long::longValue, (l, r) -> l + ":" + r);
+
+        assertThat(joined).containsExactly("-1:-1", "0:0", "0:0");
+    }
+
+    @Test
+    public void parallelHashJoin_LargeCollections_SameResultAsSequentialJoin() {
+        List<Integer> left = new ArrayList<>();
+        List<Integer> right = new ArrayList<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 20_000; i++) {
+            left.add(random.nextInt(5_000));
+            right.add(random.nextInt(5_000));
+        }
+        right = right.subList(0, 3_000);
+
+        assertThat(parallelHashJoin(left, right, identity(), identity(), (l, r) -> l + r))
+                .isEqualTo(hashJoin(left, right, identity(), identity(), (l, r) -> l + r));
+        assertThat(parallelHashJoinByLong(left, right, Integer::longValue, Integer::longValue, (l, r) -> l + r))
+                .isEqualTo(hashJoin(left, right, identity(), identity(), (l, r) -> l + r));
+    }
+
+    @Test
+    public void leftJoin_LeftIsLarger_UnmatchedLeftElementsHaveBeenCombinedWithNull() {
+        List<String> left = asList(KEY_1, KEY_2, KEY_3);
+        List<BiValHolder<String, String>> right = asList(biValHolder2, new BiValHolder<>(KEY_2, VAL_5));
+
+        List<String> joined = leftJoin(left, right, identity(), BiValHolder::getVal1,
+                (l, r) -> l + "=" + (r == null ? null : r.getVal2()));
+
+        assertThat(joined).containsExactly(KEY_1 + "=null", KEY_2 + "=" + VAL_2, KEY_2 + "=" + VAL_5,
+                KEY_3 + "=null");
+    }
+
+    @Test
+    public void leftJoin_LeftIsSmaller_AllLeftElementsHaveBeenReturnedInOrderOfLeft() {
+        List<String> left = asList(KEY_3, KEY_1, KEY_2);
+        List<BiValHolder<String, String>> right = asList(biValHolder2, biValHolder3, biValHolder4,
+                new BiValHolder<>(KEY_2, VAL_5));
+
+        List<String> joined = leftJoin(left, right, identity(), BiValHolder::getVal1,
+                (l, r) -> l + "=" + (r == null ? null : r.getVal2()));
+
+        assertThat(joined).containsExactly(KEY_3 + "=" + VAL_3, KEY_1 + "=null", KEY_2 + "=" + VAL_2,
+                KEY_2 + "=" + VAL_5);
+    }
+
+    @Test
+    public void leftJoinByLong_LeftIsSmaller_AllLeftElementsHaveBeenReturnedInOrderOfLeft() {
+        List<Long> left = asList(2L, 1L, 3L);
+        List<Long> right = asList(3L, 2L, 4L, 2L);
+
+        List<String> joined = leftJoinByLong(left, right, Long::longValue, l -> l % 10, (l, r) -> l + ":" + r);
+
+        assertThat(joined).containsExactly("2:2", "2:2", "1:null", "3:3");
+    }
+
+    @Test
+    public void semiJoin_LeftIsSmaller_MatchingLeftElementsHaveBeenReturnedOnceInOrder() {
+        List<String> left = asList(KEY_3, KEY_1, KEY_2);
+        List<BiValHolder<String, String>> right = asList(biValHolder2, biValHolder1, biValHolder2, biValHolder4);
+
+        List<String> matched = semiJoin(left, right, identity(), BiValHolder::getVal1);
+
+        assertThat(matched).containsExactly(KEY_1, KEY_2);
+    }
+
+    @Test
+    public void semiJoinByLong_LeftIsLarger_MatchingLeftElementsHaveBeenReturnedInOrder() {
+        List<Long> left = asList(4L, 1L, 3L, 1L);
+        List<Long> right = asList(1L, 3L);
+
+        List<Long> matched = semiJoinByLong(left, right, Long::longValue, Long::longValue);
+
+        assertThat(matched).containsExactly(1L, 3L, 1L);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void hashJoin_CombinerIsNull_NPEHasBeenThrown() {
+        hashJoin(validBiValList, validBiValList, BiValHolder::getVal1, BiValHolder::getVal1, null);
+    }
+
+    @Test
+    public void mapToImmutableList_SeveralElements_ObjectsMappedToTheListInOrder() {
+        List<BiValHolder<String, String>> testObjects = asList(biValHolder1, biValHolder2, biValHolder3);
+
+        List<String> mappedObjects = mapToImmutableList(testObjects, BiValHolder::getVal2);
+
+        assertThat(mappedObjects).containsExactly(VAL_1, VAL_2, VAL_3);
+        assertThat(mappedObjects).isEqualTo(asList(VAL_1, VAL_2, VAL_3));
+        assertThat(mappedObjects).isInstanceOf(RandomAccess.class);
+    }
+
+    @Test
+    public void mapToImmutableList_ZeroOrOneElement_DedicatedInstancesHaveBeenReturned() {
+        assertThat(mapToImmutableList(validBiValList, BiValHolder::getVal2)).isSameAs(emptyList());
+        assertThat(mapToImmutableList(singletonList(biValHolder1), BiValHolder::getVal2).getClass())
+                .isEqualTo(singletonList(VAL_1).getClass());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void mapToImmutableList_ModificationOfReturnedList_UnsupportedOperationExceptionHasBeenThrown() {
+        mapToImmutableList(asList(biValHolder1, biValHolder2), BiValHolder::getVal2).add(VAL_3);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void mapToImmutableList_MapperIsNull_NPEHasBeenThrown() {
+        mapToImmutableList(validBiValList, null);
+    }
+
+    @Test
+    public void mapToImmutableSet_DuplicatesAndNull_SameElementsAsMapToSet() {
+        List<String> testObjects = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            testObjects.add(i % 7 == 0 ? null : String.valueOf(i % 100));
+        }
+
+        Set<String> mappedObjects = mapToImmutableSet(testObjects, identity());
+
+        assertThat(mappedObjects).isEqualTo(mapToSet(testObjects, identity()));
+        assertThat(mappedObjects).hasSize(101).contains((String) null);
+        assertThat(mappedObjects.contains("missing")).isFalse();
+    }
+
+    @Test
+    public void mapToImmutableSet_OnlyDuplicates_SingletonSetHasBeenReturned() {
+        Set<String> mappedObjects = mapToImmutableSet(asList(biValHolder1, biValHolder1), BiValHolder::getVal1);
+
+        assertThat(mappedObjects).isEqualTo(singleton(KEY_1));
+        assertThat(mappedObjects.getClass()).isEqualTo(singleton(KEY_1).getClass());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void mapToImmutableSet_ModificationOfReturnedSet_UnsupportedOperationExceptionHasBeenThrown() {
+        mapToImmutableSet(asList(biValHolder1, biValHolder2), BiValHolder::getVal2).remove(VAL_1);
+    }
+
+    @Test
+    public void mapToImmutableMap_NoDuplicates_SameEntriesAsMapToMap() {
+        List<Integer> testObjects = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            testObjects.add(i);
+        }
+
+        Map<String, Integer> mappedObjects = mapToImmutableMap(testObjects, String::valueOf, i -> i * 2);
+
+        assertThat(mappedObjects).isEqualTo(mapToMap(testObjects, String::valueOf, i -> i * 2));
+        assertThat(mappedObjects.get("500")).isEqualTo(1_000);
+        assertThat(mappedObjects.get("missing")).isNull();
+        assertThat(mappedObjects.containsKey("999")).isTrue();
+    }
+
+    @Test
+    public void mapToImmutableMap_NullKey_NullKeyHasBeenMapped() {
+        List<BiValHolder<String, String>> testObjects = asList(new BiValHolder<>(null, VAL_1), biValHolder2);
+
+        Map<String, String> mappedObjects = mapToImmutableMap(testObjects, BiValHolder::getVal1,
+                BiValHolder::getVal2);
+
+        assertThat(mappedObjects).containsOnly(entry(null, VAL_1), entry(KEY_2, VAL_2));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void mapToImmutableMap_DuplicateKeys_IllegalStateExceptionHasBeenThrown() {
+        mapToImmutableMap(asList(biValHolder1, biValHolder2, biValHolder1), BiValHolder::getVal1,
+                BiValHolder::getVal2);
+    }
+
+    @Test
+    public void mapToImmutableMap_MergeFunctionAndDuplicates_ValuesHaveBeenMerged() {
+        List<BiValHolder<String, String>> testObjects = asList(biValHolder1, new BiValHolder<>(KEY_1, VAL_3),
+                biValHolder2);
+
+        Map<String, String> mappedObjects = mapToImmutableMap(testObjects, BiValHolder::getVal1,
+                BiValHolder::getVal2, this::testMerge);
+
+        assertThat(mappedObjects).containsOnly(entry(KEY_1, testMerge(VAL_1, VAL_3)), entry(KEY_2, VAL_2));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void mapToImmutableMap_NullValue_NPEHasBeenThrown() {
+        mapToImmutableMap(asList(biValHolder1, new BiValHolder<>(KEY_2, null)), BiValHolder::getVal1,
+                BiValHolder::getVal2);
+    }
+
+    @Test
+    public void mapToImmutableMap_MergeFunctionReturnsNull_KeyHasBeenRemovedAsInMapToMap() {
+        List<Integer> testObjects = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            testObjects.add(i);
+            testObjects.add(i);
+        }
+        testObjects.add(1);
+
+        Map<Integer, Integer> mappedObjects = mapToImmutableMap(testObjects, i -> i % 100, identity(),
+                (first, second) -> first % 3 == 0 ? null : second);
+
+        assertThat(mappedObjects).isEqualTo(mapToMap(testObjects, i -> i % 100, identity(),
+                (first, second) -> first % 3 == 0 ? null : second));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void mapToImmutableMap_ModificationOfReturnedMap_UnsupportedOperationExceptionHasBeenThrown() {
+        mapToImmutableMap(asList(biValHolder1, biValHolder2), BiValHolder::getVal1, BiValHolder::getVal2)
+                .put(KEY_3, VAL_3);
+    }
+
+    @Test
+    public void partitionBy_ValidCollection_ElementsHaveBeenSplitInCollectionOrder() {
+        List<Integer> testObjects = asList(1, 2, 3, 4, 5, 6, 7);
+
+        Partition<Integer> partition = partitionBy(testObjects, i -> i % 2 == 0);
+
+        assertThat(partition.getMatching()).containsExactly(2, 4, 6);
+        assertThat(partition.getNotMatching()).containsExactly(1, 3, 5, 7);
+    }
+
+    @Test
+    public void partitionBy_EmptyCollection_BothListsAreEmpty() {
+        Partition<String> partition = partitionBy(emptyList(), Objects::isNull);
+
+        assertThat(partition.getMatching()).isEmpty();
+        assertThat(partition.getNotMatching()).isEmpty();
+    }
+
+    @Test
+    public void partitionBy_BiPredicateWithArgument_ElementsHaveBeenSplit() {
+        validBiValList.addAll(asList(biValHolder1, biValHolder2, biValHolder3));
+
+        Partition<BiValHolder<String, String>> partition = partitionBy(validBiValList,
+                (holder, key) -> holder.getVal1().equals(key), KEY_2);
+
+        assertThat(partition.getMatching()).containsExactly(biValHolder2);
+        assertThat(partition.getNotMatching()).containsExactly(biValHolder1, biValHolder3);
+    }
+
+    @Test
+    public void partitionBy_TriPredicateWithArguments_ElementsHaveBeenSplit() {
+        validBiValList.addAll(asList(biValHolder1, biValHolder2, biValHolder3, biValHolder4));
+
+        Partition<BiValHolder<String, String>> partition = partitionBy(validBiValList,
+                (holder, first, second) -> holder.getVal1().equals(first) || holder.getVal1().equals(second),
+                KEY_1, KEY_4);
+
+        assertThat(partition.getMatching()).containsExactly(biValHolder1, biValHolder4);
+        assertThat(partition.getNotMatching()).containsExactly(biValHolder2, biValHolder3);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void partitionBy_NullCollection_NullPointerExceptionHasBeenThrown() {
+        partitionBy(nullBiValList, Objects::isNull);
+    }
+
+    @Test
+    public void partitionBy_Buckets_ElementsHaveBeenSplitInCollectionOrder() {
+        List<Integer> testObjects = asList(0, 1, 2, 3, 4, 5, 6, 7);
+
+        List<Integer>[] buckets = partitionBy(testObjects, i -> i % 3, 4);
+
+        assertThat(buckets).hasSize(4);
+        assertThat(buckets[0]).containsExactly(0, 3, 6);
+        assertThat(buckets[1]).containsExactly(1, 4, 7);
+        assertThat(buckets[2]).containsExactly(2, 5);
+        assertThat(buckets[3]).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partitionBy_BucketOutOfRange_IllegalArgumentExceptionHasBeenThrown() {
+        partitionBy(asList(1, 2, 3), i -> i, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partitionBy_ZeroBuckets_IllegalArgumentExceptionHasBeenThrown() {
+        partitionBy(asList(1, 2, 3), i -> 0, 0);
+    }
+
+    @Test
+    public void mapToList_SmallCollectionWithNullElements_NullElementsHaveBeenMapped() {
+        List<String> testObjects = asList("a", null, "b");
+
+        List<String> mappedObjects = mapToList(testObjects, s -> s == null ? "null" : s);
+
+        assertThat(mappedObjects).containsExactly("a", "null", "b");
+    }
+
+    @Test
+    public void mapToArray_LargeAndSmallCollections_SameElementsHaveBeenMapped() {
+        List<Integer> small = new ArrayList<>();
+        List<Integer> large = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            large.add(i);
+            if (i < 10) {
+                small.add(i);
+            }
+        }
+
+        String[] smallResult = mapToArray(small, String::valueOf, String[]::new);
+        String[] largeResult = mapToArray(large, String::valueOf, String[]::new);
+
+        assertThat(smallResult).containsExactly(Arrays.copyOf(largeResult, 10));
+        assertThat(largeResult).hasSize(1000);
+    }
+
+    @Test
+    public void concurrentMapToList_BlockingMapper_ResultsAreInOrderAndConcurrencyIsLimited() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            source.add(i);
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<String> result = concurrentMapToList(source, i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep((50 - i) % 7);
+            running.decrementAndGet();
+            return String.valueOf(i);
+        }, 4);
+
+        assertThat(result).isEqualTo(mapToList(source, String::valueOf));
+        assertThat(maxRunning.get()).isBetween(1, 4);
+    }
+
+    @Test
+    public void concurrentMapToList_MapperFails_FirstFailureHasBeenRethrownAndRestHasBeenSkipped() {
+        List<Integer> mapped = new CopyOnWriteArrayList<>();
+        IllegalStateException failure = new IllegalStateException("failure");
+
+        try {
+            concurrentMapToList(asList(1, 2, 3, 4, 5), i -> {
+                if (i == 2) {
+                    throw failure;
+                }
+                mapped.add(i);
+                return i;
+            }, 1);
+            throw new AssertionError("Exception expected");
+        } catch (IllegalStateException e) {
+            assertThat(e).isSameAs(failure);
+        }
+        assertThat(mapped).containsExactly(1);
+    }
+
+    @Test
+    public void concurrentMapToList_MapperFails_RunningTasksHaveBeenInterrupted() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try {
+            concurrentMapToList(asList(1, 2), i -> {
+                if (i == 1) {
+                    try {
+                        blocked.countDown();
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return i;
+                }
+                awaitQuietly(blocked);
+                throw new IllegalArgumentException();
+            }, 2);
+            throw new AssertionError("Exception expected");
+        } catch (IllegalArgumentException e) {
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void concurrentMapToList_ZeroConcurrency_IllegalArgumentExceptionHasBeenThrown() {
+        concurrentMapToList(asList(1, 2), identity(), 0);
+    }
+
+    @Test
+    public void concurrentForEach_ValidCollection_ActionHasBeenPerformedForAllElements() {
+        Set<Integer> seen = ConcurrentHashMap.newKeySet();
+
+        concurrentForEach(asList(1, 2, 3, 4, 5), seen::add, 3);
+        concurrentForEach(emptyList(), seen::add, 3);
+
+        assertThat(seen).containsOnly(1, 2, 3, 4, 5);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void filterToBitSet_Collection_MatchingPositionsSet() {
+        BitSet bits = filterToBitSet(asList("a", "bb", "c", "dd"), s -> s.length() == 2);
+
+        assertThat(bits.stream().toArray()).containsExactly(1, 3);
+    }
+
+    @Test
+    public void filterToSelection_TwoPredicates_IntersectionMaterialized() {
+        List<Integer> numbers = asList(1, 2, 3, 4, 5, 6);
+
+        Selection selection = filterToSelection(numbers, i -> i % 2 == 0).and(filterToSelection(numbers, i -> i > 2));
+
+        assertThat(selection.select(numbers)).containsExactly(4, 6);
+    }
+
+    @Test
+    public void mapToListInterned_EqualResults_SameInstances() {
+        Interner<String> interner = Interner.strong(16);
+
+        List<String> result = mapToListInterned(asList(1, 2, 11, 12), i -> new String("code" + i % 10), interner);
+
+        assertThat(result).containsExactly("code1", "code2", "code1", "code2");
+        assertThat(result.get(2)).isSameAs(result.get(0));
+        assertThat(result.get(3)).isSameAs(result.get(1));
+    }
+
+    @Test
+    public void mapToMapInterned_EqualValues_SameInstances() {
+        Interner<String> interner = Interner.weak(16);
+
+        Map<Integer, String> result = mapToMapInterned(asList(1, 2, 3), identity(),
+                i -> new String(i % 2 == 0 ? "even" : "odd"), interner);
+
+        assertThat(result).containsOnly(entry(1, "odd"), entry(2, "even"), entry(3, "odd"));
+        assertThat(result.get(3)).isSameAs(result.get(1));
+    }
+
     private String testMerge(String firstArgument, String secondArgument) {
         return firstArgument + ";" + secondArgument;
     }
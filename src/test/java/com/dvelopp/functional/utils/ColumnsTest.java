@@ -0,0 +1,168 @@
+package com.dvelopp.functional.utils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dvelopp.functional.utils.CollectionUtils.toColumns;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ColumnsTest {
+
+    private final List<Employee> employees = asList(
+            new Employee("dev", 30, 100_000L, 5.5),
+            new Employee("ops", 40, 80_000L, 3.0),
+            new Employee("dev", 25, 90_000L, 4.5),
+            new Employee("qa", 35, 70_000L, 2.0));
+
+    private Columns columns;
+
+    @Before
+    public void setUp() {
+        columns = toColumns(employees,
+                ColumnExtractor.of("department", Employee::getDepartment),
+                ColumnExtractor.ofInt("age", Employee::getAge),
+                ColumnExtractor.ofLong("salary", Employee::getSalary),
+                ColumnExtractor.ofDouble("rating", Employee::getRating));
+    }
+
+    @Test
+    public void toColumns_Extractors_ColumnsInOrder() {
+        assertThat(columns.size()).isEqualTo(4);
+        assertThat(columns.getNames()).containsExactly("department", "age", "salary", "rating");
+        assertThat(columns.getObjects("department")).containsExactly("dev", "ops", "dev", "qa");
+        assertThat(columns.getInts("age")).containsExactly(30, 40, 25, 35);
+        assertThat(columns.getLongs("salary")).containsExactly(100_000L, 80_000L, 90_000L, 70_000L);
+        assertThat(columns.getDoubles("rating")).containsExactly(5.5, 3.0, 4.5, 2.0);
+    }
+
+    @Test
+    public void toColumns_SeveralExtractors_EachElementReadOnce() {
+        AtomicInteger reads = new AtomicInteger();
+
+        toColumns(employees, ColumnExtractor.ofInt("age", e -> {
+            reads.incrementAndGet();
+            return e.getAge();
+        }), ColumnExtractor.ofInt("age2", Employee::getAge));
+
+        assertThat(reads.get()).isEqualTo(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toColumns_DuplicateName_IllegalArgumentExceptionHasBeenThrown() {
+        toColumns(employees, ColumnExtractor.ofInt("age", Employee::getAge),
+                ColumnExtractor.ofLong("age", Employee::getSalary));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getInts_LongColumn_IllegalArgumentExceptionHasBeenThrown() {
+        columns.getInts("salary");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getDoubles_UnknownColumn_IllegalArgumentExceptionHasBeenThrown() {
+        columns.getDoubles("bonus");
+    }
+
+    @Test
+    public void statistics_Columns_SameAsSummaryStatistics() {
+        IntSummaryStatistics ages = columns.intStatistics("age");
+
+        assertThat(ages.getMin()).isEqualTo(25);
+        assertThat(ages.getMax()).isEqualTo(40);
+        assertThat(ages.getSum()).isEqualTo(130);
+        assertThat(columns.longStatistics("salary").getAverage()).isEqualTo(85_000.0);
+        assertThat(columns.doubleStatistics("rating").getMax()).isEqualTo(5.5);
+    }
+
+    @Test
+    public void statistics_Selection_OnlySelectedValues() {
+        Selection young = columns.filterInts("age", age -> age < 35);
+
+        assertThat(columns.longStatistics("salary", young).getSum()).isEqualTo(190_000L);
+        assertThat(columns.intStatistics("age", young).getCount()).isEqualTo(2);
+        assertThat(columns.doubleStatistics("rating", young).getMin()).isEqualTo(4.5);
+    }
+
+    @Test
+    public void filter_SeveralColumns_SelectionsCombined() {
+        Selection selection = columns.filterLongs("salary", salary -> salary >= 80_000L)
+                .and(columns.filterDoubles("rating", rating -> rating > 4))
+                .andNot(columns.<String>filter("department", "ops"::equals));
+
+        assertThat(selection.indices()).containsExactly(0, 2);
+    }
+
+    @Test
+    public void select_Selection_ProjectionOfSelectedRows() {
+        Columns selected = columns.select(columns.<String>filter("department", "dev"::equals));
+
+        assertThat(selected.size()).isEqualTo(2);
+        assertThat(selected.getInts("age")).containsExactly(30, 25);
+        assertThat(selected.getObjects("department")).containsExactly("dev", "dev");
+        assertThat(selected.getDoubles("rating")).containsExactly(5.5, 4.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void select_SelectionOfOtherSize_IllegalArgumentExceptionHasBeenThrown() {
+        columns.select(Selection.all(3));
+    }
+
+    @Test
+    public void groupBy_ObjectColumn_SelectionPerKey() {
+        Map<String, Selection> groups = columns.groupBy("department");
+
+        assertThat(groups).hasSize(3);
+        assertThat(groups.get("dev").indices()).containsExactly(0, 2);
+        assertThat(columns.intStatistics("age", groups.get("dev")).getAverage()).isEqualTo(27.5);
+    }
+
+    @Test
+    public void statisticsBy_KeyAndValueColumns_StatisticsPerKey() {
+        Map<String, DoubleSummaryStatistics> ratings = columns.doubleStatisticsBy("department", "rating");
+
+        assertThat(ratings.get("dev").getSum()).isEqualTo(10.0);
+        assertThat(ratings.get("qa").getCount()).isEqualTo(1);
+        assertThat(columns.<String>intStatisticsBy("department", "age").get("ops").getMax()).isEqualTo(40);
+        assertThat(columns.<String>longStatisticsBy("department", "salary").get("dev").getSum())
+                .isEqualTo(190_000L);
+    }
+
+    private static final class Employee {
+
+        private final String department;
+        private final int age;
+        private final long salary;
+        private final double rating;
+
+        private Employee(String department, int age, long salary, double rating) {
+            this.department = department;
+            this.age = age;
+            this.salary = salary;
+            this.rating = rating;
+        }
+
+        private String getDepartment() {
+            return department;
+        }
+
+        private int getAge() {
+            return age;
+        }
+
+        private long getSalary() {
+            return salary;
+        }
+
+        private double getRating() {
+            return rating;
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.dvelopp.functional.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static com.dvelopp.functional.utils.CollectionUtils.getDistinctCountStatistics;
+import static com.dvelopp.functional.utils.CollectionUtils.groupingBy;
+import static com.dvelopp.functional.utils.DistinctCountStatistics.summarizingDistinct;
+import static java.util.Arrays.asList;
+import static java.util.function.Function.identity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class DistinctCountStatisticsTest {
+
+    @Test
+    public void getDistinctCount_NoValues_ZeroHasBeenEstimated() {
+        DistinctCountStatistics statistics = new DistinctCountStatistics();
+
+        assertThat(statistics.getDistinctCount()).isZero();
+        assertThat(statistics.getCount()).isZero();
+    }
+
+    @Test
+    public void getDistinctCount_FewValuesWithDuplicates_ExactNumberHasBeenEstimated() {
+        List<String> testObjects = asList("a", "b", "a", "c", null, "b", null);
+
+        DistinctCountStatistics statistics = getDistinctCountStatistics(testObjects, identity());
+
+        assertThat(statistics.getDistinctCount()).isEqualTo(4);
+        assertThat(statistics.getCount()).isEqualTo(testObjects.size());
+    }
+
+    @Test
+    public void getDistinctCount_DistinctValuesWithEqualHashCodes_BothValuesHaveBeenCounted() {
+        List<String> testObjects = asList("Aa", "BB", "Aa");
+
+        DistinctCountStatistics statistics = getDistinctCountStatistics(testObjects, identity());
+
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(statistics.getDistinctCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void getDistinctCount_ManyValuesWithDuplicates_EstimationIsWithinStandardError() {
+        List<String> testObjects = new ArrayList<>();
+        for (int i = 0; i < 300_000; i++) {
+            testObjects.add("user-" + i % 100_000);
+        }
+
+        DistinctCountStatistics statistics = getDistinctCountStatistics(testObjects, identity());
+
+        assertThat((double) statistics.getDistinctCount()).isCloseTo(100_000, within(100_000 * 0.03));
+    }
+
+    @Test
+    public void getDistinctCount_PrimitiveValues_EstimationIsWithinStandardError() {
+        DistinctCountStatistics statistics = new DistinctCountStatistics(12);
+
+        LongStream.range(0, 1_000_000).map(i -> i % 50_000).forEach(statistics);
+
+        assertThat((double) statistics.getDistinctCount()).isCloseTo(50_000, within(50_000 * 0.06));
+    }
+
+    @Test
+    public void combine_StatisticsOfOverlappingPartitions_SameEstimationAsForAllValues() {
+        DistinctCountStatistics firstPartition = new DistinctCountStatistics();
+        DistinctCountStatistics secondPartition = new DistinctCountStatistics();
+        DistinctCountStatistics allValues = new DistinctCountStatistics();
+        for (int i = 0; i < 20_000; i++) {
+            (i < 12_000 ? firstPartition : secondPartition).accept(i % 15_000);
+            allValues.accept(i % 15_000);
+        }
+
+        DistinctCountStatistics combined = firstPartition.combine(secondPartition);
+
+        assertThat(combined.getDistinctCount()).isEqualTo(allValues.getDistinctCount());
+        assertThat(combined.getCount()).isEqualTo(20_000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void combine_DifferentPrecisions_IllegalArgumentExceptionHasBeenThrown() {
+        new DistinctCountStatistics(10).combine(new DistinctCountStatistics(11));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void init_PrecisionIsTooHigh_IllegalArgumentExceptionHasBeenThrown() {
+        new DistinctCountStatistics(DistinctCountStatistics.MAX_PRECISION + 1);
+    }
+
+    @Test
+    public void summarizingDistinct_ParallelStream_SameEstimationAsSequentialStream() {
+        DistinctCountStatistics sequential = IntStream.range(0, 200_000).boxed()
+                .collect(summarizingDistinct(i -> i % 70_000));
+        DistinctCountStatistics parallel = IntStream.range(0, 200_000).boxed().parallel()
+                .collect(summarizingDistinct(i -> i % 70_000));
+
+        assertThat(parallel.getDistinctCount()).isEqualTo(sequential.getDistinctCount());
+        assertThat(parallel.getCount()).isEqualTo(sequential.getCount());
+    }
+
+    @Test
+    public void summarizingDistinct_GroupingByDownstream_DistinctValuesHaveBeenEstimatedPerGroup() {
+        List<BiValHolder<String, Integer>> testObjects = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            testObjects.add(new BiValHolder<>(i % 2 == 0 ? "even" : "odd", i % 10));
+        }
+
+        Map<String, DistinctCountStatistics> statistics = groupingBy(testObjects, BiValHolder::getVal1,
+                summarizingDistinct(BiValHolder::getVal2, 10));
+
+        assertThat(statistics.get("even").getDistinctCount()).isEqualTo(5);
+        assertThat(statistics.get("odd").getDistinctCount()).isEqualTo(5);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void getDistinctCountStatistics_MapperIsNull_NPEHasBeenThrown() {
+        getDistinctCountStatistics(asList("a", "b"), null);
+    }
+
+}
@@ -1,16 +1,30 @@
 package com.dvelopp.functional.utils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import com.dvelopp.functional.utils.interfaces.TriFunction;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import static com.dvelopp.functional.utils.FunctionUtils.allOf;
+import static com.dvelopp.functional.utils.FunctionUtils.anyOf;
+import static com.dvelopp.functional.utils.FunctionUtils.approximateDistinctPredicate;
+import static com.dvelopp.functional.utils.FunctionUtils.boundConsumer;
+import static com.dvelopp.functional.utils.FunctionUtils.boundFunction;
 import static com.dvelopp.functional.utils.FunctionUtils.consumer;
 import static com.dvelopp.functional.utils.FunctionUtils.emptyConsumer;
 import static com.dvelopp.functional.utils.FunctionUtils.exceptionConsumer;
@@ -21,11 +35,13 @@ import static com.dvelopp.functional.utils.FunctionUtils.exceptionSupplier;
 import static com.dvelopp.functional.utils.FunctionUtils.falsePredicate;
 import static com.dvelopp.functional.utils.FunctionUtils.falseSupplier;
 import static com.dvelopp.functional.utils.FunctionUtils.function;
+import static com.dvelopp.functional.utils.FunctionUtils.hedged;
 import static com.dvelopp.functional.utils.FunctionUtils.identityPredicate;
 import static com.dvelopp.functional.utils.FunctionUtils.not;
 import static com.dvelopp.functional.utils.FunctionUtils.nullSuppler;
 import static com.dvelopp.functional.utils.FunctionUtils.truePredicate;
 import static com.dvelopp.functional.utils.FunctionUtils.trueSupplier;
+import static com.dvelopp.functional.utils.FunctionUtils.withDeadline;
 import static com.dvelopp.functional.utils.FunctionUtils.with;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -264,4 +280,262 @@ public class FunctionUtilsTest {
         assertThat(actualSuppliedValue).isNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void approximateDistinctPredicate_RepeatedKeys_OnlyFirstOccurrenceHasBeenAccepted() {
+        Predicate<String> distinctPredicate = approximateDistinctPredicate(String::length, 100, 0.001);
+
+        assertThat(distinctPredicate.test("a")).isTrue();
+        assertThat(distinctPredicate.test("bb")).isTrue();
+        assertThat(distinctPredicate.test("c")).isFalse();
+        assertThat(distinctPredicate.test("dd")).isFalse();
+    }
+
+    @Test
+    public void approximateDistinctPredicate_ExpectedNumberOfKeys_FalsePositiveRateIsCloseToConfigured() {
+        int expectedInsertions = 10_000;
+        Predicate<Integer> distinctPredicate = approximateDistinctPredicate(Function.identity(), expectedInsertions,
+                0.01);
+        int rejectedNewKeys = 0;
+
+        for (int i = 0; i < expectedInsertions; i++) {
+            if (!distinctPredicate.test(i)) {
+                rejectedNewKeys++;
+            }
+        }
+
+        assertThat(rejectedNewKeys).isLessThan(expectedInsertions / 50);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void approximateDistinctPredicate_ExpectedInsertionsIsZero_IllegalArgumentExceptionHasBeenThrown() {
+        approximateDistinctPredicate(Function.identity(), 0, 0.01);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void approximateDistinctPredicate_KeyExtractorIsNull_NPEHasBeenThrown() {
+        approximateDistinctPredicate(null, 10, 0.01);
+    }
+
+    @Test
+    public void boundConsumer_BiConsumerWithArgument_BoundValuesHaveBeenExposed() {
+        BiConsumer<List<String>, String> action = List::add;
+        List<String> result = new ArrayList<>();
+
+        BoundBiConsumer<List<String>, String> consumer = boundConsumer(action, "value");
+        consumer.accept(result);
+
+        assertThat(consumer.getAction()).isSameAs(action);
+        assertThat(consumer.getArg()).isEqualTo("value");
+        assertThat(result).containsExactly("value");
+    }
+
+    @Test
+    public void boundConsumer_TriConsumerWithArguments_BoundValuesHaveBeenExposed() {
+        List<String> result = new ArrayList<>();
+
+        BoundTriConsumer<List<String>, String, Integer> consumer = boundConsumer((list, value, times) -> {
+            for (int i = 0; i < times; i++) {
+                list.add(value);
+            }
+        }, "value", 2);
+        consumer.accept(result);
+
+        assertThat(consumer.getFirstArg()).isEqualTo("value");
+        assertThat(consumer.getSecondArg()).isEqualTo(2);
+        assertThat(result).containsExactly("value", "value");
+    }
+
+    @Test
+    public void boundFunction_TriFunctionWithArguments_ArgumentsHaveBeenBound() {
+        BoundTriFunction<Integer, Integer, Integer, Integer> clamp = boundFunction(
+                (Integer value, Integer low, Integer high) -> Math.max(low, Math.min(high, value)), 0, 10);
+
+        assertThat(clamp.apply(-5)).isZero();
+        assertThat(clamp.apply(15)).isEqualTo(10);
+        assertThat(clamp.getFirstArg()).isZero();
+        assertThat(clamp.getSecondArg()).isEqualTo(10);
+    }
+
+    @Test
+    public void boundFunction_BiFunctionWithArgument_BoundValuesHaveBeenExposed() {
+        BoundBiFunction<Integer, Integer, Integer> function = boundFunction(Math::addExact, 100);
+
+        assertThat(function.apply(1)).isEqualTo(101);
+        assertThat(function.getArg()).isEqualTo(100);
+    }
+
+    @Test
+    public void consumerAndFunction_ArgumentsBound_BoundImplementationsHaveBeenReturned() {
+        assertThat(FunctionUtils.<List<String>, String>consumer(List::add, "value"))
+                .isInstanceOf(BoundBiConsumer.class);
+        assertThat(consumer((List<String> list, String value, Integer times) -> list.add(value), "value", 1))
+                .isInstanceOf(BoundTriConsumer.class);
+        assertThat(FunctionUtils.<Integer, Integer, Integer>function(Math::addExact, 1))
+                .isInstanceOf(BoundBiFunction.class);
+        assertThat(function((Integer value, Integer low, Integer high) -> value, 0, 1))
+                .isInstanceOf(BoundTriFunction.class);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void consumer_NullAction_NPEHasBeenThrownOnConstruction() {
+        consumer((BiConsumer<Object, Object>) null, "value");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void function_NullAction_NPEHasBeenThrownOnConstruction() {
+        function((TriFunction<Object, Object, Object, Object>) null, 1, 2);
+    }
+
+    @Test
+    public void hedged_SlowCallAfterWarmUp_SecondCallHasWon() throws InterruptedException {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            AtomicBoolean blockNextCall = new AtomicBoolean();
+            CountDownLatch slowCallInterrupted = new CountDownLatch(1);
+            HedgedSupplier<String> supplier = hedged(() -> {
+                if (blockNextCall.compareAndSet(true, false)) {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        slowCallInterrupted.countDown();
+                    }
+                    return "slow";
+                }
+                sleep(5);
+                return "fast";
+            }, 0.9, executor);
+            for (int i = 0; i < 32; i++) {
+                assertThat(supplier.get()).isEqualTo("fast");
+            }
+            long delay = supplier.getHedgeDelay(TimeUnit.MILLISECONDS);
+
+            blockNextCall.set(true);
+
+            assertThat(supplier.get()).isEqualTo("fast");
+            assertThat(delay).isGreaterThanOrEqualTo(4);
+            assertThat(supplier.getInvocationCount()).isEqualTo(33);
+            assertThat(supplier.getHedgeCount()).isPositive();
+            assertThat(slowCallInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void hedged_FunctionFails_FailureHasBeenRethrown() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            HedgedFunction<Integer, Integer> function = hedged((Integer i) -> 10 / i, 0.9, executor);
+
+            assertThat(function.apply(2)).isEqualTo(5);
+            assertThat(function.getHedgeDelay(TimeUnit.MILLISECONDS)).isEqualTo(-1);
+            function.apply(0);
+            throw new AssertionError("Exception expected");
+        } catch (ArithmeticException e) {
+            assertThat(e).hasMessage("/ by zero");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void hedged_IllegalPercentile_IllegalArgumentExceptionHasBeenThrown() {
+        hedged(() -> 1, 1.0, Runnable::run);
+    }
+
+    @Test
+    public void withDeadline_SlowAndFastCalls_FallbackHasBeenReturnedForSlowCall() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            AtomicInteger calls = new AtomicInteger();
+            DeadlineSupplier<String> supplier = withDeadline(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        Thread.sleep(10000);
+                    } catch (InterruptedException e) {
+                        return "interrupted";
+                    }
+                }
+                return "value";
+            }, 50, TimeUnit.MILLISECONDS, () -> "fallback", executor);
+
+            assertThat(supplier.get()).isEqualTo("fallback");
+            assertThat(supplier.get()).isEqualTo("value");
+            assertThat(supplier.getInvocationCount()).isEqualTo(2);
+            assertThat(supplier.getDeadlineCount()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void withDeadline_FunctionFailsInTime_FailureHasBeenRethrown() {
+        DeadlineFunction<String, Integer> function = withDeadline(Integer::parseInt, 1, TimeUnit.SECONDS,
+                s -> -1, Runnable::run);
+
+        assertThat(function.apply("42")).isEqualTo(42);
+        try {
+            function.apply("x");
+            throw new AssertionError("Exception expected");
+        } catch (NumberFormatException e) {
+            assertThat(function.getDeadlineCount()).isZero();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void withDeadline_NegativeTimeout_IllegalArgumentExceptionHasBeenThrown() {
+        withDeadline(() -> 1, -1, TimeUnit.SECONDS, () -> 0, Runnable::run);
+    }
+
+    @Test
+    public void allOf_AllMatch_True() {
+        Predicate<Integer> predicate = allOf(i -> i > 0, i -> i < 10, i -> i % 2 == 0);
+
+        assertThat(predicate.test(4)).isTrue();
+        assertThat(predicate.test(5)).isFalse();
+        assertThat(predicate.test(12)).isFalse();
+    }
+
+    @Test
+    public void allOf_FirstRejects_OthersNotEvaluated() {
+        AtomicInteger evaluations = new AtomicInteger();
+
+        boolean result = FunctionUtils.<Integer>allOf(i -> false, i -> evaluations.incrementAndGet() > 0).test(1);
+
+        assertThat(result).isFalse();
+        assertThat(evaluations.get()).isZero();
+    }
+
+    @Test
+    public void allOf_NoPredicates_True() {
+        assertThat(allOf(new ArrayList<Predicate<Object>>()).test(1)).isTrue();
+    }
+
+    @Test
+    public void anyOf_OneMatches_True() {
+        Predicate<String> predicate = anyOf(String::isEmpty, s -> s.startsWith("a"));
+
+        assertThat(predicate.test("abc")).isTrue();
+        assertThat(predicate.test("")).isTrue();
+        assertThat(predicate.test("bc")).isFalse();
+    }
+
+    @Test
+    public void anyOf_NoPredicates_False() {
+        assertThat(anyOf(new ArrayList<Predicate<Object>>()).test(1)).isFalse();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void anyOf_NullPredicate_NullPointerExceptionHasBeenThrown() {
+        anyOf(truePredicate(), null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
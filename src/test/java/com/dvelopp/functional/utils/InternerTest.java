@@ -0,0 +1,77 @@
+package com.dvelopp.functional.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InternerTest {
+
+    @Test
+    public void intern_StrongEqualValues_FirstInstanceReturned() {
+        Interner<String> interner = Interner.strong(10);
+        String first = new String("PL");
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(new String("PL"))).isSameAs(first);
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void intern_WeakEqualValues_FirstInstanceReturned() {
+        Interner<String> interner = Interner.weak(10);
+        String first = new String("PL");
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(new String("PL"))).isSameAs(first);
+        assertThat(interner.apply(new String("PL"))).isSameAs(first);
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void intern_MaxSizeReached_NewValuesReturnedAsTheyAre() {
+        Interner<String> interner = Interner.strong(2);
+        interner.intern("a");
+        interner.intern("b");
+        String c = new String("c");
+
+        assertThat(interner.intern(c)).isSameAs(c);
+        assertThat(interner.intern(new String("c"))).isNotSameAs(c);
+        assertThat(interner.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void intern_Null_Null() {
+        assertThat(Interner.strong(1).intern(null)).isNull();
+        assertThat(Interner.weak(1).intern(null)).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void weak_ZeroMaxSize_IllegalArgumentExceptionHasBeenThrown() {
+        Interner.weak(0);
+    }
+
+    @Test
+    public void intern_ConcurrentCalls_OneCanonicalInstance() throws Exception {
+        Interner<String> interner = Interner.weak(100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> interner.intern(new String("status"))));
+            }
+            String canonical = futures.get(0).get();
+            for (Future<String> future : futures) {
+                assertThat(future.get()).isSameAs(canonical);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
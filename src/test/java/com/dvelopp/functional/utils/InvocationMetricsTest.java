@@ -0,0 +1,177 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.interfaces.TriConsumer;
+import com.dvelopp.functional.utils.interfaces.TriFunction;
+import com.dvelopp.functional.utils.interfaces.TriPredicate;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import static com.dvelopp.functional.utils.CollectionUtils.mapToList;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvocationMetricsTest {
+
+    @Test
+    public void counted_DecoratedFunctions_InvocationsHaveBeenCountedWithoutTiming() {
+        InvocationMetrics metrics = InvocationMetrics.counted("counted");
+        Function<Integer, String> function = metrics.function(String::valueOf);
+        IntPredicate even = metrics.intPredicate(i -> i % 2 == 0);
+
+        assertThat(mapToList(asList(1, 2, 3), function)).containsExactly("1", "2", "3");
+        assertThat(even.test(4)).isTrue();
+
+        assertThat(metrics.getInvocationCount()).isEqualTo(4);
+        assertThat(metrics.getSampleCount()).isZero();
+        assertThat(metrics.getMedianNanos()).isZero();
+    }
+
+    @Test
+    public void timed_SlowFunction_DurationsHaveBeenRecorded() {
+        InvocationMetrics metrics = InvocationMetrics.timed("timed");
+        Supplier<String> supplier = metrics.supplier(() -> {
+            sleep(2);
+            return "value";
+        });
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(supplier.get()).isEqualTo("value");
+        }
+
+        assertThat(metrics.getInvocationCount()).isEqualTo(5);
+        assertThat(metrics.getSampleCount()).isEqualTo(5);
+        assertThat(metrics.getMeanNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(2));
+        assertThat(metrics.getPercentile(0.5, TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(1);
+        assertThat(metrics.getMaxNanos()).isGreaterThanOrEqualTo(metrics.getPercentile99Nanos());
+    }
+
+    @Test
+    public void timed_Sampling_OnlySomeInvocationsHaveBeenTimed() {
+        InvocationMetrics metrics = InvocationMetrics.timed("sampled", 10);
+        ToIntFunction<String> length = metrics.toIntFunction(String::length);
+
+        for (int i = 0; i < 10000; i++) {
+            length.applyAsInt("value");
+        }
+
+        assertThat(metrics.getInvocationCount()).isEqualTo(10000);
+        assertThat(metrics.getSampleCount()).isBetween(700L, 1300L);
+    }
+
+    @Test
+    public void timed_FailingFunction_InvocationHasBeenRecordedAndExceptionHasBeenRethrown() {
+        InvocationMetrics metrics = InvocationMetrics.timed("failing");
+        Function<String, Integer> parse = metrics.function(Integer::parseInt);
+
+        try {
+            parse.apply("x");
+            throw new AssertionError("Exception expected");
+        } catch (NumberFormatException e) {
+            assertThat(metrics.getSampleCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void timed_TriInterfaces_ResultsHaveBeenPassedThrough() {
+        InvocationMetrics metrics = InvocationMetrics.timed("tri");
+        List<Integer> sums = new ArrayList<>();
+        TriFunction<Integer, Integer, Integer, Integer> sum = metrics.triFunction((a, b, c) -> a + b + c);
+        TriPredicate<Integer, Integer, Integer> ordered = metrics.triPredicate((a, b, c) -> a < b && b < c);
+        TriConsumer<Integer, Integer, Integer> collect = metrics.triConsumer((a, b, c) -> sums.add(a + b + c));
+
+        collect.accept(1, 2, 3);
+
+        assertThat(sum.apply(1, 2, 3)).isEqualTo(6);
+        assertThat(ordered.test(1, 2, 3)).isTrue();
+        assertThat(sums).containsExactly(6);
+        assertThat(metrics.getInvocationCount()).isEqualTo(3);
+        assertThat(metrics.getSampleCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void timed_ConcurrentInvocations_NoInvocationHasBeenLost() {
+        InvocationMetrics metrics = InvocationMetrics.timed("concurrent");
+        Function<Integer, Integer> identity = metrics.function(i -> i);
+
+        IntStream.range(0, 100000).parallel().boxed().forEach(identity::apply);
+
+        assertThat(metrics.getInvocationCount()).isEqualTo(100000);
+        assertThat(metrics.getSampleCount()).isEqualTo(100000);
+    }
+
+    @Test
+    public void reset_RecordedInvocations_CountersHaveBeenCleared() {
+        InvocationMetrics metrics = InvocationMetrics.timed("reset");
+        metrics.runnable(() -> {
+        }).run();
+
+        metrics.reset();
+
+        assertThat(metrics.getInvocationCount()).isZero();
+        assertThat(metrics.getSampleCount()).isZero();
+        assertThat(metrics.getMaxNanos()).isZero();
+    }
+
+    @Test
+    public void register_TimedMetrics_AttributesHaveBeenExposedOverJmx() throws Exception {
+        InvocationMetrics metrics = InvocationMetrics.timed("jmx \"metrics\"").register();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            metrics.consumer(o -> {
+            }).accept("value");
+
+            assertThat(server.getAttribute(metrics.getObjectName(), "InvocationCount")).isEqualTo(1L);
+            assertThat(server.getAttribute(metrics.getObjectName(), "Name")).isEqualTo("jmx \"metrics\"");
+        } finally {
+            metrics.unregister();
+        }
+
+        assertThat(server.isRegistered(metrics.getObjectName())).isFalse();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void register_DuplicateName_IllegalStateExceptionHasBeenThrown() {
+        InvocationMetrics first = InvocationMetrics.counted("duplicate").register();
+        try {
+            InvocationMetrics.counted("duplicate").register();
+        } finally {
+            first.unregister();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void timed_ZeroSamplingInterval_IllegalArgumentExceptionHasBeenThrown() {
+        InvocationMetrics.timed("illegal", 0);
+    }
+
+    @Test
+    public void latencyHistogram_Buckets_BoundsContainTheValues() {
+        for (long value : new long[]{0, 1, 3, 4, 5, 7, 8, 9, 100, 1000, 123456789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucket(value);
+
+            assertThat(LatencyHistogram.lowerBound(bucket)).isLessThanOrEqualTo(value);
+            assertThat(LatencyHistogram.upperBound(bucket)).isGreaterThanOrEqualTo(value);
+        }
+        assertThat(LatencyHistogram.upperBound(LatencyHistogram.bucket(1000)))
+                .isLessThanOrEqualTo(1000 + 1000 / LatencyHistogram.SUB_BUCKETS);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
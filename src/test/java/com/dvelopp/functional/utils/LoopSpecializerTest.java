@@ -0,0 +1,86 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.interfaces.TriFunction;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class LoopSpecializerTest {
+
+    @Test
+    public void mapToList_ValidCollections_ElementsHaveBeenMappedInOrder() {
+        assertThat(LoopSpecializer.mapToList(asList(1, 2, 3), i -> i * 2)).containsExactly(2, 4, 6);
+        assertThat(LoopSpecializer.mapToList(new LinkedList<>(asList("a", "b")), String::toUpperCase))
+                .containsExactly("A", "B");
+    }
+
+    @Test
+    public void mapToSet_DuplicateResults_DuplicatesHaveBeenRemoved() {
+        assertThat(LoopSpecializer.mapToSet(asList(1, 2, 3, 4), i -> i % 2)).containsOnly(0, 1);
+    }
+
+    @Test
+    public void groupingBy_ValidCollection_ElementsHaveBeenGroupedInOrder() {
+        Map<Integer, List<String>> groups = LoopSpecializer.groupingBy(asList("a", "bb", "c", "dd"), String::length);
+
+        assertThat(groups).containsOnly(entry(1, asList("a", "c")), entry(2, asList("bb", "dd")));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void groupingBy_NullKey_NullPointerExceptionHasBeenThrown() {
+        LoopSpecializer.groupingBy(asList("a", "b"), s -> null);
+    }
+
+    @Test
+    public void mapToListLoop_DifferentMapperClasses_DifferentCopiesOfLoopHaveBeenUsed() {
+        Function<Integer, Integer> first = i -> i + 1;
+        Function<Integer, Integer> second = i -> i - 1;
+
+        Object firstLoop = LoopSpecializer.mapToListLoop(first);
+        Object secondLoop = LoopSpecializer.mapToListLoop(second);
+
+        assertThat(firstLoop.getClass()).isNotSameAs(secondLoop.getClass());
+        assertThat(firstLoop.getClass().getName()).isEqualTo(secondLoop.getClass().getName());
+        assertThat(firstLoop.getClass().getClassLoader()).isNotSameAs(LoopSpecializer.class.getClassLoader());
+        assertThat(LoopSpecializer.mapToListLoop(first)).isSameAs(firstLoop);
+    }
+
+    @Test
+    public void mapToListLoop_BoundFunctionsWithDifferentActions_LoopHasBeenKeyedByAction() {
+        BiFunction<Integer, Integer, Integer> sum = Integer::sum;
+        BiFunction<Integer, Integer, Integer> product = (a, b) -> a * b;
+
+        Object sumLoop = LoopSpecializer.mapToListLoop(FunctionUtils.function(sum, 2));
+        Object productLoop = LoopSpecializer.mapToListLoop(FunctionUtils.function(product, 2));
+
+        assertThat(sumLoop.getClass()).isNotSameAs(productLoop.getClass());
+        assertThat(LoopSpecializer.mapToListLoop(FunctionUtils.function(sum, 3))).isSameAs(sumLoop);
+    }
+
+    @Test
+    public void allLoops_BoundFunctions_BoundArgumentsHaveBeenPassed() {
+        BiFunction<Integer, Integer, Integer> remainder = (i, divisor) -> i % divisor;
+        TriFunction<String, Integer, Integer, String> substring = String::substring;
+
+        assertThat(LoopSpecializer.mapToList(asList("abc", "bcd"), FunctionUtils.function(substring, 1, 3)))
+                .containsExactly("bc", "cd");
+        assertThat(LoopSpecializer.mapToSet(asList(1, 2, 3, 4), FunctionUtils.function(remainder, 3)))
+                .containsOnly(0, 1, 2);
+        assertThat(LoopSpecializer.groupingBy(asList(1, 2, 3, 4), FunctionUtils.function(remainder, 2)))
+                .containsOnly(entry(0, asList(2, 4)), entry(1, asList(1, 3)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void mapToList_NullMapper_NullPointerExceptionHasBeenThrown() {
+        LoopSpecializer.mapToList(asList(1, 2), null);
+    }
+
+}
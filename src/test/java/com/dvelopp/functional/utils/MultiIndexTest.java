@@ -0,0 +1,123 @@
+package com.dvelopp.functional.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.dvelopp.functional.utils.CollectionUtils.groupingBy;
+import static com.dvelopp.functional.utils.CollectionUtils.index;
+import static com.dvelopp.functional.utils.CollectionUtils.indexByLong;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiIndexTest {
+
+    private static final String KEY_1 = "KEY_1";
+    private static final String KEY_2 = "KEY_2";
+    private static final String KEY_3 = "KEY_3";
+
+    private final BiValHolder<String, Integer> holder1 = new BiValHolder<>(KEY_1, 1);
+    private final BiValHolder<String, Integer> holder2 = new BiValHolder<>(KEY_2, 2);
+    private final BiValHolder<String, Integer> holder3 = new BiValHolder<>(KEY_1, 3);
+    private final BiValHolder<String, Integer> holder4 = new BiValHolder<>(KEY_2, 4);
+    private final BiValHolder<String, Integer> holder5 = new BiValHolder<>(KEY_1, 5);
+
+    @Test
+    public void get_SeveralElementsPerKey_ElementsHaveBeenReturnedInCollectionOrder() {
+        MultiIndex<String, BiValHolder<String, Integer>> index = index(
+                asList(holder1, holder2, holder3, holder4, holder5), BiValHolder::getVal1);
+
+        assertThat(index.get(KEY_1)).containsExactly(holder1, holder3, holder5);
+        assertThat(index.get(KEY_2)).containsExactly(holder2, holder4);
+        assertThat(index.count(KEY_1)).isEqualTo(3);
+        assertThat(index.keyCount()).isEqualTo(2);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    public void get_MissingKey_EmptyListHasBeenReturned() {
+        MultiIndex<String, BiValHolder<String, Integer>> index = index(asList(holder1, holder2),
+                BiValHolder::getVal1);
+
+        assertThat(index.get(KEY_3)).isEmpty();
+        assertThat(index.get(null)).isEmpty();
+        assertThat(index.count(KEY_3)).isZero();
+        assertThat(index.containsKey(KEY_3)).isFalse();
+        assertThat(index.containsKey(KEY_1)).isTrue();
+    }
+
+    @Test
+    public void get_EmptyCollection_EmptyIndexHasBeenBuilt() {
+        MultiIndex<String, BiValHolder<String, Integer>> index = index(emptyList(), BiValHolder::getVal1);
+
+        assertThat(index.get(KEY_1)).isEmpty();
+        assertThat(index.keyCount()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void get_ModificationOfReturnedList_UnsupportedOperationExceptionHasBeenThrown() {
+        MultiIndex<String, BiValHolder<String, Integer>> index = index(asList(holder1, holder2),
+                BiValHolder::getVal1);
+
+        index.get(KEY_1).add(holder3);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void index_NullKey_NPEHasBeenThrown() {
+        index(asList(holder1, new BiValHolder<String, Integer>(null, 0)), BiValHolder::getVal1);
+    }
+
+    @Test
+    public void forEach_ManyKeys_SameGroupsAsGroupingBy() {
+        List<Integer> testObjects = new ArrayList<>();
+        Random random = new Random(17);
+        for (int i = 0; i < 50_000; i++) {
+            testObjects.add(random.nextInt(3_000));
+        }
+        Map<Integer, List<Integer>> expectedGroups = groupingBy(testObjects, i -> i % 1_000);
+        Map<Integer, List<Integer>> actualGroups = new LinkedHashMap<>();
+
+        MultiIndex<Integer, Integer> index = index(testObjects, i -> i % 1_000);
+        index.forEach((key, elements) -> actualGroups.put(key, new ArrayList<>(elements)));
+
+        assertThat(actualGroups).isEqualTo(expectedGroups);
+        assertThat(actualGroups.keySet()).startsWith(testObjects.get(0) % 1_000);
+    }
+
+    @Test
+    public void indexByLong_ZeroAndNegativeKeys_ElementsHaveBeenReturnedInCollectionOrder() {
+        List<Long> testObjects = asList(0L, -3L, 5L, 0L, -3L, 0L);
+
+        LongMultiIndex<Long> index = indexByLong(testObjects, Long::longValue);
+
+        assertThat(index.get(0)).containsExactly(0L, 0L, 0L);
+        assertThat(index.get(-3)).containsExactly(-3L, -3L);
+        assertThat(index.get(7)).isEmpty();
+        assertThat(index.containsKey(5)).isTrue();
+        assertThat(index.count(-3)).isEqualTo(2);
+        assertThat(index.keyCount()).isEqualTo(3);
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    @Test
+    public void indexByLong_ManyKeys_SameGroupsAsGroupingBy() {
+        List<Long> testObjects = new ArrayList<>();
+        Random random = new Random(19);
+        for (int i = 0; i < 50_000; i++) {
+            testObjects.add(random.nextLong() % 5_000);
+        }
+        Map<Long, List<Long>> expectedGroups = groupingBy(testObjects, l -> l);
+        Map<Long, List<Long>> actualGroups = new LinkedHashMap<>();
+
+        indexByLong(testObjects, Long::longValue).forEach((key, elements) -> actualGroups.put(key, elements));
+
+        assertThat(actualGroups).isEqualTo(expectedGroups);
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.dvelopp.functional.utils;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class NumericKernelsTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void sumMinMaxAverage_RandomIntValues_ResultsMatchStream() {
+        for (int length = 0; length < 40; length++) {
+            int[] values = random.ints(length).toArray();
+
+            assertThat(NumericKernels.sum(values)).isEqualTo(IntStream.of(values).asLongStream().sum());
+            assertThat(NumericKernels.min(values)).isEqualTo(IntStream.of(values).min());
+            assertThat(NumericKernels.max(values)).isEqualTo(IntStream.of(values).max());
+            assertThat(NumericKernels.average(values)).isEqualTo(IntStream.of(values).average());
+        }
+    }
+
+    @Test
+    public void sumMinMaxAverage_RandomLongValues_ResultsMatchStream() {
+        for (int length = 0; length < 40; length++) {
+            long[] values = random.longs(length, -1000, 1000).toArray();
+
+            assertThat(NumericKernels.sum(values)).isEqualTo(LongStream.of(values).sum());
+            assertThat(NumericKernels.min(values)).isEqualTo(LongStream.of(values).min());
+            assertThat(NumericKernels.max(values)).isEqualTo(LongStream.of(values).max());
+            assertThat(NumericKernels.average(values)).isEqualTo(LongStream.of(values).average());
+        }
+    }
+
+    @Test
+    public void sumMinMaxAverage_RandomDoubleValues_ResultsMatchStream() {
+        for (int length = 1; length < 40; length++) {
+            double[] values = random.doubles(length).toArray();
+
+            assertThat(NumericKernels.sum(values)).isCloseTo(DoubleStream.of(values).sum(), within(1e-9));
+            assertThat(NumericKernels.min(values)).isEqualTo(DoubleStream.of(values).min());
+            assertThat(NumericKernels.max(values)).isEqualTo(DoubleStream.of(values).max());
+            assertThat(NumericKernels.average(values).getAsDouble())
+                    .isCloseTo(DoubleStream.of(values).average().getAsDouble(), within(1e-9));
+        }
+    }
+
+    @Test
+    public void minMax_NaNValue_NaNHasBeenReturned() {
+        double[] values = {1, Double.NaN, 2};
+
+        assertThat(NumericKernels.min(values).getAsDouble()).isNaN();
+        assertThat(NumericKernels.max(values).getAsDouble()).isNaN();
+    }
+
+    @Test
+    public void minMaxAverage_EmptyArrays_EmptyOptionalsHaveBeenReturned() {
+        assertThat(NumericKernels.min(new int[0])).isEmpty();
+        assertThat(NumericKernels.max(new long[0])).isEmpty();
+        assertThat(NumericKernels.average(new double[0])).isEmpty();
+    }
+
+    @Test
+    public void count_ValuesInAndOutOfRange_OnlyValuesInRangeHaveBeenCounted() {
+        assertThat(NumericKernels.count(new int[]{-1, 0, 5, 9, 10}, 0, 10)).isEqualTo(3);
+        assertThat(NumericKernels.count(new long[]{Long.MIN_VALUE, 0, Long.MAX_VALUE}, 0, Long.MAX_VALUE))
+                .isEqualTo(1);
+        assertThat(NumericKernels.count(new double[]{0.5, Double.NaN, 1.0}, 0, 1)).isEqualTo(1);
+    }
+
+    @Test
+    public void histogram_IntValues_ValuesHaveBeenCountedPerBucket() {
+        int[] values = {-5, 0, 1, 4, 5, 9, 10, 14, 15, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+        assertThat(NumericKernels.histogram(values, 0, 5, 3)).containsExactly(3, 2, 2);
+        assertThat(NumericKernels.histogram(values, Integer.MIN_VALUE, Integer.MAX_VALUE, 3))
+                .containsExactly(2, 8, 1);
+    }
+
+    @Test
+    public void histogram_LongValues_ValuesHaveBeenCountedPerBucket() {
+        long[] values = {-5, 0, 1, 4, 5, 9, 10, 14, 15, Long.MAX_VALUE, Long.MIN_VALUE};
+
+        assertThat(NumericKernels.histogram(values, 0, 5, 3)).containsExactly(3, 2, 2);
+        assertThat(NumericKernels.histogram(values, Long.MIN_VALUE, Long.MAX_VALUE, 2)).containsExactly(2, 8);
+    }
+
+    @Test
+    public void histogram_DoubleValues_ValuesHaveBeenCountedPerBucket() {
+        double[] values = {-0.1, 0, 0.24, 0.25, 0.5, 0.99, 1, Double.NaN};
+
+        assertThat(NumericKernels.histogram(values, 0, 1, 4)).containsExactly(2, 1, 1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void histogram_ZeroBuckets_IllegalArgumentExceptionHasBeenThrown() {
+        NumericKernels.histogram(new int[]{1}, 0, 1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void histogram_EmptyRange_IllegalArgumentExceptionHasBeenThrown() {
+        NumericKernels.histogram(new double[]{1}, 1, 1, 1);
+    }
+
+    @Test
+    public void elementWiseOperations_ValidArrays_ResultsHaveBeenComputed() {
+        assertThat(NumericKernels.add(new int[]{1, 2, 3}, new int[]{10, 20, 30})).containsExactly(11, 22, 33);
+        assertThat(NumericKernels.subtract(new long[]{10, 20}, new long[]{1, 2})).containsExactly(9, 18);
+        assertThat(NumericKernels.multiply(new double[]{1.5, 2}, new double[]{2, 0.25})).containsExactly(3, 0.5);
+        assertThat(NumericKernels.scale(new int[]{1, -2}, 3)).containsExactly(3, -6);
+        assertThat(NumericKernels.scale(new double[]{1, -2}, 0.5)).containsExactly(0.5, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_DifferentLengths_IllegalArgumentExceptionHasBeenThrown() {
+        NumericKernels.add(new int[2], new int[3]);
+    }
+
+    @Test
+    public void kernels_VectorModuleAvailableOrNot_MatchingKernelsHaveBeenLoaded() {
+        Class<?> expected = NumericKernels.loadVectorKernels() != null
+                ? NumericKernels.loadVectorKernels().getClass()
+                : ScalarKernels.class;
+
+        assertThat(NumericKernels.KERNELS).isInstanceOf(expected);
+    }
+
+    @Test
+    public void kernels_RandomValuesOfAllLengths_ResultsMatchScalarKernels() {
+        ArrayKernels kernels = NumericKernels.KERNELS;
+        ArrayKernels scalar = new ScalarKernels();
+        for (int length = 1; length < 100; length++) {
+            int[] ints = random.ints(length).toArray();
+            int[] otherInts = random.ints(length).toArray();
+            long[] longs = random.longs(length).toArray();
+            long[] otherLongs = random.longs(length).toArray();
+            double[] doubles = random.doubles(length, -1, 1).toArray();
+            double[] otherDoubles = random.doubles(length, -1, 1).toArray();
+
+            assertThat(kernels.sum(ints)).isEqualTo(scalar.sum(ints));
+            assertThat(kernels.min(ints)).isEqualTo(scalar.min(ints));
+            assertThat(kernels.max(ints)).isEqualTo(scalar.max(ints));
+            assertThat(kernels.count(ints, -1 << 30, 1 << 30)).isEqualTo(scalar.count(ints, -1 << 30, 1 << 30));
+            assertThat(kernels.sum(longs)).isEqualTo(scalar.sum(longs));
+            assertThat(kernels.min(longs)).isEqualTo(scalar.min(longs));
+            assertThat(kernels.max(longs)).isEqualTo(scalar.max(longs));
+            assertThat(kernels.count(longs, 0, Long.MAX_VALUE)).isEqualTo(scalar.count(longs, 0, Long.MAX_VALUE));
+            assertThat(kernels.sum(doubles)).isCloseTo(scalar.sum(doubles), within(1e-9));
+            assertThat(kernels.min(doubles)).isEqualTo(scalar.min(doubles));
+            assertThat(kernels.max(doubles)).isEqualTo(scalar.max(doubles));
+            assertThat(kernels.count(doubles, -0.5, 0.5)).isEqualTo(scalar.count(doubles, -0.5, 0.5));
+            assertElementWiseResultsMatch(kernels, scalar, ints, otherInts);
+            assertElementWiseResultsMatch(kernels, scalar, longs, otherLongs);
+            assertElementWiseResultsMatch(kernels, scalar, doubles, otherDoubles);
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void sum_NullArray_NullPointerExceptionHasBeenThrown() {
+        NumericKernels.sum((int[]) null);
+    }
+
+    private static void assertElementWiseResultsMatch(ArrayKernels kernels, ArrayKernels scalar, int[] left,
+                                                      int[] right) {
+        int[] result = new int[left.length];
+        int[] expected = new int[left.length];
+        kernels.add(left, right, result);
+        scalar.add(left, right, expected);
+        assertThat(result).containsExactly(expected);
+        kernels.subtract(left, right, result);
+        scalar.subtract(left, right, expected);
+        assertThat(result).containsExactly(expected);
+        kernels.multiply(left, right, result);
+        scalar.multiply(left, right, expected);
+        assertThat(result).containsExactly(expected);
+        kernels.scale(left, 7, result);
+        scalar.scale(left, 7, expected);
+        assertThat(result).containsExactly(expected);
+    }
+
+    private static void assertElementWiseResultsMatch(ArrayKernels kernels, ArrayKernels scalar, long[] left,
+                                                      long[] right) {
+        long[] result = new long[left.length];
+        long[] expected = new long[left.length];
+        kernels.add(left, right, result);
+        scalar.add(left, right, expected);
+        assertThat(result).containsExactly(expected);
+        kernels.subtract(left, right, result);
+        scalar.subtract(left, right, expected);
+        assertThat(result).containsExactly(expected);
+        kernels.multiply(left, right, result);
+        scalar.multiply(left, right, expected);
+        assertThat(result).containsExactly(expected);
+        kernels.scale(left, 7, result);
+        scalar.scale(left, 7, expected);
+        assertThat(result).containsExactly(expected);
+    }
+
+    private static void assertElementWiseResultsMatch(ArrayKernels kernels, ArrayKernels scalar, double[] left,
+                                                      double[] right) {
+        double[] result = new double[left.length];
+        double[] expected = new double[left.length];
+        kernels.add(left, right, result);
+        scalar.add(left, right, expected);
+        assertThat(result).containsExactly(expected);
+        kernels.subtract(left, right, result);
+        scalar.subtract(left, right, expected);
+        assertThat(result).containsExactly(expected);
+        kernels.multiply(left, right, result);
+        scalar.multiply(left, right, expected);
+        assertThat(result).containsExactly(expected);
+        kernels.scale(left, 0.5, result);
+        scalar.scale(left, 0.5, expected);
+        assertThat(result).containsExactly(expected);
+    }
+
+}
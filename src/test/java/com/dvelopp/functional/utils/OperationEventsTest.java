@@ -0,0 +1,80 @@
+package com.dvelopp.functional.utils;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationEventsTest {
+
+    private static final String EVENT_NAME = "com.dvelopp.functional.utils.Operation";
+
+    @Test
+    public void isEnabled_PropertyNotSetAndNoListenerInstalled_False() {
+        assertThat(OperationEvents.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void isFlightRecorderEnabled_PropertyNotSet_False() {
+        assertThat(OperationEvents.FLIGHT_RECORDER).isFalse();
+    }
+
+    @Test
+    public void loadRecorder_EventOnClassPath_RecorderOfEventLoaded() {
+        assertThat(OperationEvents.loadRecorder()).isInstanceOf(OperationEvent.Recorder.class);
+    }
+
+    @Test
+    public void report_NotEnabled_ResultOfBodyReturned() {
+        List<Integer> result = asList(1, 2, 3);
+
+        assertThat(OperationEvents.report("mapToList", result, false, () -> result)).isSameAs(result);
+    }
+
+    @Test
+    public void end_NoEvent_ResultReturned() {
+        List<Integer> result = asList(1, 2, 3);
+
+        assertThat(OperationEvents.end(null, result)).isSameAs(result);
+    }
+
+    @Test
+    public void operationEvent_RecordingEnabled_EventCommitted() throws Exception {
+        Path file = Files.createTempFile("operation-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+            Object event = OperationEvent.begin("mapToList", 3, true);
+            OperationEvent.end(event, 2, "hedged", new IllegalStateException());
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            assertThat(events).hasSize(1);
+            RecordedEvent recorded = events.get(0);
+            assertThat(recorded.getString("operation")).isEqualTo("mapToList");
+            assertThat(recorded.getInt("inputSize")).isEqualTo(3);
+            assertThat(recorded.getInt("outputSize")).isEqualTo(2);
+            assertThat(recorded.getBoolean("parallel")).isTrue();
+            assertThat(recorded.getString("branch")).isEqualTo("hedged");
+            assertThat(recorded.getClass("failure").getName()).isEqualTo(IllegalStateException.class.getName());
+            assertThat(recorded.getLong("allocatedBytes")).isGreaterThanOrEqualTo(-1);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void operationEvent_NoRecording_NoEvent() {
+        assertThat(OperationEvent.begin("mapToList", 3, false)).isNull();
+    }
+
+}
@@ -0,0 +1,250 @@
+package com.dvelopp.functional.utils;
+
+import org.assertj.core.api.Assertions;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.dvelopp.functional.utils.CollectionUtils.groupingBy;
+import static com.dvelopp.functional.utils.CollectionUtils.mapToList;
+import static com.dvelopp.functional.utils.FunctionUtils.withDeadline;
+import static com.dvelopp.functional.utils.condition.CheckUtils.inCase;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * The listeners are discovered once, when {@link OperationEvents} is initialized, so the tests of the installed
+ * listener run in a separate class loader that sees the library, these tests and a {@code META-INF/services} file
+ * installing {@link RecordingListener}. The rest of the tests run without listeners.
+ */
+public class OperationListenerTest {
+
+    private static Path services;
+    private static URLClassLoader listenerLoader;
+
+    @BeforeClass
+    public static void setUpClass() throws IOException {
+        services = Files.createTempDirectory("operation-listener");
+        Path file = services.resolve("META-INF/services/" + OperationListener.class.getName());
+        Files.createDirectories(file.getParent());
+        Files.write(file, singletonList(RecordingListener.class.getName()));
+        Set<URL> urls = new LinkedHashSet<>();
+        urls.add(services.toUri().toURL());
+        urls.add(location(OperationEvents.class));
+        urls.add(location(OperationListenerTest.class));
+        urls.add(location(Assertions.class));
+        listenerLoader = new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getSystemClassLoader().getParent());
+    }
+
+    @AfterClass
+    public static void tearDownClass() throws IOException {
+        listenerLoader.close();
+        Files.delete(services.resolve("META-INF/services/" + OperationListener.class.getName()));
+        Files.delete(services.resolve("META-INF/services"));
+        Files.delete(services.resolve("META-INF"));
+        Files.delete(services);
+    }
+
+    @Test
+    public void mapToList_NoListenerInstalled_OperationNotReported() {
+        assertThat(OperationEvents.isEnabled()).isFalse();
+        assertThat(OperationEvents.begin("mapToList", 3, false)).isNull();
+        assertThat(mapToList(asList(1, 2, 3), String::valueOf)).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    public void isEnabled_ListenerInstalled_True() throws Throwable {
+        runWithListener("enabled");
+    }
+
+    @Test
+    public void mapToList_ListenerInstalled_OperationReported() throws Throwable {
+        runWithListener("mapToListReported");
+    }
+
+    @Test
+    public void groupingBy_ListenerInstalled_OutputSizeIsNumberOfGroups() throws Throwable {
+        runWithListener("groupingByReported");
+    }
+
+    @Test
+    public void mapToList_MapperFails_FailureReported() throws Throwable {
+        runWithListener("mapToListFailureReported");
+    }
+
+    @Test
+    public void inCase_ConditionTrue_BranchReported() throws Throwable {
+        runWithListener("inCaseBranchReported");
+    }
+
+    @Test
+    public void inCase_ConditionFails_ExceptionBranchReported() throws Throwable {
+        runWithListener("inCaseFailureReported");
+    }
+
+    @Test
+    public void withDeadline_DeadlineHit_BranchReported() throws Throwable {
+        runWithListener("withDeadlineBranchReported");
+    }
+
+    /**
+     * Runs the scenario of {@link Scenarios} with the given name in the class loader with the installed listener.
+     */
+    private static void runWithListener(String scenario) throws Throwable {
+        Class<?> scenarios = listenerLoader.loadClass(Scenarios.class.getName());
+        try {
+            scenarios.getMethod(scenario).invoke(null);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static URL location(Class<?> type) {
+        return type.getProtectionDomain().getCodeSource().getLocation();
+    }
+
+    /**
+     * Scenarios run by the tests in the class loader with the installed listener, each with new recorded operations.
+     */
+    public static final class Scenarios {
+
+        private Scenarios() {
+        }
+
+        public static void enabled() {
+            assertThat(OperationEvents.isEnabled()).isTrue();
+        }
+
+        public static void mapToListReported() {
+            List<Operation> begun = RecordingListener.record(RecordingListener.BEGUN);
+            List<Operation> ended = RecordingListener.record(RecordingListener.ENDED);
+
+            mapToList(asList(1, 2, 3), String::valueOf);
+
+            assertThat(begun).hasSize(1);
+            assertThat(ended).containsExactlyElementsOf(begun);
+            Operation operation = ended.get(0);
+            assertThat(operation.getName()).isEqualTo("mapToList");
+            assertThat(operation.getInputSize()).isEqualTo(3);
+            assertThat(operation.getOutputSize()).isEqualTo(3);
+            assertThat(operation.isParallel()).isFalse();
+            assertThat(operation.getBranch()).isNull();
+            assertThat(operation.getFailure()).isNull();
+            assertThat(operation.getDurationNanos()).isGreaterThanOrEqualTo(0);
+        }
+
+        public static void groupingByReported() {
+            List<Operation> ended = RecordingListener.record(RecordingListener.ENDED);
+
+            groupingBy(asList(1, 2, 3, 4), i -> i % 2);
+
+            assertThat(ended).extracting(Operation::getName).containsExactly("groupingBy");
+            assertThat(ended.get(0).getOutputSize()).isEqualTo(2);
+        }
+
+        public static void mapToListFailureReported() {
+            List<Operation> ended = RecordingListener.record(RecordingListener.ENDED);
+            IllegalStateException failure = new IllegalStateException();
+
+            assertThatThrownBy(() -> mapToList(asList(1, 2), i -> {
+                throw failure;
+            })).isSameAs(failure);
+
+            assertThat(ended).hasSize(1);
+            assertThat(ended.get(0).getFailure()).isSameAs(failure);
+            assertThat(ended.get(0).getOutputSize()).isEqualTo(-1);
+        }
+
+        public static void inCaseBranchReported() {
+            List<Operation> ended = RecordingListener.record(RecordingListener.ENDED);
+
+            inCase(() -> true).isTrue(() -> {
+            });
+
+            assertThat(ended).extracting(Operation::getName, Operation::getBranch)
+                    .containsExactly(tuple("inCase", "TRUE"));
+        }
+
+        public static void inCaseFailureReported() {
+            List<Operation> ended = RecordingListener.record(RecordingListener.ENDED);
+            IllegalStateException failure = new IllegalStateException();
+
+            inCase(i -> {
+                throw failure;
+            }, 1).isException(() -> {
+            });
+
+            assertThat(ended).hasSize(1);
+            assertThat(ended.get(0).getInputSize()).isEqualTo(1);
+            assertThat(ended.get(0).getFailure()).isSameAs(failure);
+        }
+
+        public static void withDeadlineBranchReported() {
+            List<Operation> ended = RecordingListener.record(RecordingListener.ENDED);
+            ExecutorService executor = Executors.newCachedThreadPool();
+            try {
+                Supplier<String> supplier = withDeadline(() -> {
+                    sleep(1000);
+                    return "late";
+                }, 10, TimeUnit.MILLISECONDS, () -> "fallback", executor);
+
+                assertThat(supplier.get()).isEqualTo("fallback");
+                assertThat(ended).extracting(Operation::getBranch).containsExactly("deadline");
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Listener installed in the class loader of the scenarios, which records the operations.
+     */
+    public static final class RecordingListener implements OperationListener {
+
+        private static final List<Operation> BEGUN = new CopyOnWriteArrayList<>();
+        private static final List<Operation> ENDED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onBegin(Operation operation) {
+            BEGUN.add(operation);
+        }
+
+        @Override
+        public void onEnd(Operation operation) {
+            ENDED.add(operation);
+        }
+
+        /**
+         * Drops the operations recorded so far.
+         */
+        private static List<Operation> record(List<Operation> operations) {
+            operations.clear();
+            return operations;
+        }
+    }
+
+}
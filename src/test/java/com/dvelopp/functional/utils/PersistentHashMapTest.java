@@ -0,0 +1,203 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.persistent.PersistentHashMap;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.dvelopp.functional.utils.CollectionUtils.mapToPersistentMap;
+import static com.dvelopp.functional.utils.persistent.PersistentHashMap.toPersistentMap;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class PersistentHashMapTest {
+
+    @Test
+    public void plus_ManyKeys_AllVersionsHaveKeptTheirEntries() {
+        PersistentHashMap<Integer, String> empty = PersistentHashMap.empty();
+        PersistentHashMap<Integer, String> half = empty;
+        for (int i = 0; i < 500; i++) {
+            half = half.plus(i, String.valueOf(i));
+        }
+        PersistentHashMap<Integer, String> full = half;
+        for (int i = 500; i < 1000; i++) {
+            full = full.plus(i, String.valueOf(i));
+        }
+
+        assertThat(empty).isEmpty();
+        assertThat(half).hasSize(500).containsEntry(499, "499").doesNotContainKey(500);
+        assertThat(full).hasSize(1000).containsEntry(999, "999").containsEntry(0, "0");
+        assertThat(full).isEqualTo(expectedMap(1000));
+    }
+
+    @Test
+    public void plus_ExistingKey_ValueHasBeenReplaced() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("a", 1);
+
+        PersistentHashMap<String, Integer> updated = map.plus("a", 2);
+
+        assertThat(map).containsExactly(entry("a", 1));
+        assertThat(updated).containsExactly(entry("a", 2));
+        assertThat(updated.plus("a", 2)).isSameAs(updated);
+    }
+
+    @Test
+    public void plus_NullKeyAndValue_EntryHasBeenAdded() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus(null, null)
+                .plus("a", 1);
+
+        assertThat(map).hasSize(2).containsEntry(null, null).containsEntry("a", 1);
+        assertThat(map.minus(null)).containsExactly(entry("a", 1));
+    }
+
+    @Test
+    public void plus_KeysWithEqualHashes_AllKeysHaveBeenKept() {
+        PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.plus(new CollidingKey(i), i);
+        }
+        map = map.plus(new CollidingKey(3), -3).plus(new CollidingKey(-1, 7), -1);
+
+        assertThat(map).hasSize(11).containsEntry(new CollidingKey(3), -3)
+                .containsEntry(new CollidingKey(-1, 7), -1);
+        assertThat(map.minus(new CollidingKey(3))).hasSize(10).doesNotContainKey(new CollidingKey(3));
+    }
+
+    @Test
+    public void minus_AllKeys_EmptyMapHasBeenReturned() {
+        PersistentHashMap<Integer, String> full = PersistentHashMap.from(expectedMap(1000));
+        PersistentHashMap<Integer, String> map = full;
+
+        for (int i = 0; i < 1000; i++) {
+            map = map.minus(i);
+            assertThat(map.size()).isEqualTo(999 - i);
+        }
+
+        assertThat(map).isSameAs(PersistentHashMap.empty());
+        assertThat(full).isEqualTo(expectedMap(1000));
+        assertThat(full.minus(-1)).isSameAs(full);
+    }
+
+    @Test
+    public void asTransient_RandomUpdates_ResultMatchesHashMap() {
+        Random random = new Random(42);
+        PersistentHashMap<Object, Integer> origin = PersistentHashMap.<Object, Integer>empty().plus("origin", 0);
+        PersistentHashMap.Transient<Object, Integer> map = origin.asTransient();
+        Map<Object, Integer> expected = new HashMap<>(origin);
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(3000);
+            Object key = value % 3 == 0 ? new CollidingKey(value % 90) : value;
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+
+        PersistentHashMap<Object, Integer> result = map.persistent();
+
+        assertThat(result).isEqualTo(expected);
+        assertThat(new HashSet<>(result.keySet())).isEqualTo(expected.keySet());
+        assertThat(origin).containsExactly(entry("origin", 0));
+    }
+
+    @Test
+    public void asTransient_PersistentMapUpdatedAfterwards_TransientHasNotChangedIt() {
+        PersistentHashMap<Integer, String> first = PersistentHashMap.from(expectedMap(100));
+        PersistentHashMap.Transient<Integer, String> second = first.asTransient();
+
+        second.put(1, "changed").remove(2).put(100, "100");
+
+        assertThat(first).isEqualTo(expectedMap(100));
+        assertThat(second.get(1)).isEqualTo("changed");
+        assertThat(second.containsKey(2)).isFalse();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void asTransient_UsedAfterPersistent_ExceptionHasBeenThrown() {
+        PersistentHashMap.Transient<Integer, String> map = PersistentHashMap.<Integer, String>empty().asTransient();
+        map.persistent();
+
+        map.put(1, "1");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void put_MapMethod_ExceptionHasBeenThrown() {
+        PersistentHashMap.<Integer, String>empty().put(1, "1");
+    }
+
+    @Test
+    public void toPersistentMap_ParallelStream_LastValueHasWon() {
+        PersistentHashMap<Integer, Integer> map = range(10000).parallelStream()
+                .collect(toPersistentMap(i -> i % 100, i -> i));
+
+        assertThat(map).hasSize(100).containsEntry(0, 9900).containsEntry(99, 9999);
+    }
+
+    @Test
+    public void mapToPersistentMap_ValidCollection_EntriesHaveBeenMapped() {
+        PersistentHashMap<String, Integer> map = mapToPersistentMap(range(3), String::valueOf, i -> i * 10);
+
+        assertThat(map).containsOnly(entry("0", 0), entry("1", 10), entry("2", 20));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void mapToPersistentMap_DuplicateKeys_ExceptionHasBeenThrown() {
+        mapToPersistentMap(asList("a", "b", "a"), s -> s, String::length);
+    }
+
+    @Test
+    public void mapToPersistentMap_DuplicateKeysWithMerge_ValuesHaveBeenMerged() {
+        PersistentHashMap<Integer, Integer> map = mapToPersistentMap(range(10), i -> i % 2, i -> i, Integer::sum);
+
+        assertThat(map).containsOnly(entry(0, 20), entry(1, 25));
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(toList());
+    }
+
+    private static Map<Integer, String> expectedMap(int size) {
+        Map<Integer, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(i, String.valueOf(i));
+        }
+        return map;
+    }
+
+    private static final class CollidingKey {
+
+        private final int id;
+        private final int hash;
+
+        private CollidingKey(int id) {
+            this(id, 42);
+        }
+
+        private CollidingKey(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id && ((CollidingKey) o).hash == hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.persistent.PersistentHashSet;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.dvelopp.functional.utils.CollectionUtils.mapToPersistentSet;
+import static com.dvelopp.functional.utils.persistent.PersistentHashSet.toPersistentSet;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PersistentHashSetTest {
+
+    @Test
+    public void of_DuplicateElements_DuplicatesHaveBeenRemoved() {
+        PersistentHashSet<String> set = PersistentHashSet.of("a", "b", "a", null, null);
+
+        assertThat(set).hasSize(3).containsOnly("a", "b", null);
+        assertThat(set.contains(null)).isTrue();
+        assertThat(set.contains("c")).isFalse();
+    }
+
+    @Test
+    public void of_NoElements_EmptySetHasBeenReturned() {
+        assertThat(PersistentHashSet.<String>of()).isSameAs(PersistentHashSet.empty()).isEmpty();
+    }
+
+    @Test
+    public void from_ManyElements_SetIsEqualToHashSet() {
+        Set<Integer> expected = new HashSet<>(range(1000));
+
+        PersistentHashSet<Integer> set = PersistentHashSet.from(range(1000));
+
+        assertThat(set).isEqualTo(expected);
+        assertThat(set.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(expected).isEqualTo(set);
+    }
+
+    @Test
+    public void plusAndMinus_ExistingSet_OnlyNewSetsHaveBeenChanged() {
+        PersistentHashSet<String> set = PersistentHashSet.of("a", "b", null);
+
+        PersistentHashSet<String> plus = set.plus("c");
+        PersistentHashSet<String> minus = set.minus("a");
+
+        assertThat(set).containsOnly("a", "b", null);
+        assertThat(plus).containsOnly("a", "b", "c", null);
+        assertThat(minus).containsOnly("b", null);
+        assertThat(set.plus("a")).isSameAs(set);
+        assertThat(set.minus("d")).isSameAs(set);
+        assertThat(set).isEqualTo(new HashSet<>(asList("a", "b", null)));
+    }
+
+    @Test
+    public void minus_AllElements_EmptySetHasBeenReturned() {
+        PersistentHashSet<Integer> full = PersistentHashSet.from(range(100));
+        PersistentHashSet<Integer> set = full;
+
+        for (int i = 0; i < 100; i++) {
+            set = set.minus(i);
+        }
+
+        assertThat(set).isSameAs(PersistentHashSet.empty());
+        assertThat(full).hasSize(100);
+    }
+
+    @Test
+    public void iterator_ManyElements_EachElementHasBeenReturnedOnce() {
+        PersistentHashSet<Integer> set = PersistentHashSet.from(range(5000));
+        Set<Integer> iterated = new HashSet<>();
+
+        for (Iterator<Integer> iterator = set.iterator(); iterator.hasNext(); ) {
+            assertThat(iterated.add(iterator.next())).isTrue();
+        }
+
+        assertThat(iterated).hasSize(5000);
+    }
+
+    @Test
+    public void asTransient_RandomUpdates_ResultMatchesHashSet() {
+        Random random = new Random(42);
+        PersistentHashSet<Integer> origin = PersistentHashSet.of(-1);
+        PersistentHashSet.Transient<Integer> set = origin.asTransient();
+        Set<Integer> expected = new HashSet<>(origin);
+        for (int i = 0; i < 20000; i++) {
+            int element = random.nextInt(3000);
+            if (random.nextInt(3) == 0) {
+                set.remove(element);
+                expected.remove(element);
+            } else {
+                set.add(element);
+                expected.add(element);
+            }
+            assertThat(set.size()).isEqualTo(expected.size());
+        }
+        set.remove(5);
+        expected.remove(5);
+
+        assertThat(set.contains(5)).isFalse();
+        assertThat(set.persistent()).isEqualTo(expected);
+        assertThat(origin).containsExactly(-1);
+    }
+
+    @Test
+    public void asTransient_AddAll_ElementsOfBothHaveBeenKept() {
+        PersistentHashSet<Integer> first = PersistentHashSet.from(range(10));
+
+        PersistentHashSet<Integer> union = first.asTransient().addAll(asList(5, 10, 11)).persistent();
+
+        assertThat(union).isEqualTo(new HashSet<>(range(12)));
+        assertThat(first).isEqualTo(new HashSet<>(range(10)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void asTransient_UsedAfterPersistent_ExceptionHasBeenThrown() {
+        PersistentHashSet.Transient<Integer> set = PersistentHashSet.<Integer>empty().asTransient();
+        set.persistent();
+
+        set.add(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void add_SetMethod_ExceptionHasBeenThrown() {
+        PersistentHashSet.<Integer>empty().add(1);
+    }
+
+    @Test
+    public void toPersistentSet_ParallelStream_DuplicatesHaveBeenRemoved() {
+        PersistentHashSet<Integer> set = range(10000).parallelStream().map(i -> i % 100).collect(toPersistentSet());
+
+        assertThat(set).hasSize(100).contains(0, 99);
+    }
+
+    @Test
+    public void mapToPersistentSet_ValidCollection_ElementsHaveBeenMapped() {
+        PersistentHashSet<Integer> set = mapToPersistentSet(range(10), i -> i % 3);
+
+        assertThat(set).containsOnly(0, 1, 2);
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(toList());
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.persistent.PersistentVector;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.dvelopp.functional.utils.CollectionUtils.mapToPersistentVector;
+import static com.dvelopp.functional.utils.persistent.PersistentVector.toPersistentVector;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void append_ManyElements_AllVersionsHaveKeptTheirElements() {
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            versions.add(vector);
+            vector = vector.append(i);
+        }
+        versions.add(vector);
+
+        for (int size = 0; size < versions.size(); size += 97) {
+            assertThat(versions.get(size)).isEqualTo(range(size));
+        }
+        assertThat(vector).isEqualTo(range(2000));
+    }
+
+    @Test
+    public void with_ElementsInTreeAndTail_OnlyNewVectorHasBeenChanged() {
+        PersistentVector<Integer> vector = PersistentVector.from(range(1100));
+
+        PersistentVector<Integer> updated = vector.with(5, -5).with(1090, -1090).with(1100, 1100);
+
+        assertThat(vector).isEqualTo(range(1100));
+        assertThat(updated.get(5)).isEqualTo(-5);
+        assertThat(updated.get(1090)).isEqualTo(-1090);
+        assertThat(updated.get(1100)).isEqualTo(1100);
+        assertThat(updated.size()).isEqualTo(1101);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void with_IndexGreaterThanSize_ExceptionHasBeenThrown() {
+        PersistentVector.of(1, 2).with(3, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_NegativeIndex_ExceptionHasBeenThrown() {
+        PersistentVector.of(1, 2).get(-1);
+    }
+
+    @Test
+    public void dropLast_AllElements_EachVersionHasBeenShortened() {
+        PersistentVector<Integer> vector = PersistentVector.from(range(1100));
+
+        for (int size = 1100; size > 0; size--) {
+            assertThat(vector.size()).isEqualTo(size);
+            assertThat(vector.get(size - 1)).isEqualTo(size - 1);
+            vector = vector.dropLast();
+        }
+
+        assertThat(vector).isEmpty();
+        assertThat(vector).isSameAs(PersistentVector.empty());
+    }
+
+    @Test
+    public void dropLast_ThenAppend_OriginalVectorHasNotBeenChanged() {
+        PersistentVector<Integer> vector = PersistentVector.from(range(1057));
+
+        PersistentVector<Integer> updated = vector.dropLast().dropLast().append(-1);
+
+        assertThat(vector).isEqualTo(range(1057));
+        assertThat(updated.size()).isEqualTo(1056);
+        assertThat(updated.get(1055)).isEqualTo(-1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void dropLast_EmptyVector_ExceptionHasBeenThrown() {
+        PersistentVector.empty().dropLast();
+    }
+
+    @Test
+    public void asTransient_RandomUpdates_ResultMatchesArrayList() {
+        Random random = new Random(42);
+        PersistentVector<Integer> origin = PersistentVector.from(range(100));
+        PersistentVector.Transient<Integer> vector = origin.asTransient();
+        List<Integer> expected = new ArrayList<>(range(100));
+        for (int i = 0; i < 5000; i++) {
+            if (random.nextBoolean()) {
+                vector.add(i);
+                expected.add(i);
+            } else {
+                int index = random.nextInt(expected.size());
+                vector.set(index, -i);
+                expected.set(index, -i);
+            }
+        }
+
+        assertThat(vector.persistent()).isEqualTo(expected);
+        assertThat(origin).isEqualTo(range(100));
+    }
+
+    @Test
+    public void asTransient_PersistentVectorUpdatedAfterwards_TransientHasNotChangedIt() {
+        PersistentVector.Transient<Integer> vector = PersistentVector.<Integer>empty().asTransient();
+        PersistentVector<Integer> first = vector.addAll(range(100)).persistent();
+        PersistentVector.Transient<Integer> second = first.asTransient();
+
+        second.set(0, -1).set(99, -1).add(100);
+
+        assertThat(first).isEqualTo(range(100));
+        assertThat(second.size()).isEqualTo(101);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void asTransient_UsedAfterPersistent_ExceptionHasBeenThrown() {
+        PersistentVector.Transient<Integer> vector = PersistentVector.<Integer>empty().asTransient();
+        vector.persistent();
+
+        vector.add(1);
+    }
+
+    @Test
+    public void of_NullElements_NullElementsHaveBeenKept() {
+        PersistentVector<String> vector = PersistentVector.of("a", null, "b");
+
+        assertThat(vector).containsExactly("a", null, "b");
+        assertThat(vector).isEqualTo(asList("a", null, "b"));
+        assertThat(vector.hashCode()).isEqualTo(asList("a", null, "b").hashCode());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void add_ListMethod_ExceptionHasBeenThrown() {
+        PersistentVector.of(1).add(2);
+    }
+
+    @Test
+    public void toPersistentVector_ParallelStream_EncounterOrderHasBeenKept() {
+        PersistentVector<Integer> vector = range(10000).parallelStream().collect(toPersistentVector());
+
+        assertThat(vector).isEqualTo(range(10000));
+    }
+
+    @Test
+    public void mapToPersistentVector_ValidCollection_ElementsHaveBeenMapped() {
+        PersistentVector<String> vector = mapToPersistentVector(range(40), String::valueOf);
+
+        assertThat(vector).hasSize(40);
+        assertThat(vector.get(0)).isEqualTo("0");
+        assertThat(vector.get(39)).isEqualTo("39");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void mapToPersistentVector_NullMapper_ExceptionHasBeenThrown() {
+        mapToPersistentVector(range(1), null);
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(toList());
+    }
+
+}
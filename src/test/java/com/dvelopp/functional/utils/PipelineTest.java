@@ -0,0 +1,155 @@
+package com.dvelopp.functional.utils;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PipelineTest {
+
+    @Test
+    public void toList_MapAndFilter_ElementsHaveBeenProcessedInOrder() {
+        List<String> result = Pipeline.from(asList(1, 2, 3, 4, 5)).filter(i -> i % 2 == 1).map(i -> "#" + i).toList();
+
+        assertThat(result).containsExactly("#1", "#3", "#5");
+    }
+
+    @Test
+    public void toList_NotRandomAccessSource_ElementsHaveBeenProcessedInOrder() {
+        List<Integer> result = Pipeline.from(new LinkedList<>(asList(3, 1, 2))).map(i -> i * 10).toList();
+
+        assertThat(result).containsExactly(30, 10, 20);
+    }
+
+    @Test
+    public void toList_ArraySource_ElementsHaveBeenProcessed() {
+        List<Integer> result = Pipeline.from("a", "bb", "ccc").map(String::length).toList();
+
+        assertThat(result).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void flatMap_NestedCollections_ElementsHaveBeenFlattened() {
+        List<List<Integer>> source = asList(asList(1, 2), null, emptyList(), asList(3));
+
+        List<Integer> result = Pipeline.from(source).<Integer>flatMap(list -> list).toList();
+
+        assertThat(result).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void limit_InfiniteLikeSource_SourceHasNotBeenReadAfterLimit() {
+        List<Integer> visited = new ArrayList<>();
+
+        List<Integer> result = Pipeline.from(asList(1, 2, 3, 4, 5)).map(i -> {
+            visited.add(i);
+            return i;
+        }).limit(2).toList();
+
+        assertThat(result).containsExactly(1, 2);
+        assertThat(visited).containsExactly(1, 2);
+    }
+
+    @Test
+    public void limit_AfterFlatMap_FlatMapHasBeenStopped() {
+        List<Integer> result = Pipeline.from(asList(asList(1, 2, 3), asList(4, 5))).<Integer>flatMap(list -> list)
+                .limit(4).toList();
+
+        assertThat(result).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    public void limit_BeforeFlatMapAndFilter_ElementsOfLastSourceElementHaveBeenProcessed() {
+        List<Integer> visited = new ArrayList<>();
+
+        List<Integer> result = Pipeline.from(asList(asList(1, 2), asList(3, 4), asList(5))).map(list -> {
+            visited.add(list.get(0));
+            return list;
+        }).limit(2).<Integer>flatMap(list -> list).filter(i -> i != 3).limit(5).toList();
+
+        assertThat(result).containsExactly(1, 2, 4);
+        assertThat(visited).containsExactly(1, 3);
+    }
+
+    @Test
+    public void limit_Zero_EmptyResultHasBeenReturned() {
+        assertThat(Pipeline.from(asList(1, 2)).limit(0).toList()).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void limit_NegativeMaxSize_IllegalArgumentExceptionHasBeenThrown() {
+        Pipeline.from(asList(1, 2)).limit(-1);
+    }
+
+    @Test
+    public void toArray_WithAndWithoutFilter_ArraysHaveExactSize() {
+        Pipeline<Integer> pipeline = Pipeline.from(asList(1, 2, 3, 4));
+
+        assertThat(pipeline.map(String::valueOf).toArray(String[]::new)).containsExactly("1", "2", "3", "4");
+        assertThat(pipeline.filter(i -> i > 2).toArray(Integer[]::new)).containsExactly(3, 4);
+    }
+
+    @Test
+    public void toArray_SourceHasGrownAfterPipelineHasBeenBuilt_AllElementsHaveBeenReturned() {
+        List<Integer> source = new ArrayList<>(asList(1, 2));
+        Pipeline<Integer> pipeline = Pipeline.from(source).map(i -> i * 2);
+        Pipeline<Integer> limited = pipeline.limit(3);
+
+        source.addAll(asList(3, 4));
+
+        assertThat(pipeline.toArray(Integer[]::new)).containsExactly(2, 4, 6, 8);
+        assertThat(limited.toArray(Integer[]::new)).containsExactly(2, 4, 6);
+        assertThat(pipeline.toList()).containsExactly(2, 4, 6, 8);
+        assertThat(pipeline.toSet()).containsOnly(2, 4, 6, 8);
+    }
+
+    @Test
+    public void toArray_SourceHasShrunkAfterPipelineHasBeenBuilt_ArrayHasExactSize() {
+        List<Integer> source = new ArrayList<>(asList(1, 2, 3));
+        Pipeline<Integer> pipeline = Pipeline.from(source);
+
+        source.remove(0);
+
+        assertThat(pipeline.toArray(Integer[]::new)).containsExactly(2, 3);
+    }
+
+    @Test
+    public void toSetAndToCollection_DuplicateElements_CollectionsHaveBeenFilled() {
+        Pipeline<Integer> pipeline = Pipeline.from(asList(1, 2, 2, 3)).map(i -> i % 3);
+
+        TreeSet<Integer> sortedSet = pipeline.toCollection(TreeSet::new);
+
+        assertThat(pipeline.toSet()).containsOnly(0, 1, 2);
+        assertThat(sortedSet).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void collect_CollectorWithFinisher_FinisherHasBeenApplied() {
+        String result = Pipeline.from(asList(1, 2, 3)).map(String::valueOf).collect(joining(","));
+
+        assertThat(result).isEqualTo("1,2,3");
+    }
+
+    @Test
+    public void forEach_PipelineExecutedTwice_SourceHasBeenReadAgain() {
+        List<Integer> source = new ArrayList<>(asList(1, 2));
+        Pipeline<Integer> pipeline = Pipeline.from(source).map(i -> i * 2);
+        List<Integer> result = new ArrayList<>();
+
+        pipeline.forEach(result::add);
+        source.add(3);
+        pipeline.forEach(result::add);
+
+        assertThat(result).containsExactly(2, 4, 2, 4, 6);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void map_NullMapper_NullPointerExceptionHasBeenThrown() {
+        Pipeline.from(asList(1, 2)).map(null);
+    }
+
+}
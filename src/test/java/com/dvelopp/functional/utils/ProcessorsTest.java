@@ -0,0 +1,356 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.flow.Flow;
+import com.dvelopp.functional.utils.flow.ForEachSubscriber;
+import com.dvelopp.functional.utils.flow.Processors;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class ProcessorsTest {
+
+    @Test
+    public void map_DownstreamRequests_OnlyRequestedItemsHaveBeenReadAndMapped() {
+        CountingIterable source = new CountingIterable(10);
+        Flow.Processor<Integer, String> processor = Processors.map(String::valueOf);
+        Processors.fromIterable(source).subscribe(processor);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+
+        assertThat(subscriber.items).containsExactly("0", "1", "2");
+        assertThat(source.read).isEqualTo(3);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).hasSize(10).endsWith("9");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void map_DemandBeforeUpstreamSubscription_DemandHasBeenForwarded() {
+        Flow.Processor<Integer, Integer> processor = Processors.map(i -> i * 2);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        Processors.fromIterable(asList(1, 2, 3)).subscribe(processor);
+
+        assertThat(subscriber.items).containsExactly(2, 4);
+    }
+
+    @Test
+    public void map_EmptyUpstreamCompletedBeforeDownstream_CompletionHasBeenDelivered() {
+        Flow.Processor<Integer, Integer> processor = Processors.map(i -> i);
+        Processors.fromIterable(new ArrayList<Integer>()).subscribe(processor);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        processor.subscribe(subscriber);
+
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void map_MapperFails_UpstreamHasBeenCancelledAndErrorHasBeenPublished() {
+        CountingIterable source = new CountingIterable(10);
+        IllegalStateException failure = new IllegalStateException();
+        Flow.Processor<Integer, Integer> processor = Processors.map(i -> {
+            if (i == 2) {
+                throw failure;
+            }
+            return i;
+        });
+        Processors.fromIterable(source).subscribe(processor);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).containsExactly(0, 1);
+        assertThat(subscriber.error).isSameAs(failure);
+        assertThat(source.read).isEqualTo(3);
+    }
+
+    @Test
+    public void map_NonPositiveRequest_IllegalArgumentExceptionHasBeenPublished() {
+        Flow.Processor<Integer, Integer> processor = Processors.map(i -> i);
+        Processors.fromIterable(asList(1, 2)).subscribe(processor);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void map_SecondSubscriber_IllegalStateExceptionHasBeenPublished() {
+        Flow.Processor<Integer, Integer> processor = Processors.map(i -> i);
+        processor.subscribe(new RecordingSubscriber<>());
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+
+        processor.subscribe(second);
+
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void groupingBy_ItemsInBatches_ResultHasBeenPublishedOnRequestAfterCompletion() {
+        CountingIterable source = new CountingIterable(1000);
+        DemandRecorder<Integer> recorder = new DemandRecorder<>(Processors.fromIterable(source));
+        Flow.Processor<Integer, Map<Integer, List<Integer>>> processor = Processors.groupingBy(i -> i % 2);
+        recorder.subscribe(processor);
+        RecordingSubscriber<Map<Integer, List<Integer>>> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+
+        assertThat(source.read).isEqualTo(1000);
+        assertThat(recorder.maxOutstanding).isEqualTo(Processors.DEFAULT_BATCH_SIZE);
+        assertThat(subscriber.items).isEmpty();
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.items.get(0).get(1)).hasSize(500).startsWith(1, 3, 5);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void collect_SmallBatchSize_OutstandingDemandHasBeenBounded() {
+        DemandRecorder<Integer> recorder = new DemandRecorder<>(Processors.fromIterable(new CountingIterable(100)));
+        Flow.Processor<Integer, List<Integer>> processor = Processors.collect(toList(), 4);
+        RecordingSubscriber<List<Integer>> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        recorder.subscribe(processor);
+
+        assertThat(recorder.maxOutstanding).isEqualTo(4);
+        assertThat(subscriber.items).containsExactly(IntStream.range(0, 100).boxed().collect(toList()));
+    }
+
+    @Test
+    public void mapToMap_DuplicateKeys_IllegalStateExceptionHasBeenPublished() {
+        Flow.Processor<String, Map<String, Integer>> processor = Processors.mapToMap(s -> s, String::length);
+        RecordingSubscriber<Map<String, Integer>> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+
+        Processors.fromIterable(asList("a", "b", "a")).subscribe(processor);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void mapToMap_MergeFunction_ValuesHaveBeenMerged() {
+        Flow.Processor<String, Map<String, Integer>> processor = Processors.mapToMap(s -> s, s -> 1, Integer::sum);
+        RecordingSubscriber<Map<String, Integer>> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Processors.fromIterable(asList("a", "b", "a")).subscribe(processor);
+
+        assertThat(subscriber.items.get(0)).containsOnly(entry("a", 2), entry("b", 1));
+    }
+
+    @Test
+    public void summaryStatistics_MappedItems_StatisticsHaveBeenPublished() {
+        Flow.Processor<String, IntSummaryStatistics> processor = Processors.summaryStatistics(String::length);
+        RecordingSubscriber<IntSummaryStatistics> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Processors.fromIterable(asList("a", "bb", "ccc")).subscribe(processor);
+
+        assertThat(subscriber.items.get(0).getSum()).isEqualTo(6);
+        assertThat(subscriber.items.get(0).getMax()).isEqualTo(3);
+    }
+
+    @Test
+    public void summaryStatisticsByDouble_ImplicitlyTypedLambda_StatisticsHaveBeenPublished() {
+        Flow.Processor<String, DoubleSummaryStatistics> processor =
+                Processors.summaryStatisticsByDouble(s -> s.length() / 2.0);
+        RecordingSubscriber<DoubleSummaryStatistics> subscriber = new RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Processors.fromIterable(asList("a", "bb", "ccc")).subscribe(processor);
+
+        assertThat(subscriber.items.get(0).getSum()).isEqualTo(3.0);
+    }
+
+    @Test
+    public void forEach_MappedFlow_ActionHasBeenPerformedAndCompletionHasBeenReported() throws Exception {
+        List<String> seen = new ArrayList<>();
+        Flow.Processor<Integer, String> processor = Processors.map(String::valueOf);
+        ForEachSubscriber<String> subscriber = Processors.forEach(seen::add, 2);
+        processor.subscribe(subscriber);
+
+        Processors.fromIterable(asList(1, 2, 3, 4, 5)).subscribe(processor);
+
+        subscriber.getCompletion().get();
+        assertThat(seen).containsExactly("1", "2", "3", "4", "5");
+    }
+
+    @Test
+    public void forEach_ActionFails_CompletionHasFailedAndUpstreamHasBeenCancelled() {
+        CountingIterable source = new CountingIterable(100);
+        ForEachSubscriber<Integer> subscriber = Processors.forEach(i -> {
+            if (i == 5) {
+                throw new IllegalStateException();
+            }
+        });
+
+        Processors.fromIterable(source).subscribe(subscriber);
+
+        assertThat(source.read).isEqualTo(6);
+        assertThat(failure(subscriber.getCompletion())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void forEach_CompletionCancelled_UpstreamHasBeenCancelled() {
+        List<Integer> seen = new ArrayList<>();
+        ForEachSubscriber<Integer> subscriber = Processors.forEach(seen::add, 1);
+        subscriber.getCompletion().cancel(false);
+
+        Processors.fromIterable(new CountingIterable(100)).subscribe(subscriber);
+
+        assertThat(seen).isEmpty();
+    }
+
+    private static Throwable failure(CompletableFuture<?> future) {
+        try {
+            future.get();
+            throw new AssertionError("Failure expected");
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Publisher that records the maximal number of items requested from the wrapped publisher and not delivered yet.
+     */
+    private static final class DemandRecorder<T> implements Flow.Publisher<T> {
+
+        private final Flow.Publisher<T> publisher;
+        private long outstanding;
+        private long maxOutstanding;
+
+        private DemandRecorder(Flow.Publisher<T> publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            publisher.subscribe(new Flow.Subscriber<T>() {
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscriber.onSubscribe(new Flow.Subscription() {
+
+                        @Override
+                        public void request(long n) {
+                            outstanding += n;
+                            maxOutstanding = Math.max(maxOutstanding, outstanding);
+                            subscription.request(n);
+                        }
+
+                        @Override
+                        public void cancel() {
+                            subscription.cancel();
+                        }
+                    });
+                }
+
+                @Override
+                public void onNext(T item) {
+                    outstanding--;
+                    subscriber.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    subscriber.onComplete();
+                }
+            });
+        }
+    }
+
+    /**
+     * Iterable of the numbers from zero that counts the numbers read.
+     */
+    private static final class CountingIterable implements Iterable<Integer> {
+
+        private final int size;
+        private int read;
+
+        private CountingIterable(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<Integer>() {
+
+                @Override
+                public boolean hasNext() {
+                    return read < size;
+                }
+
+                @Override
+                public Integer next() {
+                    return read++;
+                }
+            };
+        }
+    }
+
+}
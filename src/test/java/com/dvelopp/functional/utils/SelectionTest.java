@@ -0,0 +1,158 @@
+package com.dvelopp.functional.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SelectionTest {
+
+    private static final List<Integer> NUMBERS = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+
+    @Test
+    public void of_List_MatchingPositionsSelected() {
+        Selection selection = Selection.of(NUMBERS, i -> i % 3 == 0);
+
+        assertThat(selection.size()).isEqualTo(200);
+        assertThat(selection.cardinality()).isEqualTo(67);
+        assertThat(selection.isSelected(0)).isTrue();
+        assertThat(selection.isSelected(1)).isFalse();
+        assertThat(selection.isSelected(198)).isTrue();
+    }
+
+    @Test
+    public void of_NotRandomAccessCollection_SameAsList() {
+        Set<Integer> set = new LinkedHashSet<>(NUMBERS);
+
+        assertThat(Selection.of(set, i -> i % 7 == 0)).isEqualTo(Selection.of(NUMBERS, i -> i % 7 == 0));
+    }
+
+    @Test
+    public void and_TwoSelections_Intersection() {
+        Selection even = Selection.of(NUMBERS, i -> i % 2 == 0);
+        Selection divisibleByThree = Selection.of(NUMBERS, i -> i % 3 == 0);
+
+        assertThat(even.and(divisibleByThree)).isEqualTo(Selection.of(NUMBERS, i -> i % 6 == 0));
+    }
+
+    @Test
+    public void or_TwoSelections_Union() {
+        Selection small = Selection.of(NUMBERS, i -> i < 10);
+        Selection large = Selection.of(NUMBERS, i -> i >= 190);
+
+        assertThat(small.or(large).cardinality()).isEqualTo(20);
+    }
+
+    @Test
+    public void andNot_TwoSelections_Difference() {
+        Selection even = Selection.of(NUMBERS, i -> i % 2 == 0);
+        Selection small = Selection.of(NUMBERS, i -> i < 100);
+
+        assertThat(even.andNot(small)).isEqualTo(Selection.of(NUMBERS, i -> i % 2 == 0 && i >= 100));
+    }
+
+    @Test
+    public void not_SizeNotMultipleOfWord_OnlyPositionsWithinSizeSelected() {
+        Selection selection = Selection.of(NUMBERS, i -> i % 2 == 0).not();
+
+        assertThat(selection).isEqualTo(Selection.of(NUMBERS, i -> i % 2 != 0));
+        assertThat(selection.cardinality()).isEqualTo(100);
+        assertThat(Selection.all(70).cardinality()).isEqualTo(70);
+        assertThat(Selection.none(70).not()).isEqualTo(Selection.all(70));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void and_DifferentSizes_IllegalArgumentExceptionHasBeenThrown() {
+        Selection.all(10).and(Selection.all(11));
+    }
+
+    @Test
+    public void mapToList_Selection_OnlySelectedElementsMapped() {
+        AtomicInteger calls = new AtomicInteger();
+        Selection selection = Selection.of(NUMBERS, i -> i > 195);
+
+        List<String> result = selection.mapToList(NUMBERS, i -> {
+            calls.incrementAndGet();
+            return String.valueOf(i);
+        });
+
+        assertThat(result).containsExactly("196", "197", "198", "199");
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void select_NotRandomAccessCollection_SelectedElementsInOrder() {
+        Set<String> set = new LinkedHashSet<>(asList("a", "bb", "c", "dd"));
+
+        assertThat(Selection.of(set, s -> s.length() == 2).select(set)).containsExactly("bb", "dd");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void select_DifferentSize_IllegalArgumentExceptionHasBeenThrown() {
+        Selection.all(3).select(new ArrayList<>(asList(1, 2)));
+    }
+
+    @Test
+    public void ofInts_Column_SelectedValues() {
+        int[] column = {5, -1, 7, 0, 9};
+
+        Selection selection = Selection.ofInts(column, value -> value > 0);
+
+        assertThat(selection.select(column)).containsExactly(5, 7, 9);
+        assertThat(selection.indices()).containsExactly(0, 2, 4);
+    }
+
+    @Test
+    public void ofLongsAndOfDoubles_Columns_Combined() {
+        long[] ids = {10, 20, 30, 40};
+        double[] prices = {1.5, 20.0, 3.0, 50.0};
+
+        Selection selection = Selection.ofLongs(ids, id -> id > 15).and(Selection.ofDoubles(prices, p -> p < 30));
+
+        assertThat(selection.select(ids)).containsExactly(20, 30);
+        assertThat(selection.select(prices)).containsExactly(20.0, 3.0);
+    }
+
+    @Test
+    public void ofInts_ExtractedColumn_SameAsPredicate() {
+        assertThat(Selection.ofInts(NUMBERS, Integer::intValue, i -> i % 5 == 0))
+                .isEqualTo(Selection.of(NUMBERS, i -> i % 5 == 0));
+    }
+
+    @Test
+    public void toBitSet_Selection_SameBits() {
+        Selection selection = Selection.of(NUMBERS, i -> i % 9 == 0);
+
+        BitSet bits = selection.toBitSet();
+
+        assertThat(bits.cardinality()).isEqualTo(selection.cardinality());
+        assertThat(Selection.of(bits, NUMBERS.size())).isEqualTo(selection);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_BitSetLongerThanSize_IllegalArgumentExceptionHasBeenThrown() {
+        BitSet bits = new BitSet();
+        bits.set(10);
+
+        Selection.of(bits, 5);
+    }
+
+    @Test
+    public void forEachIndex_Selection_AscendingIndices() {
+        List<Integer> indices = new ArrayList<>();
+
+        Selection.of(NUMBERS, i -> i == 3 || i == 64 || i == 130).forEachIndex(indices::add);
+
+        assertThat(indices).containsExactly(3, 64, 130);
+    }
+
+}
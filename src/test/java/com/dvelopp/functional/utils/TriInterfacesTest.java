@@ -0,0 +1,102 @@
+package com.dvelopp.functional.utils;
+
+import com.dvelopp.functional.utils.interfaces.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TriInterfacesTest {
+
+    private final IntTriOperator clamp = (value, low, high) -> Math.max(low, Math.min(high, value));
+    private final IntTriPredicate between = (value, low, high) -> value >= low && value <= high;
+
+    @Test
+    public void intTriOperator_AndThen_ResultHasBeenTransformed() {
+        assertThat(clamp.applyAsInt(15, 0, 10)).isEqualTo(10);
+        assertThat(clamp.andThen(x -> -x).applyAsInt(5, 0, 10)).isEqualTo(-5);
+    }
+
+    @Test
+    public void intTriOperator_Compose_OperandsHaveBeenTransformed() {
+        assertThat(clamp.compose(x -> x * 2).applyAsInt(15, 0, 10)).isEqualTo(20);
+    }
+
+    @Test
+    public void longAndDoubleTriOperators_FusedMultiplyAdd_ResultsHaveBeenComputed() {
+        LongTriOperator longFma = (a, b, c) -> a * b + c;
+        DoubleTriOperator doubleFma = (a, b, c) -> a * b + c;
+
+        assertThat(longFma.andThen(x -> x + 1).applyAsLong(2, 3, 4)).isEqualTo(11);
+        assertThat(doubleFma.compose(x -> x / 2).applyAsDouble(2, 4, 6)).isEqualTo(5.0);
+    }
+
+    @Test
+    public void intTriPredicate_AndOrNegate_CombinedResultsHaveBeenReturned() {
+        IntTriPredicate lowIsZero = (value, low, high) -> low == 0;
+
+        assertThat(between.test(5, 0, 10)).isTrue();
+        assertThat(between.negate().test(5, 0, 10)).isFalse();
+        assertThat(between.and(lowIsZero).test(5, 1, 10)).isFalse();
+        assertThat(between.or(lowIsZero).test(20, 0, 10)).isTrue();
+    }
+
+    @Test
+    public void longAndDoubleTriPredicates_AndOrNegate_CombinedResultsHaveBeenReturned() {
+        LongTriPredicate longBetween = (value, low, high) -> value >= low && value <= high;
+        DoubleTriPredicate doubleBetween = (value, low, high) -> value >= low && value <= high;
+
+        assertThat(longBetween.and((v, l, h) -> v % 2 == 0).test(4, 0, 10)).isTrue();
+        assertThat(doubleBetween.or((v, l, h) -> v < 0).negate().test(20, 0, 10)).isTrue();
+    }
+
+    @Test
+    public void toPrimitiveTriFunctions_AndThen_ResultsHaveBeenTransformed() {
+        ToIntTriFunction<String, String, String> intLength = (a, b, c) -> a.length() + b.length() + c.length();
+        ToLongTriFunction<String, String, String> longLength = (a, b, c) -> a.length() + b.length() + c.length();
+        ToDoubleTriFunction<String, String, String> doubleLength = (a, b, c) -> a.length() + b.length() + c.length();
+
+        assertThat(intLength.andThen(x -> x * 2).applyAsInt("a", "bb", "ccc")).isEqualTo(12);
+        assertThat(longLength.andThen(x -> x - 1).applyAsLong("a", "bb", "ccc")).isEqualTo(5);
+        assertThat(doubleLength.andThen(x -> x / 4).applyAsDouble("a", "bb", "ccc")).isEqualTo(1.5);
+    }
+
+    @Test
+    public void objIntIntConsumer_AndThen_BothActionsHaveBeenPerformed() {
+        List<String> log = new ArrayList<>();
+        ObjIntIntConsumer<List<String>> first = (list, from, to) -> list.add("first " + from + ".." + to);
+        ObjLongLongConsumer<List<String>> second = (list, from, to) -> list.add("second " + from + ".." + to);
+        ObjDoubleDoubleConsumer<List<String>> third = (list, x, y) -> list.add("third " + x + "," + y);
+
+        first.andThen((list, from, to) -> list.add("after")).accept(log, 1, 2);
+        second.andThen(second).accept(log, 3, 4);
+        third.andThen(third).accept(log, 0.5, 1.5);
+
+        assertThat(log).containsExactly("first 1..2", "after", "second 3..4", "second 3..4", "third 0.5,1.5",
+                "third 0.5,1.5");
+    }
+
+    @Test
+    public void genericTriInterfaces_Combinators_CombinedResultsHaveBeenReturned() {
+        TriFunction<Integer, Integer, Integer, Integer> sum = (a, b, c) -> a + b + c;
+        TriPredicate<Integer, Integer, Integer> allPositive = (a, b, c) -> a > 0 && b > 0 && c > 0;
+        List<Integer> log = new ArrayList<>();
+        TriConsumer<Integer, Integer, Integer> record = (a, b, c) -> log.add(a + b + c);
+
+        record.andThen((a, b, c) -> log.add(a * b * c)).accept(1, 2, 3);
+
+        assertThat(sum.andThen(String::valueOf).apply(1, 2, 3)).isEqualTo("6");
+        assertThat(allPositive.and((a, b, c) -> a < b).test(1, 2, 3)).isTrue();
+        assertThat(allPositive.or((a, b, c) -> a == 0).test(0, -1, -2)).isTrue();
+        assertThat(allPositive.negate().test(1, 2, 3)).isFalse();
+        assertThat(log).containsExactly(6, 6);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void intTriOperator_NullAfter_NullPointerExceptionHasBeenThrown() {
+        clamp.andThen(null);
+    }
+
+}
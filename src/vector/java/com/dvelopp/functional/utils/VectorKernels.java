@@ -0,0 +1,328 @@
+package com.dvelopp.functional.utils;
+
+import jdk.incubator.vector.*;
+
+import static jdk.incubator.vector.VectorOperators.*;
+
+/**
+ * Kernels written with the Vector API of the {@code jdk.incubator.vector} module, which the JIT compiler translates
+ * into the SIMD instructions of the preferred vector size of the platform. Each loop processes whole vectors up to the
+ * loop bound of the species and the remaining elements one by one. The sums of {@code int} values widen each vector
+ * into two vectors of {@code long} lanes, so they don't overflow.
+ * <p>
+ * This class is compiled apart from the main classes, with JDK 17 or newer, and {@link NumericKernels} loads it
+ * reflectively, only if the {@code jdk.incubator.vector} module is available.
+ *
+ * @since 1.3
+ */
+final class VectorKernels implements ArrayKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public long sum(int[] values) {
+        LongVector sum = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, values, i);
+            sum = sum.add(vector.convertShape(I2L, LONGS, 0)).add(vector.convertShape(I2L, LONGS, 1));
+        }
+        long result = sum.reduceLanes(ADD);
+        for (; i < values.length; i++) {
+            result += values[i];
+        }
+        return result;
+    }
+
+    @Override
+    public int min(int[] values) {
+        IntVector min = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            min = min.min(IntVector.fromArray(INTS, values, i));
+        }
+        int result = min.reduceLanes(MIN);
+        for (; i < values.length; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int max(int[] values) {
+        IntVector max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            max = max.max(IntVector.fromArray(INTS, values, i));
+        }
+        int result = max.reduceLanes(MAX);
+        for (; i < values.length; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int count(int[] values, int from, int to) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, values, i);
+            count += vector.compare(GE, from).and(vector.compare(LT, to)).trueCount();
+        }
+        for (; i < values.length; i++) {
+            count += values[i] >= from & values[i] < to ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public void add(int[] left, int[] right, int[] result) {
+        int i = 0;
+        for (int bound = INTS.loopBound(result.length); i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, left, i).add(IntVector.fromArray(INTS, right, i)).intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = left[i] + right[i];
+        }
+    }
+
+    @Override
+    public void subtract(int[] left, int[] right, int[] result) {
+        int i = 0;
+        for (int bound = INTS.loopBound(result.length); i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, left, i).sub(IntVector.fromArray(INTS, right, i)).intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = left[i] - right[i];
+        }
+    }
+
+    @Override
+    public void multiply(int[] left, int[] right, int[] result) {
+        int i = 0;
+        for (int bound = INTS.loopBound(result.length); i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, left, i).mul(IntVector.fromArray(INTS, right, i)).intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = left[i] * right[i];
+        }
+    }
+
+    @Override
+    public void scale(int[] values, int factor, int[] result) {
+        int i = 0;
+        for (int bound = INTS.loopBound(result.length); i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, values, i).mul(factor).intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = values[i] * factor;
+        }
+    }
+
+    @Override
+    public long sum(long[] values) {
+        LongVector sum = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = LONGS.loopBound(values.length); i < bound; i += LONGS.length()) {
+            sum = sum.add(LongVector.fromArray(LONGS, values, i));
+        }
+        long result = sum.reduceLanes(ADD);
+        for (; i < values.length; i++) {
+            result += values[i];
+        }
+        return result;
+    }
+
+    @Override
+    public long min(long[] values) {
+        LongVector min = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = 0;
+        for (int bound = LONGS.loopBound(values.length); i < bound; i += LONGS.length()) {
+            min = min.min(LongVector.fromArray(LONGS, values, i));
+        }
+        long result = min.reduceLanes(MIN);
+        for (; i < values.length; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public long max(long[] values) {
+        LongVector max = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = 0;
+        for (int bound = LONGS.loopBound(values.length); i < bound; i += LONGS.length()) {
+            max = max.max(LongVector.fromArray(LONGS, values, i));
+        }
+        long result = max.reduceLanes(MAX);
+        for (; i < values.length; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int count(long[] values, long from, long to) {
+        int count = 0;
+        int i = 0;
+        for (int bound = LONGS.loopBound(values.length); i < bound; i += LONGS.length()) {
+            LongVector vector = LongVector.fromArray(LONGS, values, i);
+            count += vector.compare(GE, from).and(vector.compare(LT, to)).trueCount();
+        }
+        for (; i < values.length; i++) {
+            count += values[i] >= from & values[i] < to ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public void add(long[] left, long[] right, long[] result) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(result.length); i < bound; i += LONGS.length()) {
+            LongVector.fromArray(LONGS, left, i).add(LongVector.fromArray(LONGS, right, i)).intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = left[i] + right[i];
+        }
+    }
+
+    @Override
+    public void subtract(long[] left, long[] right, long[] result) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(result.length); i < bound; i += LONGS.length()) {
+            LongVector.fromArray(LONGS, left, i).sub(LongVector.fromArray(LONGS, right, i)).intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = left[i] - right[i];
+        }
+    }
+
+    @Override
+    public void multiply(long[] left, long[] right, long[] result) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(result.length); i < bound; i += LONGS.length()) {
+            LongVector.fromArray(LONGS, left, i).mul(LongVector.fromArray(LONGS, right, i)).intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = left[i] * right[i];
+        }
+    }
+
+    @Override
+    public void scale(long[] values, long factor, long[] result) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(result.length); i < bound; i += LONGS.length()) {
+            LongVector.fromArray(LONGS, values, i).mul(factor).intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = values[i] * factor;
+        }
+    }
+
+    @Override
+    public double sum(double[] values) {
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double result = sum.reduceLanes(ADD);
+        for (; i < values.length; i++) {
+            result += values[i];
+        }
+        return result;
+    }
+
+    @Override
+    public double min(double[] values) {
+        DoubleVector min = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            min = min.min(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double result = min.reduceLanes(MIN);
+        for (; i < values.length; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public double max(double[] values) {
+        DoubleVector max = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            max = max.max(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double result = max.reduceLanes(MAX);
+        for (; i < values.length; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int count(double[] values, double from, double to) {
+        int count = 0;
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+            count += vector.compare(GE, from).and(vector.compare(LT, to)).trueCount();
+        }
+        for (; i < values.length; i++) {
+            count += values[i] >= from & values[i] < to ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public void add(double[] left, double[] right, double[] result) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(result.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, left, i).add(DoubleVector.fromArray(DOUBLES, right, i))
+                    .intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = left[i] + right[i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] left, double[] right, double[] result) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(result.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, left, i).sub(DoubleVector.fromArray(DOUBLES, right, i))
+                    .intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = left[i] - right[i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] left, double[] right, double[] result) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(result.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, left, i).mul(DoubleVector.fromArray(DOUBLES, right, i))
+                    .intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = left[i] * right[i];
+        }
+    }
+
+    @Override
+    public void scale(double[] values, double factor, double[] result) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(result.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, values, i).mul(factor).intoArray(result, i);
+        }
+        for (; i < result.length; i++) {
+            result[i] = values[i] * factor;
+        }
+    }
+
+}